@@ -7,6 +7,7 @@ import java.util.*;
 import com.naz.taskmanager.model.*;
 import com.naz.taskmanager.service.*;
 import com.naz.taskmanager.ui.menu.*;
+import com.naz.taskmanager.util.DateCodec;
 
 /**
  * @brief Main application class that implements the Singleton pattern.
@@ -23,6 +24,9 @@ public class Taskmanager {
 	/** @brief Singleton instance of the Taskmanager */
     private static Taskmanager instance;
     
+    /** @brief Most search results listed at once */
+    private static final int SEARCH_LIMIT = 50;
+    
     /** @brief Scanner for user input */
     private final Scanner in;
     
@@ -32,9 +36,6 @@ public class Taskmanager {
     /** @brief Currently logged-in user */
     private User currentUser;
     
-    /** @brief Date format for displaying dates */
-    private final SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
-    
     // Services
     /** @brief Service for task operations */
     private TaskService taskService;
@@ -155,6 +156,9 @@ public class Taskmanager {
                     break;
                 case 3:
                     out.println("Exit Program");
+                    if (userService.getLoginMetrics().getAttempts() > 0) {
+                        out.println(userService.getLoginMetrics());
+                    }
                     return;
                 default:
                     out.println("Invalid choice. Please try again.");
@@ -260,8 +264,15 @@ public class Taskmanager {
     
     public void initializeServices() {
         if (currentUser != null) {
+            if (reminderService != null) {
+                reminderService.stopScheduler();
+            }
+            if (taskService != null) {
+                taskService.close();
+            }
             taskService = new TaskService(currentUser.getUsername());
             reminderService = new ReminderService(currentUser.getUsername());
+            taskService.setReminderService(reminderService);
             
             // Observer pattern: Add observer for reminders
             reminderService.addObserver((reminder, taskId) -> {
@@ -269,12 +280,13 @@ public class Taskmanager {
                 if (task != null) {
                     showNotification("Reminder: " + task.getName(), 
                         "Due: " + (task.getDeadline() != null ? 
-                            dateFormat.format(task.getDeadline()) : "No deadline"));
+                            DateCodec.formatUi(task.getDeadline()) : "No deadline"));
                 }
             });
             
-            // Check for reminders
+            // Fire reminders that are already due, then watch for upcoming ones
             checkReminders();
+            reminderService.startScheduler();
         }
     }
     
@@ -327,6 +339,13 @@ public class Taskmanager {
      */
     
     private void logout() {
+        if (reminderService != null) {
+            reminderService.stopScheduler();
+        }
+        if (taskService != null) {
+            // Write any queued task changes before the service is dropped
+            taskService.close();
+        }
         currentUser = null;
         taskService = null;
         reminderService = null;
@@ -377,6 +396,10 @@ public class Taskmanager {
                     deleteTasks();
                     break;
                 case 5:
+                    searchTasks();
+                    enterToContinue();
+                    break;
+                case 6:
                     return;
                 default:
                     clearScreen();
@@ -399,7 +422,8 @@ public class Taskmanager {
         out.println("2. View Tasks");
         out.println("3. Categorize Tasks");
         out.println("4. Delete Tasks");
-        out.println("5. Exit");
+        out.println("5. Search Tasks");
+        out.println("6. Exit");
         out.println("========================================");
         out.print("Please enter your choice: ");
     }
@@ -505,7 +529,7 @@ public class Taskmanager {
             out.println((i + 1) + ". " + task.getName() + " [" + task.getCategory().getName() + "]");
             out.println("   Description: " + task.getDescription());
             if (task.getDeadline() != null) {
-                out.println("   Deadline: " + dateFormat.format(task.getDeadline()));
+                out.println("   Deadline: " + DateCodec.formatUi(task.getDeadline()));
             }
             out.println("   Priority: " + task.getPriority());
             out.println("   Completed: " + (task.isCompleted() ? "Yes" : "No"));
@@ -513,6 +537,41 @@ public class Taskmanager {
         }
     }
     
+    /**
+     * Search tasks by text.
+     * Each word matches the start of a word in the task name or description,
+     * and the best matches are listed first.
+     */
+    public void searchTasks() {
+        clearScreen();
+        out.println("========================================");
+        out.println("              SEARCH TASKS             ");
+        out.println("========================================");
+        
+        out.print("Enter search words: ");
+        String query = in.nextLine().trim();
+        List<TaskmanagerItem> tasks = taskService.searchTasks(query, SEARCH_LIMIT);
+        
+        if (tasks.isEmpty()) {
+            out.println("No matching tasks found.");
+            return;
+        }
+        
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskmanagerItem task = tasks.get(i);
+            out.println((i + 1) + ". " + task.getName() + " [" + task.getCategory().getName() + "]");
+            out.println("   Description: " + task.getDescription());
+            if (task.getDeadline() != null) {
+                out.println("   Deadline: " + DateCodec.formatUi(task.getDeadline()));
+            }
+            out.println("   Priority: " + task.getPriority());
+            out.println("----------------------------------------");
+        }
+        if (tasks.size() == SEARCH_LIMIT) {
+            out.println("Showing the best " + SEARCH_LIMIT + " matches. Refine the search to see others.");
+        }
+    }
+    
     /**
      * Categorize tasks
      */
@@ -693,14 +752,14 @@ public class Taskmanager {
     public void assignDeadlineToTask(TaskmanagerItem task) {
         out.println("Current task: " + task.getName());
         if (task.getDeadline() != null) {
-            out.println("Current deadline: " + dateFormat.format(task.getDeadline()));
+            out.println("Current deadline: " + DateCodec.formatUi(task.getDeadline()));
         }
         
         out.println("Enter new deadline (format: dd/MM/yyyy HH:mm): ");
         String deadlineStr = in.nextLine().trim();
         
         try {
-            Date deadline = dateFormat.parse(deadlineStr);
+            Date deadline = DateCodec.parseUi(deadlineStr);
             task.setDeadline(deadline);
             
             // Update task
@@ -746,7 +805,7 @@ public class Taskmanager {
         for (int i = 0; i < tasksWithDeadlines.size(); i++) {
             TaskmanagerItem task = tasksWithDeadlines.get(i);
             out.println((i + 1) + ". " + task.getName() + " [" + task.getCategory().getName() + "]");
-            out.println("   Deadline: " + dateFormat.format(task.getDeadline()));
+            out.println("   Deadline: " + DateCodec.formatUi(task.getDeadline()));
             out.println("   Priority: " + task.getPriority());
             out.println("   Completed: " + (task.isCompleted() ? "Yes" : "No"));
             out.println("----------------------------------------");
@@ -795,7 +854,7 @@ public class Taskmanager {
             for (int i = 0; i < tasksInRange.size(); i++) {
                 TaskmanagerItem task = tasksInRange.get(i);
                 out.println((i + 1) + ". " + task.getName() + " [" + task.getCategory().getName() + "]");
-                out.println("   Deadline: " + dateFormat.format(task.getDeadline()));
+                out.println("   Deadline: " + DateCodec.formatUi(task.getDeadline()));
                 out.println("   Priority: " + task.getPriority());
                 out.println("----------------------------------------");
             }
@@ -884,7 +943,7 @@ public class Taskmanager {
         for (int i = 0; i < tasksWithDeadlines.size(); i++) {
             TaskmanagerItem task = tasksWithDeadlines.get(i);
             out.println((i + 1) + ". " + task.getName());
-            out.println("   Deadline: " + dateFormat.format(task.getDeadline()));
+            out.println("   Deadline: " + DateCodec.formatUi(task.getDeadline()));
             out.println("----------------------------------------");
         }
         
@@ -929,7 +988,7 @@ public class Taskmanager {
         }
         
         out.println("Task: " + task.getName());
-        out.println("Deadline: " + dateFormat.format(deadline));
+        out.println("Deadline: " + DateCodec.formatUi(deadline));
         
         out.println("\nHow many minutes before the deadline do you want to be reminded?");
         out.println("1. 15 minutes");
@@ -958,19 +1017,19 @@ public class Taskmanager {
                 out.print("Enter custom minutes before deadline: ");
                 minutesBefore = getInput();
                 if (minutesBefore <= 0) {
-                    out.println("Invalid input. Setting to 30 minutes by default.");
-                    minutesBefore = 30;
+                    minutesBefore = reminderService.getDefaultReminderMinutes();
+                    out.println("Invalid input. Setting to " + minutesBefore + " minutes by default.");
                 }
                 break;
             default:
-                out.println("Invalid choice. Setting to 30 minutes by default.");
-                minutesBefore = 30;
+                minutesBefore = reminderService.getDefaultReminderMinutes();
+                out.println("Invalid choice. Setting to " + minutesBefore + " minutes by default.");
         }
         
         // Create reminder using service
         try {
             Reminder reminder = reminderService.createReminderBeforeDeadline(task, minutesBefore);
-            out.println("Reminder set successfully for " + dateFormat.format(reminder.getReminderTime()));
+            out.println("Reminder set successfully for " + DateCodec.formatUi(reminder.getReminderTime()));
         } catch (Exception e) {
             out.println("Error setting reminder: " + e.getMessage());
         }
@@ -1076,7 +1135,7 @@ public class Taskmanager {
                 found = true;
                 out.println((i + 1) + ". " + task.getName() + " [" + task.getCategory().getName() + "]");
                 if (task.getDeadline() != null) {
-                    out.println("   Deadline: " + dateFormat.format(task.getDeadline()));
+                    out.println("   Deadline: " + DateCodec.formatUi(task.getDeadline()));
                 }
                 out.println("   Completed: " + (task.isCompleted() ? "Yes" : "No"));
                 out.println("----------------------------------------");
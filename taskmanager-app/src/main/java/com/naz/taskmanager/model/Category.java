@@ -2,7 +2,10 @@ package com.naz.taskmanager.model;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a category for Taskmanager items.
@@ -17,7 +20,9 @@ public class Category implements Serializable {
 
     // Static alanlar
     private static int nextId = 1;
-    private static final List<Category> allCategories = new ArrayList<>();
+    // Kategoriler ID'ye ve küçük harfli isme göre, eklenme sırasıyla
+    private static final Map<Integer, Category> categoriesById = new LinkedHashMap<>();
+    private static final Map<String, Category> categoriesByName = new HashMap<>();
 
     private int id;
     private String name;
@@ -119,13 +124,22 @@ public class Category implements Serializable {
         return id;
     }
 
+    /**
+     * Sets the ID of the category, used for categories stored in the database
+     *
+     * @param id Category ID
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
     /**
      * Returns a list of all categories
      * 
-     * @return List of all categories
+     * @return List of all categories, in the order they were added
      */
-    public static List<Category> getAllCategories() {
-        return allCategories;
+    public static synchronized List<Category> getAllCategories() {
+        return new ArrayList<>(categoriesById.values());
     }
 
     /**
@@ -133,13 +147,13 @@ public class Category implements Serializable {
      * 
      * @param category Category to add
      */
-    public static void addCategory(Category category) {
-        for (Category existing : allCategories) {
-            if (existing.getName().equalsIgnoreCase(category.getName())) {
-                return;
-            }
+    public static synchronized void addCategory(Category category) {
+        String key = category.getName().toLowerCase();
+        if (categoriesByName.containsKey(key)) {
+            return;
         }
-        allCategories.add(category);
+        categoriesById.put(category.getId(), category);
+        categoriesByName.put(key, category);
     }
 
     /**
@@ -148,15 +162,14 @@ public class Category implements Serializable {
      * @param categoryId ID of the category to delete
      * @return true if the category was deleted, false otherwise
      */
-    public static boolean deleteCategory(int categoryId) {
-        for (int i = 0; i < allCategories.size(); i++) {
-            if (allCategories.get(i).getId() == categoryId) {
-                if (categoryId <= 5) return false;
-                allCategories.remove(i);
-                return true;
-            }
+    public static synchronized boolean deleteCategory(int categoryId) {
+        Category category = categoriesById.get(categoryId);
+        if (category == null || categoryId <= 5) {
+            return false;
         }
-        return false;
+        categoriesById.remove(categoryId);
+        categoriesByName.remove(category.getName().toLowerCase());
+        return true;
     }
 
     /**
@@ -165,11 +178,8 @@ public class Category implements Serializable {
      * @param categoryId ID of the category to find
      * @return Category with the specified ID, or null if not found
      */
-    public static Category findCategoryById(int categoryId) {
-        for (Category category : allCategories) {
-            if (category.getId() == categoryId) return category;
-        }
-        return null;
+    public static synchronized Category findCategoryById(int categoryId) {
+        return categoriesById.get(categoryId);
     }
 
     /**
@@ -178,11 +188,8 @@ public class Category implements Serializable {
      * @param name Name of the category to find
      * @return Category with the specified name, or null if not found
      */
-    public static Category findCategoryByName(String name) {
-        for (Category category : allCategories) {
-            if (category.getName().equalsIgnoreCase(name)) return category;
-        }
-        return null;
+    public static synchronized Category findCategoryByName(String name) {
+        return name != null ? categoriesByName.get(name.toLowerCase()) : null;
     }
 
     /**
@@ -194,17 +201,18 @@ public class Category implements Serializable {
      * @param color New color for the category
      * @return true if the category was updated, false otherwise
      */
-    public static boolean updateCategory(int categoryId, String name, String description, String color) {
-        Category category = findCategoryById(categoryId);
+    public static synchronized boolean updateCategory(int categoryId, String name, String description, String color) {
+        Category category = categoriesById.get(categoryId);
         if (category != null) {
-            for (Category existing : allCategories) {
-                if (existing.getId() != categoryId && existing.getName().equalsIgnoreCase(name)) {
-                    return false;
-                }
+            Category existing = categoriesByName.get(name.toLowerCase());
+            if (existing != null && existing != category) {
+                return false;
             }
+            categoriesByName.remove(category.getName().toLowerCase());
             category.setName(name);
             category.setDescription(description);
             category.setColor(color);
+            categoriesByName.put(name.toLowerCase(), category);
             return true;
         }
         return false;
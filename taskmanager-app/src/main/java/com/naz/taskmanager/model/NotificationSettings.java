@@ -22,6 +22,23 @@ public class NotificationSettings {
     /** Default reminder time in minutes before deadline */
     private int defaultReminderMinutes = 30;
 
+    /**
+     * Constructor for default notification settings
+     */
+    public NotificationSettings() {
+    }
+
+    /**
+     * Constructor copying another settings object
+     * 
+     * @param other Settings to copy
+     */
+    public NotificationSettings(NotificationSettings other) {
+        this.emailEnabled = other.emailEnabled;
+        this.appNotificationsEnabled = other.appNotificationsEnabled;
+        this.defaultReminderMinutes = other.defaultReminderMinutes;
+    }
+
     /**
      * Checks if email notifications are enabled
      * 
@@ -75,4 +92,31 @@ public class NotificationSettings {
     public void setDefaultReminderMinutes(int defaultReminderMinutes) {
         this.defaultReminderMinutes = defaultReminderMinutes;
     }
+
+    /**
+     * Compares these settings with another object for equality.
+     * Settings are equal if every preference has the same value.
+     * 
+     * @param obj Object to compare with
+     * @return true if the settings are equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        NotificationSettings other = (NotificationSettings) obj;
+        return emailEnabled == other.emailEnabled
+            && appNotificationsEnabled == other.appNotificationsEnabled
+            && defaultReminderMinutes == other.defaultReminderMinutes;
+    }
+
+    /**
+     * Returns a hash code value for the settings.
+     * 
+     * @return Hash code value
+     */
+    @Override
+    public int hashCode() {
+        return ((emailEnabled ? 1 : 0) * 31 + (appNotificationsEnabled ? 1 : 0)) * 31 + defaultReminderMinutes;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,465 @@
+package com.naz.taskmanager.repository;
+
+import com.naz.taskmanager.model.Category;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @brief Repository for Category entities using SQLite database.
+ *
+ * @details Categories are shared by every user; tasks refer to them by ID.
+ * A category that is still used by a task is never deleted, since the
+ * foreign key on Tasks would delete the tasks along with it.
+ *
+ * The repository also interns categories: one shared Category instance per
+ * lower-cased name, with its database ID. Task rows, CategoryService and
+ * the interning lookups below all return these instances, so a category
+ * used by many tasks is allocated once and found by name in O(1). Saves,
+ * updates and deletes made through this class keep the instances in step
+ * with the table.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+public class CategoryRepository implements Repository<Category> {
+    /** @brief Database connection pool access */
+    private final DatabaseConnection dbConnection;
+
+    /** @brief Category columns */
+    private static final String CATEGORY_SELECT = "SELECT id, name, description, color FROM Categories ";
+
+    /** @brief Statement inserting a category row */
+    private static final String INSERT_SQL = "INSERT INTO Categories (name, description, color) VALUES (?, ?, ?)";
+
+    /** @brief Statement updating a category row */
+    private static final String UPDATE_SQL = "UPDATE Categories SET name = ?, description = ?, color = ? WHERE id = ?";
+
+    /** @brief Deletes a category unless a task still refers to it */
+    private static final String DELETE_UNUSED_SQL =
+        "DELETE FROM Categories WHERE id = ? AND NOT EXISTS (SELECT 1 FROM Tasks WHERE category_id = ?)";
+
+    /** @brief Shared category instances by lower-cased name */
+    private static final Map<String, Category> INTERNED_BY_NAME = new HashMap<>();
+
+    /** @brief The same instances by database ID */
+    private static final Map<Integer, Category> INTERNED_BY_ID = new HashMap<>();
+
+    /** @brief Lower-cased name each instance is filed under, by ID, so renames can re-key it */
+    private static final Map<Integer, String> INTERNED_KEYS = new HashMap<>();
+
+    /**
+     * @brief Constructor for CategoryRepository
+     */
+    public CategoryRepository() {
+        this.dbConnection = DatabaseConnection.getInstance(System.out);
+    }
+
+    /**
+     * @brief Saves a new category to the database
+     *
+     * @param category Category to save, its ID is set to the generated one
+     */
+    @Override
+    public void save(Category category) {
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            bind(stmt, category);
+            stmt.executeUpdate();
+
+            try (ResultSet rs = stmt.getGeneratedKeys()) {
+                if (rs.next()) {
+                    category.setId(rs.getInt(1));
+                    register(category);
+                }
+            }
+            System.out.println("Category saved successfully: " + category.getName());
+        } catch (SQLException e) {
+            System.out.println("Error saving category: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+    }
+
+    /**
+     * @brief Saves several new categories in one transaction
+     *
+     * @param categories Categories to save
+     * @return Generated IDs in the same order as categories, empty if the batch failed
+     */
+    @Override
+    public List<String> saveAll(Collection<Category> categories) {
+        List<String> ids = new ArrayList<>();
+        if (categories == null || categories.isEmpty()) {
+            return ids;
+        }
+
+        Connection connection = dbConnection.getConnection();
+        boolean autoCommit = true;
+        try {
+            autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement stmt = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Category category : categories) {
+                    bind(stmt, category);
+                    stmt.executeUpdate();
+                    try (ResultSet rs = stmt.getGeneratedKeys()) {
+                        ids.add(rs.next() ? String.valueOf(rs.getInt(1)) : null);
+                    }
+                }
+            }
+            connection.commit();
+
+            int i = 0;
+            for (Category category : categories) {
+                category.setId(Integer.parseInt(ids.get(i++)));
+                register(category);
+            }
+            System.out.println("Categories saved successfully: " + ids.size());
+        } catch (SQLException | RuntimeException e) {
+            dbConnection.rollbackQuietly(connection);
+            ids.clear();
+            System.out.println("Error saving categories: " + e.getMessage());
+        } finally {
+            dbConnection.restoreAutoCommit(connection, autoCommit);
+            dbConnection.releaseConnection();
+        }
+
+        return ids;
+    }
+
+    /**
+     * @brief Gets a category by ID
+     *
+     * @param id Category ID
+     * @return Category, or null if not found
+     */
+    @Override
+    public Category getById(String id) {
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(CATEGORY_SELECT + "WHERE id = ?")) {
+            stmt.setInt(1, Integer.parseInt(id));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapCategory(rs);
+                }
+            }
+        } catch (SQLException | NumberFormatException e) {
+            System.out.println("Error getting category by ID: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+
+        return null;
+    }
+
+    /**
+     * @brief Gets a category by name, ignoring case
+     *
+     * @param name Category name
+     * @return Category, or null if not found
+     */
+    public Category getByName(String name) {
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(
+                CATEGORY_SELECT + "WHERE name = ? COLLATE NOCASE ORDER BY id LIMIT 1")) {
+            stmt.setString(1, name);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapCategory(rs);
+                }
+            }
+        } catch (SQLException e) {
+            System.out.println("Error getting category by name: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+
+        return null;
+    }
+
+    /**
+     * @brief Gets all categories in ID order
+     *
+     * @return List of all categories
+     */
+    @Override
+    public List<Category> getAll() {
+        List<Category> categories = new ArrayList<>();
+
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(CATEGORY_SELECT + "ORDER BY id");
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                categories.add(mapCategory(rs));
+            }
+        } catch (SQLException e) {
+            System.out.println("Error getting all categories: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+
+        return categories;
+    }
+
+    /**
+     * @brief Updates a category's name, description and color
+     *
+     * @param category Category to update
+     */
+    @Override
+    public void update(Category category) {
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(UPDATE_SQL)) {
+            bind(stmt, category);
+            stmt.setInt(4, category.getId());
+
+            if (stmt.executeUpdate() > 0) {
+                register(category);
+                System.out.println("Category updated successfully: " + category.getName());
+            } else {
+                System.out.println("No category found with ID: " + category.getId());
+            }
+        } catch (SQLException e) {
+            System.out.println("Error updating category: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+    }
+
+    /**
+     * @brief Deletes a category that no task uses
+     *
+     * @param id ID of the category to delete
+     */
+    @Override
+    public void delete(String id) {
+        deleteIfUnused(id);
+    }
+
+    /**
+     * @brief Deletes a category unless a task still uses it
+     *
+     * @param id ID of the category to delete
+     * @return true if the category was deleted
+     */
+    public boolean deleteIfUnused(String id) {
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(DELETE_UNUSED_SQL)) {
+            int categoryId = Integer.parseInt(id);
+            stmt.setInt(1, categoryId);
+            stmt.setInt(2, categoryId);
+
+            if (stmt.executeUpdate() > 0) {
+                evict(categoryId);
+                System.out.println("Category deleted successfully: ID " + id);
+                return true;
+            }
+            System.out.println("Category not found or still used by tasks: ID " + id);
+        } catch (SQLException | NumberFormatException e) {
+            System.out.println("Error deleting category: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+
+        return false;
+    }
+
+    /**
+     * @brief Gets the shared instance of a category
+     *
+     * @param name Category name, any case
+     * @return Shared category, or null if the table has no such category
+     */
+    public Category getInterned(String name) {
+        if (name == null) {
+            return null;
+        }
+        synchronized (INTERNED_BY_NAME) {
+            Category interned = INTERNED_BY_NAME.get(name.toLowerCase());
+            if (interned != null) {
+                return interned;
+            }
+        }
+        Category stored = getByName(name);
+        return stored != null ? register(stored) : null;
+    }
+
+    /**
+     * @brief Gets the shared instance of a category, creating the category if needed
+     *
+     * @param name Category name, any case
+     * @return Shared category, or null if it could not be created
+     */
+    public Category intern(String name) {
+        Category interned = getInterned(name);
+        if (interned == null && name != null) {
+            Category created = new Category(name);
+            created.setId(-1);
+            save(created);
+            // A concurrent insert of the same name fails on the unique constraint
+            interned = created.getId() >= 0 ? created : getInterned(name);
+        }
+        return interned;
+    }
+
+    /**
+     * @brief Gets all categories as their shared instances
+     *
+     * @return Shared categories in ID order
+     */
+    public List<Category> getAllInterned() {
+        List<Category> categories = new ArrayList<>();
+        for (Category stored : getAll()) {
+            categories.add(register(stored));
+        }
+        return categories;
+    }
+
+    /**
+     * @brief Gets the shared instance for a task row's category
+     *
+     * @details The row carries only the category ID and name, so a category
+     * seen for the first time gets the default description and color until
+     * its full row is read.
+     *
+     * @param id Category ID
+     * @param name Category name
+     * @return Shared category
+     */
+    static Category internRow(int id, String name) {
+        Category interned;
+        synchronized (INTERNED_BY_NAME) {
+            interned = INTERNED_BY_ID.get(id);
+            if (interned != null && interned.getName().equals(name)) {
+                return interned;
+            }
+        }
+        Category category = new Category(name);
+        category.setId(id);
+        if (interned != null) {
+            // Renamed elsewhere; keep the description and color already known
+            category.setDescription(interned.getDescription());
+            category.setColor(interned.getColor());
+        }
+        return register(category);
+    }
+
+    /**
+     * @brief Gets the ID of an interned category without querying the table
+     *
+     * @param name Category name, any case
+     * @return Category ID, or null if the name has not been interned
+     */
+    static Integer getInternedId(String name) {
+        synchronized (INTERNED_BY_NAME) {
+            Category interned = INTERNED_BY_NAME.get(name.toLowerCase());
+            return interned != null ? interned.getId() : null;
+        }
+    }
+
+    /**
+     * @brief Files a stored category as the shared instance for its ID and name
+     *
+     * @details An instance already shared for the ID takes the values of the
+     * given category, so every holder sees a rename or a new color. An
+     * instance filed under the same name with another ID belongs to a
+     * deleted row and is replaced.
+     *
+     * @param category Category with its database ID
+     * @return Shared instance
+     */
+    private static Category register(Category category) {
+        String key = category.getName().toLowerCase();
+        synchronized (INTERNED_BY_NAME) {
+            Category interned = INTERNED_BY_ID.get(category.getId());
+            if (interned == null) {
+                interned = category;
+            } else if (interned != category) {
+                interned.setName(category.getName());
+                interned.setDescription(category.getDescription());
+                interned.setColor(category.getColor());
+            }
+
+            String oldKey = INTERNED_KEYS.put(category.getId(), key);
+            if (oldKey != null && !oldKey.equals(key)) {
+                INTERNED_BY_NAME.remove(oldKey);
+            }
+            Category displaced = INTERNED_BY_NAME.put(key, interned);
+            if (displaced != null && displaced.getId() != category.getId()) {
+                INTERNED_BY_ID.remove(displaced.getId());
+                INTERNED_KEYS.remove(displaced.getId());
+            }
+            INTERNED_BY_ID.put(category.getId(), interned);
+            return interned;
+        }
+    }
+
+    /**
+     * @brief Drops the shared instance of a deleted category
+     *
+     * @param id ID of the deleted category
+     */
+    private static void evict(int id) {
+        synchronized (INTERNED_BY_NAME) {
+            INTERNED_BY_ID.remove(id);
+            String key = INTERNED_KEYS.remove(id);
+            if (key != null) {
+                INTERNED_BY_NAME.remove(key);
+            }
+        }
+    }
+
+    /**
+     * @brief Drops every shared instance
+     *
+     * @details Called when the database is closed or initialized, as the
+     * interned IDs belong to the database that was open until then.
+     */
+    static void clearInterned() {
+        synchronized (INTERNED_BY_NAME) {
+            INTERNED_BY_NAME.clear();
+            INTERNED_BY_ID.clear();
+            INTERNED_KEYS.clear();
+        }
+    }
+
+    /**
+     * @brief Binds name, description and color to the first three parameters
+     *
+     * @param stmt Insert or update statement
+     * @param category Category to bind
+     * @throws SQLException if a database error occurs
+     */
+    private void bind(PreparedStatement stmt, Category category) throws SQLException {
+        stmt.setString(1, category.getName());
+        stmt.setString(2, category.getDescription());
+        stmt.setString(3, category.getColor());
+    }
+
+    /**
+     * @brief Maps a result set row to a Category
+     *
+     * @param rs Result set positioned on a category row
+     * @return Category with its database ID
+     * @throws SQLException if a database error occurs
+     */
+    private Category mapCategory(ResultSet rs) throws SQLException {
+        // Categories created by tasks have only a name
+        Category category = new Category(rs.getString("name"));
+        if (rs.getString("description") != null) {
+            category.setDescription(rs.getString("description"));
+        }
+        if (rs.getString("color") != null) {
+            category.setColor(rs.getString("color"));
+        }
+        category.setId(rs.getInt("id"));
+        return category;
+    }
+}
@@ -0,0 +1,337 @@
+package com.naz.taskmanager.repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bounded pool of JDBC connections.
+ * Idle connections are kept in LIFO order so the most recently used (and
+ * therefore warmest) connection is handed out first. Idle connections are
+ * validated before they are borrowed and evicted once they have been idle
+ * longer than the configured timeout, never going below the minimum size.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+class ConnectionPool {
+    /**
+     * Factory used by the pool to open new physical connections.
+     */
+    interface ConnectionFactory {
+        /**
+         * Opens a new connection
+         *
+         * @return New connection
+         * @throws SQLException if the connection cannot be opened
+         */
+        Connection create() throws SQLException;
+    }
+
+    /** Idle connection together with the time it was returned */
+    private static final class IdleConnection {
+        private final Connection connection;
+        private final long idleSince;
+
+        private IdleConnection(Connection connection, long idleSince) {
+            this.connection = connection;
+            this.idleSince = idleSince;
+        }
+    }
+
+    /** Seconds to wait for a connection to answer a validation check */
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    /** Factory for new connections */
+    private final ConnectionFactory factory;
+
+    /** Number of connections kept open even when idle */
+    private final int minIdle;
+
+    /** Maximum number of open connections */
+    private final int maxSize;
+
+    /** Maximum time to wait for a free connection */
+    private final long acquireTimeoutMillis;
+
+    /** Time after which an idle connection may be closed */
+    private final long idleTimeoutMillis;
+
+    /** Idle connections, most recently returned first */
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+
+    /** Every open connection owned by this pool, borrowed or idle */
+    private final Set<Connection> open = new HashSet<>();
+
+    /** Connections being opened right now, counted against maxSize */
+    private int pending = 0;
+
+    /** Flag indicating the pool has been shut down */
+    private boolean closed = false;
+
+    /**
+     * Constructor for ConnectionPool
+     *
+     * @param factory Factory for new connections
+     * @param minIdle Number of connections kept open even when idle
+     * @param maxSize Maximum number of open connections
+     * @param acquireTimeoutMillis Maximum time to wait for a free connection
+     * @param idleTimeoutMillis Time after which an idle connection may be closed
+     */
+    ConnectionPool(ConnectionFactory factory, int minIdle, int maxSize,
+                   long acquireTimeoutMillis, long idleTimeoutMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1");
+        }
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.minIdle = Math.max(0, Math.min(minIdle, maxSize));
+        this.acquireTimeoutMillis = Math.max(0, acquireTimeoutMillis);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * Borrows a connection, opening a new one if the pool is below its
+     * maximum size, or waiting up to the acquisition timeout otherwise.
+     *
+     * @return Open connection
+     * @throws SQLException if no connection could be obtained in time
+     */
+    Connection borrow() throws SQLException {
+        long deadline = System.currentTimeMillis() + acquireTimeoutMillis;
+
+        while (true) {
+            Connection candidate = null;
+            boolean openNew = false;
+
+            synchronized (this) {
+                while (true) {
+                    if (closed) {
+                        throw new SQLException("Connection pool is closed");
+                    }
+                    evictIdle();
+
+                    IdleConnection entry = idle.pollFirst();
+                    if (entry != null) {
+                        candidate = entry.connection;
+                        break;
+                    }
+                    if (open.size() + pending < maxSize) {
+                        pending++;
+                        openNew = true;
+                        break;
+                    }
+
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        throw new SQLException("Timed out after " + acquireTimeoutMillis
+                                + " ms waiting for a database connection");
+                    }
+                    try {
+                        wait(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a database connection", e);
+                    }
+                }
+            }
+
+            if (openNew) {
+                return openConnection();
+            }
+
+            // Validate outside the lock so a slow check does not stall other borrowers
+            if (isUsable(candidate)) {
+                return candidate;
+            }
+            discard(candidate);
+        }
+    }
+
+    /**
+     * Opens connections until minIdle are open, so the first borrowers do
+     * not pay for opening them.
+     *
+     * @throws SQLException if a connection cannot be opened
+     */
+    void prefill() throws SQLException {
+        while (true) {
+            synchronized (this) {
+                if (closed || open.size() + pending >= minIdle) {
+                    return;
+                }
+                pending++;
+            }
+            release(openConnection());
+        }
+    }
+
+    /**
+     * Returns a borrowed connection to the pool.
+     * Broken connections, and any connection returned after shutdown, are closed.
+     *
+     * @param connection Connection to return
+     */
+    void release(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+
+        boolean reusable;
+        try {
+            reusable = !connection.isClosed();
+            if (reusable && !connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            reusable = false;
+        }
+
+        synchronized (this) {
+            if (reusable && !closed && open.contains(connection)) {
+                idle.addFirst(new IdleConnection(connection, System.currentTimeMillis()));
+                notifyAll();
+                return;
+            }
+        }
+        discard(connection);
+    }
+
+    /**
+     * Closes every connection owned by the pool, including borrowed ones.
+     * The pool cannot be used after it has been closed.
+     */
+    void close() {
+        List<Connection> toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = new ArrayList<>(open);
+            open.clear();
+            idle.clear();
+            notifyAll();
+        }
+        for (Connection connection : toClose) {
+            closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Gets the number of open connections
+     *
+     * @return Number of open connections, borrowed or idle
+     */
+    synchronized int getOpenCount() {
+        return open.size();
+    }
+
+    /**
+     * Gets the number of idle connections
+     *
+     * @return Number of connections waiting in the pool
+     */
+    synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Opens a new physical connection for a slot reserved by borrow().
+     *
+     * @return New connection
+     * @throws SQLException if the connection cannot be opened
+     */
+    private Connection openConnection() throws SQLException {
+        Connection connection = null;
+        try {
+            connection = factory.create();
+            if (connection == null) {
+                throw new SQLException("Connection factory returned no connection");
+            }
+        } finally {
+            synchronized (this) {
+                pending--;
+                if (connection != null && !closed) {
+                    open.add(connection);
+                }
+                notifyAll();
+            }
+        }
+
+        synchronized (this) {
+            if (!closed) {
+                return connection;
+            }
+        }
+        closeQuietly(connection);
+        throw new SQLException("Connection pool is closed");
+    }
+
+    /**
+     * Closes idle connections that exceeded the idle timeout while keeping
+     * at least minIdle connections open. Must be called holding the lock.
+     */
+    private void evictIdle() {
+        if (idleTimeoutMillis <= 0) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+
+        // Oldest entries sit at the tail of the deque
+        Iterator<IdleConnection> it = idle.descendingIterator();
+        while (it.hasNext() && open.size() > minIdle) {
+            IdleConnection entry = it.next();
+            if (entry.idleSince > cutoff) {
+                break;
+            }
+            it.remove();
+            open.remove(entry.connection);
+            closeQuietly(entry.connection);
+        }
+    }
+
+    /**
+     * Checks that an idle connection still works before it is handed out
+     *
+     * @param connection Connection to check
+     * @return true if the connection can be used
+     */
+    private boolean isUsable(Connection connection) {
+        try {
+            return !connection.isClosed() && connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Removes a connection from the pool and closes it
+     *
+     * @param connection Connection to discard
+     */
+    private void discard(Connection connection) {
+        synchronized (this) {
+            open.remove(connection);
+            notifyAll();
+        }
+        closeQuietly(connection);
+    }
+
+    /**
+     * Closes a connection, ignoring errors
+     *
+     * @param connection Connection to close
+     */
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Connection is being thrown away anyway
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.naz.taskmanager.repository;
 
+import config.AppConfig;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
 import java.io.PrintStream;
 import java.io.File;
@@ -10,7 +12,10 @@ import java.io.File;
 /**
  * Singleton class for database connection management.
  * Handles SQLite database connectivity, initialization, and schema creation.
- * Implements the Singleton design pattern to ensure a single connection instance.
+ * Implements the Singleton design pattern to ensure a single pool instance.
+ * Connections are handed out from a bounded pool; a thread that calls
+ * getConnection() keeps the same connection until it has called
+ * releaseConnection() as many times, so nested repository calls share it.
  * 
  * @author TaskManager Team
  * @version 1.0
@@ -19,17 +24,29 @@ public class DatabaseConnection {
     /** Singleton instance */
     private static DatabaseConnection instance;
     
-    /** Database connection */
-    private Connection connection = null;
+    /** Pool of open connections, created on first use */
+    private ConnectionPool pool = null;
     
-    /** Database URL for SQLite */
-    private static final String DB_URL = "jdbc:sqlite:data/taskmanager.db";
+    /** Connection currently leased by each thread */
+    private final ThreadLocal<Lease> leases = new ThreadLocal<>();
     
     /** PrintStream for output messages */
     private final PrintStream out;
     
-    /** Flag indicating if the database has been initialized */
-    private boolean initialized = false;
+    /**
+     * Connection borrowed by a thread, with the number of unreleased
+     * getConnection() calls made on it.
+     */
+    private static final class Lease {
+        private final ConnectionPool pool;
+        private final Connection connection;
+        private int holds = 1;
+        
+        private Lease(ConnectionPool pool, Connection connection) {
+            this.pool = pool;
+            this.connection = connection;
+        }
+    }
 
     /**
      * Private constructor for Singleton pattern.
@@ -55,95 +72,296 @@ public class DatabaseConnection {
     }
 
     /**
-     * Gets the active database connection.
-     * Opens a new connection if needed.
+     * Gets a database connection for the calling thread.
+     * Borrows one from the pool unless the thread already holds one.
+     * Every call must be matched by a call to releaseConnection(). If the
+     * held connection was closed, it is replaced and the outer holds carry
+     * over to the replacement.
      * 
      * @return Active database connection
+     * @throws RuntimeException if no connection could be obtained, for
+     * example when the pool stays exhausted past its acquisition timeout
      */
-    public synchronized Connection getConnection() {
+    public Connection getConnection() {
+        Lease lease = leases.get();
         try {
-            if (connection == null || connection.isClosed()) {
-                openConnection();
+            if (lease != null && !lease.connection.isClosed()) {
+                lease.holds++;
+                return lease.connection;
+            }
+            
+            int outerHolds = 0;
+            if (lease != null) {
+                // Callers further up still hold the closed connection and will release it
+                outerHolds = lease.holds;
+                leases.remove();
+                lease.pool.release(lease.connection);
             }
+            ConnectionPool current = getPool();
+            Connection connection = current.borrow();
+            Lease replacement = new Lease(current, connection);
+            replacement.holds += outerHolds;
+            leases.set(replacement);
             return connection;
         } catch (SQLException e) {
-            out.println("Error checking connection state: " + e.getMessage());
-            return null;
+            leases.remove();
+            out.println("Error getting database connection: " + e.getMessage());
+            throw new RuntimeException("Error getting database connection", e);
         }
     }
     
+    /**
+     * Gets the connection pool, creating it from the application configuration if needed.
+     * 
+     * @return Connection pool
+     */
+    private synchronized ConnectionPool getPool() {
+        if (pool == null) {
+            AppConfig config = AppConfig.getInstance();
+            pool = new ConnectionPool(
+                this::openConnection,
+                config.getDbPoolMinIdle(),
+                config.getDbPoolMaxSize(),
+                config.getDbPoolAcquireTimeoutMillis(),
+                config.getDbPoolIdleTimeoutMillis()
+            );
+            try {
+                pool.prefill();
+            } catch (SQLException e) {
+                // Connections are opened on demand instead
+                out.println("Error opening idle database connections: " + e.getMessage());
+            }
+        }
+        return pool;
+    }
+    
     /**
      * Opens a new database connection.
      * Creates the data directory if it doesn't exist.
+     * 
+     * @return New database connection
+     * @throws SQLException if the connection cannot be opened
      */
-    private void openConnection() {
-        File dbFile = new File("data/taskmanager.db");
+    private Connection openConnection() throws SQLException {
+        File dbFile = new File(AppConfig.getInstance().getDatabasePath());
         out.println("Database file full path: " + dbFile.getAbsolutePath());
         try {
             // Load SQLite driver
             Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            out.println("SQLite JDBC driver not found: " + e.getMessage());
+            throw new SQLException("SQLite JDBC driver not found", e);
+        }
+        
+        // Create data directory if it doesn't exist
+        File dbDir = dbFile.getAbsoluteFile().getParentFile();
+        if (dbDir != null && !dbDir.exists()) {
+            boolean created = dbDir.mkdirs();
+            System.out.println("Created data directory: " + created);
+        }
+        
+        // Open connection
+        Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath());
+        
+        try {
+            applyPerformanceProfile(connection);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        
+        out.println("Database connection established");
+        return StatementCache.wrap(connection, AppConfig.getInstance().getDbStatementCacheSize());
+    }
+    
+    /**
+     * Applies the configured SQLite pragmas to a new connection.
+     * Foreign keys are a per-connection setting in SQLite, so they are
+     * enabled here for every connection the pool opens. WAL journaling lets
+     * readers proceed while a write is in progress; the remaining pragmas
+     * trade a little durability and memory for speed.
+     * 
+     * @param connection New database connection
+     * @throws SQLException if a pragma cannot be applied
+     */
+    private void applyPerformanceProfile(Connection connection) throws SQLException {
+        AppConfig config = AppConfig.getInstance();
+        try (Statement stmt = connection.createStatement()) {
+            // Applied first so later pragmas never fail on a briefly locked file
+            stmt.execute("PRAGMA busy_timeout = " + Math.max(0, config.getDbBusyTimeoutMillis()));
             
-            // Create data directory if it doesn't exist
-            File dbDir = new File("data");
-            if (!dbDir.exists()) {
-                boolean created = dbDir.mkdirs();
-                System.out.println("Created data directory: " + created);
-            }
-            
-            // Open connection
-            connection = DriverManager.getConnection(DB_URL);
+            // Required by every ON DELETE CASCADE in the schema
+            stmt.execute("PRAGMA foreign_keys = ON");
             
-            // Enable foreign keys if not initialized yet
-            if (!initialized) {
-                try (Statement stmt = connection.createStatement()) {
-                    stmt.execute("PRAGMA foreign_keys = ON");
-                }
-                initialized = true;
+            if (!config.isDbPerformanceProfileEnabled()) {
+                return;
             }
             
-            out.println("Database connection established");
+            stmt.execute("PRAGMA journal_mode = " + pragmaKeyword(config.getDbJournalMode(), "WAL"));
+            stmt.execute("PRAGMA synchronous = " + pragmaKeyword(config.getDbSynchronous(), "NORMAL"));
+            // A negative cache_size is interpreted by SQLite as KiB rather than pages
+            stmt.execute("PRAGMA cache_size = -" + Math.max(0, config.getDbCacheSizeKb()));
+            stmt.execute("PRAGMA mmap_size = " + Math.max(0L, config.getDbMmapSizeBytes()));
+            stmt.execute("PRAGMA temp_store = " + pragmaKeyword(config.getDbTempStore(), "MEMORY"));
+        }
+    }
+    
+    /**
+     * Validates a configured pragma keyword before it is placed in SQL
+     * 
+     * @param value Configured value
+     * @param defaultValue Value used if the configured one is not a plain keyword
+     * @return Safe pragma keyword
+     */
+    private String pragmaKeyword(String value, String defaultValue) {
+        if (value != null && value.trim().matches("[A-Za-z]+")) {
+            return value.trim().toUpperCase();
+        }
+        out.println("Ignoring invalid database setting '" + value + "', using " + defaultValue);
+        return defaultValue;
+    }
+    
+    /**
+     * Closes every pooled database connection.
+     * A new pool is created the next time a connection is requested.
+     * Categories and settings cached by the repositories are dropped, as
+     * the next connection may open another database.
+     */
+    public void closeConnection() {
+        ConnectionPool closing;
+        synchronized (this) {
+            closing = pool;
+            pool = null;
+        }
+        leases.remove();
+        clearRepositoryCaches();
+        
+        if (closing != null) {
+            closing.close();
+            out.println("Database connection closed");
+        }
+    }
+    
+    /**
+     * Releases the connection obtained by the calling thread.
+     * The connection goes back to the pool once every getConnection() call
+     * made by this thread has been released.
+     */
+    public void releaseConnection() {
+        Lease lease = leases.get();
+        if (lease == null) {
+            return;
+        }
+        
+        lease.holds--;
+        if (lease.holds <= 0) {
+            leases.remove();
+            lease.pool.release(lease.connection);
+        }
+    }
+
+    /**
+     * Rolls back the current transaction of a connection, reporting but not
+     * propagating errors, for use in repository error paths.
+     * 
+     * @param connection Connection with an open transaction
+     */
+    public void rollbackQuietly(Connection connection) {
+        try {
+            connection.rollback();
         } catch (SQLException e) {
-            out.println("Error connecting to database: " + e.getMessage());
-            e.printStackTrace();
-        } catch (ClassNotFoundException e) {
-            out.println("SQLite JDBC driver not found: " + e.getMessage());
-            e.printStackTrace();
+            out.println("Error rolling back transaction: " + e.getMessage());
         }
     }
     
     /**
-     * Closes the database connection.
+     * Starts a unit of work on a connection. With auto-commit on, a
+     * transaction is started; inside a caller's transaction a savepoint is
+     * set instead, so the work can be undone without ending that transaction.
+     * 
+     * @param connection Connection to work on
+     * @param autoCommit Auto-commit mode of the connection on entry
+     * @return Savepoint inside a caller's transaction, null if a transaction was started
+     * @throws SQLException if the transaction or savepoint cannot be started
      */
-    public synchronized void closeConnection() {
-        if (connection != null) {
-            try {
-                if (!connection.isClosed()) {
-                    connection.close();
-                    out.println("Database connection closed");
-                }
-                connection = null;
-            } catch (SQLException e) {
-                out.println("Error closing database connection: " + e.getMessage());
-            }
+    public Savepoint beginWork(Connection connection, boolean autoCommit) throws SQLException {
+        if (autoCommit) {
+            connection.setAutoCommit(false);
+            return null;
         }
+        return connection.setSavepoint();
     }
     
     /**
-     * Releases the connection back to the pool.
-     * In a real connection pool, this would return the connection to the pool.
+     * Completes a unit of work started by beginWork. A transaction started
+     * there is committed; a caller's transaction is left for the caller to commit.
+     * 
+     * @param connection Connection the work ran on
+     * @param savepoint Savepoint returned by beginWork
+     * @throws SQLException if the commit fails
      */
-    public synchronized void releaseConnection() {
-        // In a real connection pool, you would return the connection to the pool here
-        // For now, we'll do nothing and let the connection remain open
+    public void commitWork(Connection connection, Savepoint savepoint) throws SQLException {
+        if (savepoint == null) {
+            connection.commit();
+        } else {
+            connection.releaseSavepoint(savepoint);
+        }
+    }
+    
+    /**
+     * Undoes a unit of work started by beginWork, reporting but not
+     * propagating errors. Only the work itself is undone when it ran
+     * inside a caller's transaction.
+     * 
+     * @param connection Connection the work ran on
+     * @param savepoint Savepoint returned by beginWork, null to roll back the whole transaction
+     */
+    public void rollbackWorkQuietly(Connection connection, Savepoint savepoint) {
+        if (savepoint == null) {
+            rollbackQuietly(connection);
+            return;
+        }
+        try {
+            connection.rollback(savepoint);
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            out.println("Error rolling back to savepoint: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Restores the auto-commit mode of a connection after a transaction.
+     * 
+     * @param connection Connection to restore
+     * @param autoCommit Auto-commit mode to restore
+     */
+    public void restoreAutoCommit(Connection connection, boolean autoCommit) {
+        try {
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException e) {
+            out.println("Error restoring auto-commit: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drops the rows cached across repository instances, which belong to the
+     * database open until now
+     */
+    private void clearRepositoryCaches() {
+        CategoryRepository.clearInterned();
+        SettingsRepository.clearCache();
     }
 
     /**
      * Initializes the database tables.
-     * Creates all required tables if they don't exist yet.
+     * Creates all required tables if they don't exist yet, then applies
+     * any pending schema migrations. Rows cached by the repositories are
+     * dropped first.
      */
     public void initializeDatabase() {
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
+        clearRepositoryCaches();
+        Connection conn = getConnection();
+        try (Statement stmt = conn.createStatement()) {
             
             // Enable foreign keys
             stmt.execute("PRAGMA foreign_keys = ON");
@@ -231,10 +449,15 @@ public class DatabaseConnection {
                 ")"
             );
             
+            // Indexes and later schema changes are applied as numbered migrations
+            new SchemaMigrator(out).migrate(conn);
+            
             out.println("Database initialized successfully.");
         } catch (SQLException e) {
             out.println("Error initializing database: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            releaseConnection();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.naz.taskmanager.repository;
+
+import java.util.Arrays;
+
+/**
+ * Counters and a latency histogram for login attempts.
+ * Used to size the password hash cost against the login rate: the
+ * histogram shows how long a login takes, and the cache counters of
+ * PasswordHasher show how many logins skipped the hash.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+public final class LoginMetrics {
+    /** Upper bounds of the latency buckets in milliseconds; the last bucket is unbounded */
+    private static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000};
+
+    private long successes = 0;
+    private long failures = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+
+    /** Login counts per latency bucket, one more than there are bounds */
+    private final long[] buckets = new long[BUCKET_BOUNDS_MILLIS.length + 1];
+
+    /**
+     * Records one login attempt
+     *
+     * @param success true if the credentials were accepted
+     * @param elapsedNanos Time taken by the attempt
+     */
+    synchronized void record(boolean success, long elapsedNanos) {
+        if (success) {
+            successes++;
+        } else {
+            failures++;
+        }
+        totalNanos += elapsedNanos;
+        maxNanos = Math.max(maxNanos, elapsedNanos);
+        buckets[bucketOf(elapsedNanos / 1000000L)]++;
+    }
+
+    /**
+     * Finds the bucket of a latency
+     *
+     * @param millis Latency in milliseconds
+     * @return Bucket index
+     */
+    private static int bucketOf(long millis) {
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            if (millis < BUCKET_BOUNDS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_MILLIS.length;
+    }
+
+    /**
+     * Gets the number of login attempts
+     *
+     * @return Attempt count
+     */
+    public synchronized long getAttempts() {
+        return successes + failures;
+    }
+
+    /**
+     * Gets the number of accepted logins
+     *
+     * @return Success count
+     */
+    public synchronized long getSuccesses() {
+        return successes;
+    }
+
+    /**
+     * Gets the number of rejected logins
+     *
+     * @return Failure count
+     */
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Gets the mean login latency
+     *
+     * @return Mean latency in milliseconds, 0 before the first attempt
+     */
+    public synchronized double getMeanMillis() {
+        long attempts = successes + failures;
+        return attempts == 0 ? 0 : totalNanos / 1e6 / attempts;
+    }
+
+    /**
+     * Gets the slowest login latency
+     *
+     * @return Maximum latency in milliseconds
+     */
+    public synchronized double getMaxMillis() {
+        return maxNanos / 1e6;
+    }
+
+    /**
+     * Gets the upper bounds of the latency buckets
+     *
+     * @return Bounds in milliseconds; logins at or above the last bound fall in one more bucket
+     */
+    public static long[] getBucketBoundsMillis() {
+        return BUCKET_BOUNDS_MILLIS.clone();
+    }
+
+    /**
+     * Gets the login counts per latency bucket
+     *
+     * @return Counts, one more than there are bucket bounds
+     */
+    public synchronized long[] getBucketCounts() {
+        return buckets.clone();
+    }
+
+    /**
+     * Returns a one-line summary of the counters and histogram
+     *
+     * @return Summary text
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("Logins: %d ok, %d failed, mean %.1f ms, max %.1f ms, buckets <%s ms: %s",
+            successes, failures, getMeanMillis(), getMaxMillis(),
+            Arrays.toString(BUCKET_BOUNDS_MILLIS), Arrays.toString(buckets));
+    }
+}
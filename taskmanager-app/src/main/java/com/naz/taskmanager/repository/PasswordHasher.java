@@ -0,0 +1,291 @@
+package com.naz.taskmanager.repository;
+
+import config.AppConfig;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.security.spec.KeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Salted PBKDF2 password hashes with a cache of recently verified logins.
+ * A stored hash has the form "pbkdf2-sha256$iterations$salt$hash", so the
+ * cost can be raised later without invalidating existing hashes; hashes
+ * below the current cost are reported by needsRehash.
+ *
+ * Verifying a password through PBKDF2 is deliberately slow. After a
+ * successful verification, an HMAC of the password under a per-process
+ * random key is kept for that stored hash, and a repeated login with the
+ * same password is checked against the HMAC instead. The cache is bounded
+ * and least recently used entries are dropped; an entry stops matching as
+ * soon as the stored hash changes.
+ *
+ * Values without the hash prefix are passwords stored before hashing was
+ * introduced and are compared as plain text.
+ *
+ * The shared hasher takes its cost and cache size from AppConfig
+ * (auth.password.iterations and auth.login.cache.size).
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+final class PasswordHasher {
+    /** Prefix identifying a stored hash */
+    private static final String PREFIX = "pbkdf2-sha256$";
+
+    /** JCA name of the key derivation function */
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    /** Shared hasher used by the repositories, created on first use */
+    private static PasswordHasher shared;
+
+    private final SecureRandom random = new SecureRandom();
+
+    /** PBKDF2 iteration count for new hashes */
+    private final int iterations;
+
+    /** Key of the verified-login HMACs, never stored */
+    private final byte[] cacheKey = new byte[32];
+
+    /** Verified-login HMACs by stored hash, least recently used first */
+    private final LinkedHashMap<String, byte[]> verified;
+
+    /** Number of verifications answered from the cache */
+    private long hits = 0;
+
+    /** Number of verifications that ran PBKDF2 */
+    private long misses = 0;
+
+    /**
+     * Constructor for PasswordHasher
+     *
+     * @param iterations PBKDF2 iteration count for new hashes
+     * @param cacheSize Maximum number of verified logins remembered; 0 disables the cache
+     */
+    PasswordHasher(int iterations, final int cacheSize) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be positive: " + iterations);
+        }
+        this.iterations = iterations;
+        random.nextBytes(cacheKey);
+        this.verified = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the shared hasher
+     *
+     * @return Hasher with the configured cost and cache size
+     */
+    static synchronized PasswordHasher getDefault() {
+        if (shared == null) {
+            AppConfig config = AppConfig.getInstance();
+            shared = new PasswordHasher(Math.max(1, config.getPasswordHashIterations()),
+                Math.max(0, config.getLoginCacheSize()));
+        }
+        return shared;
+    }
+
+    /**
+     * Gets the iteration count used for new hashes
+     *
+     * @return PBKDF2 iteration count
+     */
+    int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Hashes a password with a new random salt
+     *
+     * @param password Plain text password
+     * @return Encoded hash
+     */
+    String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        Base64.Encoder encoder = Base64.getEncoder();
+        return PREFIX + iterations + "$" + encoder.encodeToString(salt) + "$"
+            + encoder.encodeToString(pbkdf2(password, salt, iterations));
+    }
+
+    /**
+     * Hashes a password unless it is already an encoded hash, as it is for
+     * a user read back from the database
+     *
+     * @param password Plain text password or encoded hash
+     * @return Encoded hash, or null for a null password
+     */
+    String hashIfPlain(String password) {
+        if (password == null || isHash(password)) {
+            return password;
+        }
+        return hash(password);
+    }
+
+    /**
+     * Checks whether a stored value is an encoded hash
+     *
+     * @param stored Stored password value
+     * @return true if the value is an encoded hash
+     */
+    static boolean isHash(String stored) {
+        return stored != null && stored.startsWith(PREFIX);
+    }
+
+    /**
+     * Checks a password against a stored value
+     *
+     * @param password Password given at login
+     * @param stored Stored hash, or a legacy plain text password
+     * @return true if the password matches
+     */
+    boolean verify(String password, String stored) {
+        if (password == null || stored == null) {
+            return false;
+        }
+        if (!isHash(stored)) {
+            return MessageDigest.isEqual(utf8(password), utf8(stored));
+        }
+
+        byte[] mac = mac(stored, password);
+        synchronized (this) {
+            byte[] cached = verified.get(stored);
+            if (cached != null && MessageDigest.isEqual(cached, mac)) {
+                hits++;
+                return true;
+            }
+            misses++;
+        }
+
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+        boolean matches;
+        try {
+            Base64.Decoder decoder = Base64.getDecoder();
+            byte[] expected = decoder.decode(parts[3]);
+            matches = MessageDigest.isEqual(expected,
+                pbkdf2(password, decoder.decode(parts[2]), Integer.parseInt(parts[1])));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        if (matches) {
+            synchronized (this) {
+                verified.put(stored, mac);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Runs one PBKDF2 verification against a throwaway hash, so a login for
+     * an unknown user takes as long as one for a known user
+     *
+     * @param password Password given at login
+     */
+    void verifyDummy(String password) {
+        pbkdf2(password != null ? password : "", new byte[SALT_BYTES], iterations);
+    }
+
+    /**
+     * Checks whether a stored value should be replaced by a new hash
+     *
+     * @param stored Stored password value
+     * @return true for plain text passwords and hashes below the current cost
+     */
+    boolean needsRehash(String stored) {
+        if (!isHash(stored)) {
+            return true;
+        }
+        String[] parts = stored.split("\\$");
+        try {
+            return parts.length != 4 || Integer.parseInt(parts[1]) < iterations;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Gets the number of verifications answered from the cache
+     *
+     * @return Cache hit count
+     */
+    synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of hash verifications that ran PBKDF2
+     *
+     * @return Cache miss count
+     */
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Derives a PBKDF2 hash
+     *
+     * @param password Password
+     * @param salt Salt
+     * @param rounds Iteration count
+     * @return Derived key bytes
+     */
+    private static byte[] pbkdf2(String password, byte[] salt, int rounds) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("Invalid iteration count: " + rounds);
+        }
+        KeySpec spec = new PBEKeySpec(password.toCharArray(), salt, rounds, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("PBKDF2 is not available", e);
+        }
+    }
+
+    /**
+     * Computes the cache HMAC of a password for a stored hash
+     *
+     * @param stored Stored hash
+     * @param password Password
+     * @return HMAC bytes
+     */
+    private byte[] mac(String stored, String password) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(cacheKey, "HmacSHA256"));
+            mac.update(utf8(stored));
+            mac.update((byte) 0);
+            return mac.doFinal(utf8(password));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    /**
+     * Encodes a string as UTF-8
+     *
+     * @param value String to encode
+     * @return UTF-8 bytes
+     */
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
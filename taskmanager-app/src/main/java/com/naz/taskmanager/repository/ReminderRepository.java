@@ -1,10 +1,12 @@
 package com.naz.taskmanager.repository;
 
 import com.naz.taskmanager.model.Reminder;
+import com.naz.taskmanager.util.DateCodec;
 import java.sql.*;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,14 +17,36 @@ import java.util.List;
  * @version 1.0
  */
 public class ReminderRepository implements Repository<Reminder> {
-    /** Database connection */
-    private final Connection connection;
+    /** Database connection pool access */
+    private final DatabaseConnection dbConnection;
     
     /** Username for user-specific reminders */
     private final String username;
     
-    /** Date format for database operations */
-    private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    /** Statement inserting a reminder row */
+    private static final String INSERT_SQL =
+        "INSERT INTO Reminders (task_id, reminder_time, triggered, message) VALUES (?, ?, ?, ?)";
+    
+    /** Statement updating a reminder row owned by the user */
+    private static final String UPDATE_SQL =
+        "UPDATE Reminders SET reminder_time = ?, triggered = ?, message = ? " +
+        "WHERE id = ? AND task_id IN (SELECT id FROM Tasks WHERE username = ?)";
+    
+    /**
+     * Query for the user's untriggered reminders in time order. The unary
+     * plus keeps the planner off the task_id index, so the rows are read
+     * in order from the partial index idx_reminders_due.
+     */
+    static final String UNTRIGGERED_SQL =
+        "SELECT r.id, r.task_id, r.reminder_time, r.triggered, r.message " +
+        "FROM Reminders r " +
+        "WHERE r.triggered = 0 AND +r.task_id IN (SELECT id FROM Tasks WHERE username = ?) " +
+        "ORDER BY r.reminder_time";
+    
+    /** Statement marking one untriggered reminder row owned by the user as triggered */
+    private static final String MARK_TRIGGERED_SQL =
+        "UPDATE Reminders SET triggered = 1 " +
+        "WHERE id = ? AND triggered = 0 AND task_id IN (SELECT id FROM Tasks WHERE username = ?)";
     
     /**
      * Constructor for ReminderRepository
@@ -30,7 +54,7 @@ public class ReminderRepository implements Repository<Reminder> {
      * @param username Username for user-specific reminders
      */
     public ReminderRepository(String username) {
-        this.connection = DatabaseConnection.getInstance(System.out).getConnection();
+        this.dbConnection = DatabaseConnection.getInstance(System.out);
         this.username = username;
     }
     
@@ -41,20 +65,9 @@ public class ReminderRepository implements Repository<Reminder> {
      */
     @Override
     public void save(Reminder reminder) {
-        String sql = "INSERT INTO Reminders (task_id, reminder_time, triggered, message) VALUES (?, ?, ?, ?)";
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            stmt.setLong(1, Long.parseLong(reminder.getTaskId()));
-            
-            if (reminder.getReminderTime() != null) {
-                stmt.setString(2, dateFormat.format(reminder.getReminderTime()));
-            } else {
-                stmt.setNull(2, Types.VARCHAR);
-            }
-            
-            stmt.setInt(3, reminder.isTriggered() ? 1 : 0);
-            stmt.setString(4, reminder.getMessage());
-            
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            bindInsert(stmt, reminder);
             stmt.executeUpdate();
             
             // Set the generated ID back to the reminder
@@ -67,7 +80,149 @@ public class ReminderRepository implements Repository<Reminder> {
             System.out.println("Reminder saved successfully for task: " + reminder.getTaskId());
         } catch (SQLException e) {
             System.out.println("Error saving reminder: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+    }
+    
+    /**
+     * Saves several new reminders in one transaction.
+     * Inserts are sent as a single JDBC batch and committed once;
+     * nothing is saved if any insert fails. Inside a caller's transaction
+     * the inserts are left for the caller to commit.
+     * 
+     * @param reminders Reminders to save
+     * @return Generated IDs in the same order as reminders, empty if the batch failed
+     */
+    @Override
+    public List<String> saveAll(Collection<Reminder> reminders) {
+        List<String> ids = new ArrayList<>();
+        if (reminders == null || reminders.isEmpty()) {
+            return ids;
         }
+        
+        Connection connection = dbConnection.getConnection();
+        boolean autoCommit = true;
+        Savepoint savepoint = null;
+        try {
+            autoCommit = connection.getAutoCommit();
+            savepoint = dbConnection.beginWork(connection, autoCommit);
+            
+            long lastId;
+            try (PreparedStatement stmt = connection.prepareStatement(INSERT_SQL)) {
+                for (Reminder reminder : reminders) {
+                    bindInsert(stmt, reminder);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+                lastId = rs.next() ? rs.getLong(1) : 0;
+            }
+            dbConnection.commitWork(connection, savepoint);
+            
+            // AUTOINCREMENT ids are assigned consecutively while the transaction holds the write lock
+            long id = lastId - reminders.size() + 1;
+            for (Reminder reminder : reminders) {
+                String generatedId = String.valueOf(id++);
+                reminder.setId(generatedId);
+                ids.add(generatedId);
+            }
+            System.out.println("Reminders saved successfully: " + ids.size());
+        } catch (SQLException | NumberFormatException e) {
+            dbConnection.rollbackWorkQuietly(connection, savepoint);
+            ids.clear();
+            System.out.println("Error saving reminders: " + e.getMessage());
+        } finally {
+            if (autoCommit) {
+                dbConnection.restoreAutoCommit(connection, true);
+            }
+            dbConnection.releaseConnection();
+        }
+        
+        return ids;
+    }
+    
+    /**
+     * Updates several reminders in one transaction.
+     * Updates are sent as a single JDBC batch and committed once;
+     * nothing is updated if any statement fails. Inside a caller's
+     * transaction the updates are left for the caller to commit.
+     * 
+     * @param reminders Reminders to update
+     */
+    @Override
+    public void updateAll(Collection<Reminder> reminders) {
+        if (reminders == null || reminders.isEmpty()) {
+            return;
+        }
+        
+        Connection connection = dbConnection.getConnection();
+        boolean autoCommit = true;
+        Savepoint savepoint = null;
+        try {
+            autoCommit = connection.getAutoCommit();
+            savepoint = dbConnection.beginWork(connection, autoCommit);
+            
+            try (PreparedStatement stmt = connection.prepareStatement(UPDATE_SQL)) {
+                for (Reminder reminder : reminders) {
+                    bindUpdate(stmt, reminder);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            dbConnection.commitWork(connection, savepoint);
+            System.out.println("Reminders updated successfully: " + reminders.size());
+        } catch (SQLException | NumberFormatException e) {
+            dbConnection.rollbackWorkQuietly(connection, savepoint);
+            System.out.println("Error updating reminders: " + e.getMessage());
+        } finally {
+            if (autoCommit) {
+                dbConnection.restoreAutoCommit(connection, true);
+            }
+            dbConnection.releaseConnection();
+        }
+    }
+    
+    /**
+     * Binds the INSERT_SQL parameters for a reminder
+     * 
+     * @param stmt Statement prepared from INSERT_SQL
+     * @param reminder Reminder to insert
+     * @throws SQLException if a parameter cannot be set
+     */
+    private void bindInsert(PreparedStatement stmt, Reminder reminder) throws SQLException {
+        stmt.setLong(1, Long.parseLong(reminder.getTaskId()));
+        
+        if (reminder.getReminderTime() != null) {
+            stmt.setLong(2, reminder.getReminderTime().getTime());
+        } else {
+            stmt.setNull(2, Types.INTEGER);
+        }
+        
+        stmt.setInt(3, reminder.isTriggered() ? 1 : 0);
+        stmt.setString(4, reminder.getMessage());
+    }
+    
+    /**
+     * Binds the UPDATE_SQL parameters for a reminder
+     * 
+     * @param stmt Statement prepared from UPDATE_SQL
+     * @param reminder Reminder to update
+     * @throws SQLException if a parameter cannot be set
+     */
+    private void bindUpdate(PreparedStatement stmt, Reminder reminder) throws SQLException {
+        if (reminder.getReminderTime() != null) {
+            stmt.setLong(1, reminder.getReminderTime().getTime());
+        } else {
+            stmt.setNull(1, Types.INTEGER);
+        }
+        
+        stmt.setInt(2, reminder.isTriggered() ? 1 : 0);
+        stmt.setString(3, reminder.getMessage());
+        stmt.setLong(4, Long.parseLong(reminder.getId()));
+        stmt.setString(5, username);
     }
     
     /**
@@ -82,6 +237,7 @@ public class ReminderRepository implements Repository<Reminder> {
                      "FROM Reminders r JOIN Tasks t ON r.task_id = t.id " +
                      "WHERE r.id = ? AND t.username = ?";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setLong(1, Long.parseLong(id));
             stmt.setString(2, username);
@@ -93,6 +249,8 @@ public class ReminderRepository implements Repository<Reminder> {
             }
         } catch (SQLException | ParseException e) {
             System.out.println("Error getting reminder by ID: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
         
         return null;
@@ -112,10 +270,7 @@ public class ReminderRepository implements Repository<Reminder> {
         reminder.setId(String.valueOf(rs.getLong("id")));
         reminder.setTaskId(String.valueOf(rs.getLong("task_id")));
         
-        String reminderTimeStr = rs.getString("reminder_time");
-        if (reminderTimeStr != null) {
-            reminder.setReminderTime(dateFormat.parse(reminderTimeStr));
-        }
+        reminder.setReminderTime(DateCodec.fromDbValue(rs.getObject("reminder_time")));
         
         reminder.setTriggered(rs.getInt("triggered") == 1);
         reminder.setMessage(rs.getString("message"));
@@ -135,6 +290,7 @@ public class ReminderRepository implements Repository<Reminder> {
                      "FROM Reminders r JOIN Tasks t ON r.task_id = t.id " +
                      "WHERE t.username = ?";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setString(1, username);
             
@@ -145,6 +301,8 @@ public class ReminderRepository implements Repository<Reminder> {
             }
         } catch (SQLException | ParseException e) {
             System.out.println("Error getting all reminders: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
         
         return reminders;
@@ -157,20 +315,9 @@ public class ReminderRepository implements Repository<Reminder> {
      */
     @Override
     public void update(Reminder reminder) {
-        String sql = "UPDATE Reminders SET reminder_time = ?, triggered = ?, message = ? " +
-                     "WHERE id = ? AND task_id IN (SELECT id FROM Tasks WHERE username = ?)";
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            if (reminder.getReminderTime() != null) {
-                stmt.setString(1, dateFormat.format(reminder.getReminderTime()));
-            } else {
-                stmt.setNull(1, Types.VARCHAR);
-            }
-            
-            stmt.setInt(2, reminder.isTriggered() ? 1 : 0);
-            stmt.setString(3, reminder.getMessage());
-            stmt.setLong(4, Long.parseLong(reminder.getId()));
-            stmt.setString(5, username);
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(UPDATE_SQL)) {
+            bindUpdate(stmt, reminder);
             
             int rowsAffected = stmt.executeUpdate();
             if (rowsAffected > 0) {
@@ -180,6 +327,8 @@ public class ReminderRepository implements Repository<Reminder> {
             }
         } catch (SQLException e) {
             System.out.println("Error updating reminder: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
     }
     
@@ -192,6 +341,7 @@ public class ReminderRepository implements Repository<Reminder> {
     public void delete(String id) {
         String sql = "DELETE FROM Reminders WHERE id = ? AND task_id IN (SELECT id FROM Tasks WHERE username = ?)";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setLong(1, Long.parseLong(id));
             stmt.setString(2, username);
@@ -204,6 +354,8 @@ public class ReminderRepository implements Repository<Reminder> {
             }
         } catch (SQLException e) {
             System.out.println("Error deleting reminder: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
     }
     
@@ -219,6 +371,7 @@ public class ReminderRepository implements Repository<Reminder> {
                      "FROM Reminders r JOIN Tasks t ON r.task_id = t.id " +
                      "WHERE r.task_id = ? AND t.username = ?";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setLong(1, Long.parseLong(taskId));
             stmt.setString(2, username);
@@ -230,8 +383,131 @@ public class ReminderRepository implements Repository<Reminder> {
             }
         } catch (SQLException | ParseException e) {
             System.out.println("Error getting reminders for task: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+        
+        return reminders;
+    }
+    
+    /**
+     * Gets every reminder not yet triggered, earliest first.
+     * Like findDue, the query is answered from the partial index on
+     * untriggered reminder times and does not read triggered history.
+     * 
+     * @return Untriggered reminders ordered by reminder time
+     */
+    public List<Reminder> findUntriggered() {
+        List<Reminder> reminders = new ArrayList<>();
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(UNTRIGGERED_SQL)) {
+            stmt.setString(1, username);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    reminders.add(createReminderFromResultSet(rs));
+                }
+            }
+        } catch (SQLException | ParseException e) {
+            System.out.println("Error finding pending reminders: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+        
+        return reminders;
+    }
+    
+    /**
+     * Gets reminders that are due and not yet triggered, earliest first.
+     * The filter runs in SQL as a range scan over the partial index on
+     * untriggered reminder times, so triggered history is never read.
+     * 
+     * @param now Time at or before which a reminder is due
+     * @param limit Maximum number of reminders to return
+     * @return Due reminders ordered by reminder time
+     */
+    public List<Reminder> findDue(Instant now, int limit) {
+        List<Reminder> reminders = new ArrayList<>();
+        if (now == null || limit <= 0) {
+            return reminders;
+        }
+        String sql = "SELECT r.id, r.task_id, r.reminder_time, r.triggered, r.message " +
+                     "FROM Reminders r " +
+                     "WHERE r.triggered = 0 AND r.reminder_time <= ? " +
+                     "AND r.task_id IN (SELECT id FROM Tasks WHERE username = ?) " +
+                     "ORDER BY r.reminder_time LIMIT ?";
+        
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setLong(1, now.toEpochMilli());
+            stmt.setString(2, username);
+            stmt.setInt(3, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    reminders.add(createReminderFromResultSet(rs));
+                }
+            }
+        } catch (SQLException | ParseException e) {
+            System.out.println("Error finding due reminders: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
         
         return reminders;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Marks several reminders as triggered in one transaction.
+     * One fixed UPDATE is sent as a JDBC batch, so the statement is
+     * prepared once whatever the number of IDs, and the per-row counts tell
+     * which reminders this call marked. Reminders already triggered are
+     * left alone and are not returned.
+     * 
+     * @param ids IDs of the reminders to mark
+     * @return IDs of the reminders newly marked, in the given order; empty if the update failed
+     */
+    public List<String> markTriggered(Collection<String> ids) {
+        List<String> marked = new ArrayList<>();
+        if (ids == null || ids.isEmpty()) {
+            return marked;
+        }
+        List<String> idList = new ArrayList<>(ids);
+        
+        Connection connection = dbConnection.getConnection();
+        boolean autoCommit = true;
+        Savepoint savepoint = null;
+        try {
+            autoCommit = connection.getAutoCommit();
+            savepoint = dbConnection.beginWork(connection, autoCommit);
+            
+            int[] counts;
+            try (PreparedStatement stmt = connection.prepareStatement(MARK_TRIGGERED_SQL)) {
+                for (String id : idList) {
+                    stmt.setLong(1, Long.parseLong(id));
+                    stmt.setString(2, username);
+                    stmt.addBatch();
+                }
+                counts = stmt.executeBatch();
+            }
+            dbConnection.commitWork(connection, savepoint);
+            
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    marked.add(idList.get(i));
+                }
+            }
+        } catch (SQLException | NumberFormatException e) {
+            dbConnection.rollbackWorkQuietly(connection, savepoint);
+            marked.clear();
+            System.out.println("Error marking reminders as triggered: " + e.getMessage());
+        } finally {
+            if (autoCommit) {
+                dbConnection.restoreAutoCommit(connection, true);
+            }
+            dbConnection.releaseConnection();
+        }
+        
+        return marked;
+    }
+}
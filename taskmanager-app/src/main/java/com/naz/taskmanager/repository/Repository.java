@@ -1,5 +1,6 @@
 package com.naz.taskmanager.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +20,15 @@ public interface Repository<T> {
      */
     void save(T item);
     
+    /**
+     * Saves several new entities.
+     * Implementations should write them in a single transaction.
+     * 
+     * @param items Entities to save
+     * @return IDs of the saved entities, in the same order as items
+     */
+    List<String> saveAll(Collection<T> items);
+    
     /**
      * Retrieves an entity by its ID.
      * 
@@ -41,6 +51,18 @@ public interface Repository<T> {
      */
     void update(T item);
     
+    /**
+     * Updates several existing entities.
+     * The default implementation updates them one at a time.
+     * 
+     * @param items Entities to update
+     */
+    default void updateAll(Collection<T> items) {
+        for (T item : items) {
+            update(item);
+        }
+    }
+    
     /**
      * Deletes an entity by its ID.
      * 
@@ -0,0 +1,446 @@
+package com.naz.taskmanager.repository;
+
+import com.naz.taskmanager.util.DateCodec;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Applies numbered schema migrations on top of the base tables.
+ * The highest applied version is recorded in the schema_version table, and
+ * each pending migration runs in its own transaction, so a database is
+ * brought up to date exactly once no matter how often it is initialized.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+class SchemaMigrator {
+    /**
+     * Work performed by a single migration.
+     */
+    interface MigrationStep {
+        /**
+         * Applies the migration
+         *
+         * @param connection Connection inside the migration transaction
+         * @param out PrintStream for output messages
+         * @throws SQLException if the migration fails
+         */
+        void apply(Connection connection, PrintStream out) throws SQLException;
+    }
+
+    /**
+     * Numbered schema change.
+     */
+    static final class Migration {
+        private final int version;
+        private final String description;
+        private final MigrationStep step;
+
+        /**
+         * Constructor for Migration
+         *
+         * @param version Version number, unique and increasing
+         * @param description Short description recorded in schema_version
+         * @param step Work performed by the migration
+         */
+        Migration(int version, String description, MigrationStep step) {
+            this.version = version;
+            this.description = description;
+            this.step = step;
+        }
+
+        /**
+         * Gets the version number
+         *
+         * @return Version number
+         */
+        int getVersion() {
+            return version;
+        }
+
+        /**
+         * Gets the description
+         *
+         * @return Migration description
+         */
+        String getDescription() {
+            return description;
+        }
+    }
+
+    /** Migrations in version order */
+    private static final List<Migration> MIGRATIONS;
+
+    static {
+        List<Migration> migrations = new ArrayList<>();
+
+        migrations.add(new Migration(1, "Add task and reminder lookup indexes", sql(
+            "CREATE INDEX IF NOT EXISTS idx_tasks_username_deadline ON Tasks(username, deadline)",
+            "CREATE INDEX IF NOT EXISTS idx_tasks_username_completed_priority ON Tasks(username, completed, priority)",
+            "CREATE INDEX IF NOT EXISTS idx_reminders_task_triggered_time ON Reminders(task_id, triggered, reminder_time)"
+        )));
+
+        migrations.add(new Migration(2, "Add partial index on untriggered reminder times", sql(
+            "CREATE INDEX IF NOT EXISTS idx_reminders_due ON Reminders(reminder_time) WHERE triggered = 0"
+        )));
+
+        migrations.add(new Migration(3, "Store task, reminder and project dates as epoch millis",
+            SchemaMigrator::storeDatesAsEpochMillis));
+
+        // External-content FTS5 index over task text; the triggers keep it in step with Tasks
+        migrations.add(new Migration(4, "Add full-text index on task name and description", sql(
+            "CREATE VIRTUAL TABLE IF NOT EXISTS Tasks_fts USING fts5(name, description, " +
+                "content='Tasks', content_rowid='id', tokenize='unicode61 remove_diacritics 2')",
+            "CREATE TRIGGER IF NOT EXISTS tasks_fts_insert AFTER INSERT ON Tasks BEGIN " +
+                "INSERT INTO Tasks_fts(rowid, name, description) VALUES (new.id, new.name, new.description); END",
+            "CREATE TRIGGER IF NOT EXISTS tasks_fts_delete AFTER DELETE ON Tasks BEGIN " +
+                "INSERT INTO Tasks_fts(Tasks_fts, rowid, name, description) " +
+                "VALUES ('delete', old.id, old.name, old.description); END",
+            "CREATE TRIGGER IF NOT EXISTS tasks_fts_update AFTER UPDATE OF name, description ON Tasks BEGIN " +
+                "INSERT INTO Tasks_fts(Tasks_fts, rowid, name, description) " +
+                "VALUES ('delete', old.id, old.name, old.description); " +
+                "INSERT INTO Tasks_fts(rowid, name, description) VALUES (new.id, new.name, new.description); END",
+            "INSERT INTO Tasks_fts(Tasks_fts) VALUES ('rebuild')"
+        )));
+
+        migrations.add(new Migration(5, "Add description and color to categories", sql(
+            "ALTER TABLE Categories ADD COLUMN description TEXT",
+            "ALTER TABLE Categories ADD COLUMN color TEXT"
+        )));
+
+        MIGRATIONS = Collections.unmodifiableList(migrations);
+    }
+
+    /** PrintStream for output messages */
+    private final PrintStream out;
+
+    /**
+     * Constructor for SchemaMigrator
+     *
+     * @param out PrintStream for output messages
+     */
+    SchemaMigrator(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Gets every known migration
+     *
+     * @return Migrations in version order
+     */
+    static List<Migration> getMigrations() {
+        return MIGRATIONS;
+    }
+
+    /**
+     * Gets the latest schema version known to the application
+     *
+     * @return Latest migration version
+     */
+    static int getLatestVersion() {
+        return MIGRATIONS.isEmpty() ? 0 : MIGRATIONS.get(MIGRATIONS.size() - 1).getVersion();
+    }
+
+    /**
+     * Applies every migration newer than the current schema version.
+     *
+     * @param connection Database connection
+     * @return Number of migrations applied
+     * @throws SQLException if a migration fails; earlier migrations stay applied
+     */
+    int migrate(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(
+                "CREATE TABLE IF NOT EXISTS schema_version (" +
+                "version INTEGER PRIMARY KEY, " +
+                "description TEXT NOT NULL, " +
+                "applied_at TEXT NOT NULL" +
+                ")"
+            );
+        }
+
+        int current = getCurrentVersion(connection);
+        if (current >= getLatestVersion()) {
+            return 0;
+        }
+
+        // Table rebuilds drop and recreate referenced tables, which must not cascade
+        boolean foreignKeys = queryInt(connection, "PRAGMA foreign_keys") == 1;
+        if (foreignKeys) {
+            execute(connection, "PRAGMA foreign_keys = OFF");
+        }
+        try {
+            int applied = 0;
+            for (Migration migration : MIGRATIONS) {
+                if (migration.getVersion() > current) {
+                    apply(connection, migration);
+                    applied++;
+                }
+            }
+            return applied;
+        } finally {
+            if (foreignKeys) {
+                execute(connection, "PRAGMA foreign_keys = ON");
+            }
+        }
+    }
+
+    /**
+     * Reads the highest applied schema version
+     *
+     * @param connection Database connection
+     * @return Current schema version, 0 if no migration has been applied
+     * @throws SQLException if a database error occurs
+     */
+    static int getCurrentVersion(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(version) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Applies one migration and records it, in a single transaction
+     *
+     * @param connection Database connection
+     * @param migration Migration to apply
+     * @throws SQLException if the migration fails
+     */
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            migration.step.apply(connection, out);
+
+            String sql = "INSERT INTO schema_version (version, description, applied_at) VALUES (?, ?, ?)";
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setInt(1, migration.getVersion());
+                stmt.setString(2, migration.getDescription());
+                stmt.setString(3, DateCodec.formatDb(new Date()));
+                stmt.executeUpdate();
+            }
+
+            connection.commit();
+            out.println("Applied schema migration " + migration.getVersion() + ": " + migration.getDescription());
+        } catch (SQLException e) {
+            connection.rollback();
+            throw new SQLException("Schema migration " + migration.getVersion() + " failed: " + e.getMessage(), e);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Migration 3: rebuilds Tasks, Reminders and Projects with INTEGER date
+     * columns and converts the existing yyyy-MM-dd HH:mm:ss values to epoch
+     * milliseconds. Values that cannot be parsed are replaced, see
+     * convertTextDates, so no text is left in the INTEGER columns.
+     *
+     * @param connection Connection inside the migration transaction
+     * @param out PrintStream for output messages
+     * @throws SQLException if the migration fails
+     */
+    private static void storeDatesAsEpochMillis(Connection connection, PrintStream out) throws SQLException {
+        rebuildTable(connection, "Tasks",
+            "CREATE TABLE Tasks (" +
+            "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+            "username TEXT NOT NULL, " +
+            "name TEXT NOT NULL, " +
+            "description TEXT, " +
+            "category_id INTEGER, " +
+            "deadline INTEGER, " +
+            "priority INTEGER DEFAULT 1, " +
+            "completed INTEGER DEFAULT 0, " +
+            "creation_date INTEGER NOT NULL, " +
+            "FOREIGN KEY(username) REFERENCES Users(username) ON DELETE CASCADE, " +
+            "FOREIGN KEY(category_id) REFERENCES Categories(id) ON DELETE CASCADE" +
+            ")",
+            "id, username, name, description, category_id, deadline, priority, completed, creation_date");
+        convertTextDates(connection, out, "Tasks", "deadline", "creation_date");
+
+        rebuildTable(connection, "Reminders",
+            "CREATE TABLE Reminders (" +
+            "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+            "task_id INTEGER NOT NULL, " +
+            "reminder_time INTEGER NOT NULL, " +
+            "triggered INTEGER DEFAULT 0, " +
+            "message TEXT, " +
+            "FOREIGN KEY(task_id) REFERENCES Tasks(id) ON DELETE CASCADE" +
+            ")",
+            "id, task_id, reminder_time, triggered, message");
+        convertTextDates(connection, out, "Reminders", "reminder_time");
+
+        rebuildTable(connection, "Projects",
+            "CREATE TABLE Projects (" +
+            "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+            "username TEXT NOT NULL, " +
+            "name TEXT NOT NULL, " +
+            "description TEXT, " +
+            "start_date INTEGER, " +
+            "end_date INTEGER, " +
+            "creation_date INTEGER NOT NULL, " +
+            "completed INTEGER DEFAULT 0, " +
+            "FOREIGN KEY(username) REFERENCES Users(username) ON DELETE CASCADE" +
+            ")",
+            "id, username, name, description, start_date, end_date, creation_date, completed");
+        convertTextDates(connection, out, "Projects", "start_date", "end_date", "creation_date");
+
+        // Dropping the old tables dropped their indexes
+        sql(
+            "CREATE INDEX IF NOT EXISTS idx_tasks_username_deadline ON Tasks(username, deadline)",
+            "CREATE INDEX IF NOT EXISTS idx_tasks_username_completed_priority ON Tasks(username, completed, priority)",
+            "CREATE INDEX IF NOT EXISTS idx_reminders_task_triggered_time ON Reminders(task_id, triggered, reminder_time)",
+            "CREATE INDEX IF NOT EXISTS idx_reminders_due ON Reminders(reminder_time) WHERE triggered = 0"
+        ).apply(connection, out);
+    }
+
+    /**
+     * Replaces a table with a new definition, keeping its rows and its
+     * AUTOINCREMENT counter. Foreign key enforcement must be off.
+     *
+     * @param connection Connection inside the migration transaction
+     * @param table Table to rebuild
+     * @param createSql CREATE TABLE statement for the new definition, using the table's own name
+     * @param columns Comma separated columns copied to the new table
+     * @throws SQLException if the rebuild fails
+     */
+    private static void rebuildTable(Connection connection, String table, String createSql, String columns)
+            throws SQLException {
+        String rebuilt = table + "_rebuild";
+        Long sequence = null;
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT seq FROM sqlite_sequence WHERE name = ?")) {
+            stmt.setString(1, table);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    sequence = rs.getLong(1);
+                }
+            }
+        }
+
+        execute(connection, createSql.replaceFirst("CREATE TABLE " + table + " ", "CREATE TABLE " + rebuilt + " "));
+        execute(connection, "INSERT INTO " + rebuilt + " (" + columns + ") SELECT " + columns + " FROM " + table);
+        execute(connection, "DROP TABLE " + table);
+        execute(connection, "ALTER TABLE " + rebuilt + " RENAME TO " + table);
+
+        if (sequence != null) {
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM sqlite_sequence WHERE name = ?");
+                 PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO sqlite_sequence (name, seq) VALUES (?, ?)")) {
+                delete.setString(1, table);
+                delete.executeUpdate();
+                insert.setString(1, table);
+                insert.setLong(2, sequence);
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Converts TEXT date values of some columns to epoch milliseconds.
+     * Values that cannot be parsed are set to NULL, or to the migration time
+     * in NOT NULL columns, and the number of replaced values is logged.
+     *
+     * @param connection Connection inside the migration transaction
+     * @param out PrintStream for output messages
+     * @param table Table to update
+     * @param columns Date columns to convert
+     * @throws SQLException if the update fails
+     */
+    private static void convertTextDates(Connection connection, PrintStream out, String table, String... columns)
+            throws SQLException {
+        List<String> notNull = new ArrayList<>();
+        try (Statement query = connection.createStatement();
+             ResultSet rs = query.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (rs.getInt("notnull") != 0) {
+                    notNull.add(rs.getString("name"));
+                }
+            }
+        }
+        long now = System.currentTimeMillis();
+
+        for (String column : columns) {
+            boolean nullable = !notNull.contains(column);
+            String select = "SELECT id, " + column + " FROM " + table + " WHERE typeof(" + column + ") = 'text'";
+            String update = "UPDATE " + table + " SET " + column + " = ? WHERE id = ?";
+            int unparseable = 0;
+            try (Statement query = connection.createStatement();
+                 ResultSet rs = query.executeQuery(select);
+                 PreparedStatement stmt = connection.prepareStatement(update)) {
+                while (rs.next()) {
+                    try {
+                        stmt.setLong(1, DateCodec.parseDb(rs.getString(2)).getTime());
+                    } catch (ParseException e) {
+                        unparseable++;
+                        if (nullable) {
+                            stmt.setNull(1, Types.INTEGER);
+                        } else {
+                            stmt.setLong(1, now);
+                        }
+                    }
+                    stmt.setLong(2, rs.getLong(1));
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            if (unparseable > 0) {
+                out.println("Schema migration: " + unparseable + " unreadable " + table + "." + column
+                    + " value(s) set to " + (nullable ? "NULL" : "the migration time"));
+            }
+        }
+    }
+
+    /**
+     * Executes a single SQL statement
+     *
+     * @param connection Database connection
+     * @param sql Statement to execute
+     * @throws SQLException if the statement fails
+     */
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    /**
+     * Runs a query returning a single integer
+     *
+     * @param connection Database connection
+     * @param sql Query to run
+     * @return First column of the first row, 0 if there is no row
+     * @throws SQLException if the query fails
+     */
+    private static int queryInt(Connection connection, String sql) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Creates a migration step that runs plain SQL statements in order
+     *
+     * @param statements SQL statements to execute
+     * @return Migration step
+     */
+    private static MigrationStep sql(String... statements) {
+        return (connection, out) -> {
+            try (Statement stmt = connection.createStatement()) {
+                for (String statement : statements) {
+                    stmt.execute(statement);
+                }
+            }
+        };
+    }
+}
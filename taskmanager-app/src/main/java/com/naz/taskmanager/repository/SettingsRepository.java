@@ -2,18 +2,46 @@ package com.naz.taskmanager.repository;
 
 import com.naz.taskmanager.model.NotificationSettings;
 import java.sql.*;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * @brief Repository for NotificationSettings using SQLite database.
  * 
  * @details Handles persistence of user notification preferences.
+ * Settings change rarely, so each user's settings are read from the
+ * database once and then served from a cache shared by every
+ * SettingsRepository. saveSettings updates the cache and notifies the
+ * user's listeners when a preference changed. Callers always receive a
+ * copy, so changing a returned object does not change the cache.
  * 
  * @author TaskManager Team
  * @version 1.0
  */
 public class SettingsRepository {
-    /** @brief Database connection */
-    private final Connection connection;
+    /**
+     * @brief Listener notified when a user's settings change
+     */
+    public interface SettingsListener {
+        /**
+         * @brief Called after changed settings were saved
+         *
+         * @param username User whose settings changed
+         * @param settings New settings
+         */
+        void settingsChanged(String username, NotificationSettings settings);
+    }
+
+    /** @brief Settings by username, filled on first read */
+    private static final Map<String, NotificationSettings> CACHE = new ConcurrentHashMap<>();
+
+    /** @brief Listeners by username, safe to iterate while listeners are added */
+    private static final Map<String, List<SettingsListener>> LISTENERS = new ConcurrentHashMap<>();
+
+    /** @brief Database connection pool access */
+    private final DatabaseConnection dbConnection;
     
     /** @brief Username for user-specific settings */
     private final String username;
@@ -24,7 +52,7 @@ public class SettingsRepository {
      * @param username Username for user-specific settings
      */
     public SettingsRepository(String username) {
-        this.connection = DatabaseConnection.getInstance(System.out).getConnection();
+        this.dbConnection = DatabaseConnection.getInstance(System.out);
         this.username = username;
     }
     
@@ -37,6 +65,7 @@ public class SettingsRepository {
         String sql = "INSERT OR REPLACE INTO Settings (username, email_enabled, app_notifications_enabled, " +
                      "default_reminder_minutes) VALUES (?, ?, ?, ?)";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setString(1, username);
             stmt.setInt(2, settings.isEmailEnabled() ? 1 : 0);
@@ -45,20 +74,50 @@ public class SettingsRepository {
             
             stmt.executeUpdate();
             System.out.println("Settings saved successfully for user: " + username);
+            
+            NotificationSettings saved = new NotificationSettings(settings);
+            if (!saved.equals(CACHE.put(username, saved))) {
+                notifyListeners(saved);
+            }
         } catch (SQLException e) {
             System.out.println("Error saving settings: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
     }
     
     /**
-     * @brief Gets notification settings from the database
+     * @brief Gets notification settings, reading the database only on first use
      * 
-     * @return NotificationSettings for the user
+     * @return Copy of the NotificationSettings for the user
      */
     public NotificationSettings getSettings() {
+        NotificationSettings cached = CACHE.get(username);
+        if (cached == null) {
+            cached = loadSettings();
+            if (cached == null) {
+                // Not cached, so the next call tries the database again
+                return new NotificationSettings();
+            }
+            // A concurrent saveSettings wins over the value read here
+            NotificationSettings previous = CACHE.putIfAbsent(username, cached);
+            if (previous != null) {
+                cached = previous;
+            }
+        }
+        return new NotificationSettings(cached);
+    }
+    
+    /**
+     * @brief Reads notification settings from the database
+     * 
+     * @return Stored settings, defaults if the user has none, or null on a database error
+     */
+    private NotificationSettings loadSettings() {
         String sql = "SELECT email_enabled, app_notifications_enabled, default_reminder_minutes " +
                      "FROM Settings WHERE username = ?";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setString(1, username);
             
@@ -73,9 +132,74 @@ public class SettingsRepository {
             }
         } catch (SQLException e) {
             System.out.println("Error getting settings: " + e.getMessage());
+            return null;
+        } finally {
+            dbConnection.releaseConnection();
         }
         
         // Return default settings if none found
         return new NotificationSettings();
     }
-}
\ No newline at end of file
+    
+    /**
+     * @brief Registers a listener for changes to this user's settings
+     * 
+     * @param listener Listener to add
+     */
+    public void addListener(SettingsListener listener) {
+        List<SettingsListener> listeners = LISTENERS.computeIfAbsent(username, k -> new CopyOnWriteArrayList<>());
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+    
+    /**
+     * @brief Removes a listener registered for this user's settings
+     * 
+     * @param listener Listener to remove
+     */
+    public void removeListener(SettingsListener listener) {
+        List<SettingsListener> listeners = LISTENERS.get(username);
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
+    }
+    
+    /**
+     * @brief Notifies this user's listeners of saved settings
+     * 
+     * @details The settings are already committed, so a failing listener is
+     * reported and the remaining listeners are still notified.
+     * 
+     * @param settings Saved settings, each listener receives its own copy
+     */
+    private void notifyListeners(NotificationSettings settings) {
+        List<SettingsListener> listeners = LISTENERS.get(username);
+        if (listeners == null) {
+            return;
+        }
+        for (SettingsListener listener : listeners) {
+            try {
+                listener.settingsChanged(username, new NotificationSettings(settings));
+            } catch (RuntimeException e) {
+                System.out.println("Error notifying settings listener: " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * @brief Drops a user's cached settings, used when the user is deleted
+     * 
+     * @param username User whose settings are dropped
+     */
+    static void evict(String username) {
+        CACHE.remove(username);
+    }
+    
+    /**
+     * @brief Drops every cached setting, used when the database is closed or initialized
+     */
+    static void clearCache() {
+        CACHE.clear();
+    }
+}
@@ -0,0 +1,319 @@
+package com.naz.taskmanager.repository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of prepared statements for one physical connection.
+ * The connection handed to repositories is a proxy whose prepareStatement
+ * returns a cached statement for SQL it has seen before. Closing that
+ * statement clears its parameters and batch and puts it back in the cache
+ * instead of finalizing it, so repositories keep the usual
+ * try-with-resources code and steady-state CRUD compiles no SQL.
+ *
+ * A statement is removed from the cache while it is in use; a second
+ * request for the same SQL in the meantime gets its own statement.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+final class StatementCache implements InvocationHandler {
+    /** Marker for statements prepared without the auto-generated keys flag */
+    private static final int NO_KEYS_FLAG = -1;
+
+    /** Physical connection */
+    private final Connection target;
+
+    /** Maximum number of idle statements kept */
+    private final int maxSize;
+
+    /** Idle statements by SQL text and keys flag, least recently used first */
+    private final LinkedHashMap<String, PreparedStatement> idle;
+
+    /** Proxy handed out in place of the physical connection */
+    private Connection proxy;
+
+    /** Number of prepareStatement calls served from the cache */
+    private long hits = 0;
+
+    /** Number of prepareStatement calls that compiled a new statement */
+    private long misses = 0;
+
+    /** Flag indicating the connection has been closed */
+    private boolean closed = false;
+
+    /**
+     * Constructor for StatementCache
+     *
+     * @param target Physical connection
+     * @param maxSize Maximum number of idle statements kept
+     */
+    private StatementCache(Connection target, int maxSize) {
+        this.target = target;
+        this.maxSize = maxSize;
+        this.idle = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > StatementCache.this.maxSize) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Wraps a connection so its prepared statements are cached
+     *
+     * @param connection Physical connection
+     * @param maxSize Maximum number of idle statements kept; 0 or less disables caching
+     * @return Caching connection, or the connection itself if caching is disabled
+     */
+    static Connection wrap(Connection connection, int maxSize) {
+        if (maxSize <= 0) {
+            return connection;
+        }
+        StatementCache cache = new StatementCache(connection, maxSize);
+        cache.proxy = (Connection) Proxy.newProxyInstance(
+            StatementCache.class.getClassLoader(), new Class<?>[] {Connection.class}, cache);
+        return cache.proxy;
+    }
+
+    /**
+     * Gets the cache behind a connection returned by wrap()
+     *
+     * @param connection Connection to inspect
+     * @return Statement cache, or null if the connection is not cached
+     */
+    static StatementCache of(Connection connection) {
+        if (connection != null && Proxy.isProxyClass(connection.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(connection);
+            if (handler instanceof StatementCache) {
+                return (StatementCache) handler;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of requests served from the cache
+     *
+     * @return Cache hits
+     */
+    synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of requests that compiled a new statement
+     *
+     * @return Cache misses
+     */
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of idle statements in the cache
+     *
+     * @return Cached statements
+     */
+    synchronized int size() {
+        return idle.size();
+    }
+
+    @Override
+    public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "prepareStatement":
+                if (args.length == 1) {
+                    return borrow((String) args[0], NO_KEYS_FLAG);
+                }
+                if (args.length == 2 && method.getParameterTypes()[1] == int.class) {
+                    return borrow((String) args[0], (Integer) args[1]);
+                }
+                break;
+            case "close":
+                close();
+                return null;
+            case "equals":
+                return self == args[0];
+            case "hashCode":
+                return System.identityHashCode(self);
+            case "toString":
+                return "StatementCache[" + target + "]";
+            default:
+                break;
+        }
+        return delegate(target, method, args);
+    }
+
+    /**
+     * Takes a statement from the cache or prepares a new one
+     *
+     * @param sql SQL text
+     * @param keysFlag Auto-generated keys flag, or NO_KEYS_FLAG
+     * @return Statement proxy that returns to the cache when closed
+     * @throws SQLException if a new statement cannot be prepared
+     */
+    private PreparedStatement borrow(String sql, int keysFlag) throws SQLException {
+        String key = keysFlag + ":" + sql;
+        PreparedStatement statement;
+        synchronized (this) {
+            if (closed) {
+                throw new SQLException("Connection is closed");
+            }
+            statement = idle.remove(key);
+            if (statement != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+
+        if (statement == null || statement.isClosed()) {
+            statement = keysFlag == NO_KEYS_FLAG
+                ? target.prepareStatement(sql)
+                : target.prepareStatement(sql, keysFlag);
+        }
+        return (PreparedStatement) Proxy.newProxyInstance(
+            StatementCache.class.getClassLoader(), new Class<?>[] {PreparedStatement.class},
+            new CachedStatement(key, statement));
+    }
+
+    /**
+     * Puts a statement back in the cache after resetting it
+     *
+     * @param key Cache key
+     * @param statement Physical statement
+     * @param lastResult Last result set the statement returned, or null
+     */
+    private void giveBack(String key, PreparedStatement statement, ResultSet lastResult) {
+        try {
+            if (lastResult != null) {
+                // Closing the result set resets the statement and ends its read
+                lastResult.close();
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            return;
+        }
+
+        synchronized (this) {
+            if (!closed && !idle.containsKey(key)) {
+                idle.put(key, statement);
+                return;
+            }
+        }
+        closeQuietly(statement);
+    }
+
+    /**
+     * Closes every cached statement and the physical connection
+     *
+     * @throws SQLException if the connection cannot be closed
+     */
+    private void close() throws SQLException {
+        List<PreparedStatement> statements;
+        synchronized (this) {
+            closed = true;
+            statements = new ArrayList<>(idle.values());
+            idle.clear();
+        }
+        for (PreparedStatement statement : statements) {
+            closeQuietly(statement);
+        }
+        target.close();
+    }
+
+    /**
+     * Invokes a method on the wrapped object, rethrowing its own exception
+     *
+     * @param target Wrapped object
+     * @param method Method to invoke
+     * @param args Method arguments
+     * @return Method result
+     * @throws Throwable Exception thrown by the method
+     */
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Closes a statement, ignoring errors
+     *
+     * @param statement Statement to close
+     */
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            // Statement is being thrown away anyway
+        }
+    }
+
+    /**
+     * Statement lent out by the cache.
+     * close() returns the physical statement to the cache; every other
+     * call goes to the physical statement until then.
+     */
+    private final class CachedStatement implements InvocationHandler {
+        private final String key;
+        private final PreparedStatement statement;
+        private ResultSet lastResult;
+        private boolean returned = false;
+
+        private CachedStatement(String key, PreparedStatement statement) {
+            this.key = key;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        giveBack(key, statement, lastResult);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || statement.isClosed();
+                case "getConnection":
+                    return proxy;
+                case "equals":
+                    return self == args[0];
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "toString":
+                    return "CachedStatement[" + statement + "]";
+                default:
+                    if (returned) {
+                        throw new SQLException("Statement is closed");
+                    }
+                    Object result = delegate(statement, method, args);
+                    if (result instanceof ResultSet) {
+                        lastResult = (ResultSet) result;
+                    }
+                    return result;
+            }
+        }
+    }
+}
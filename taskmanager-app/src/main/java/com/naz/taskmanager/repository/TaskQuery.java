@@ -0,0 +1,155 @@
+package com.naz.taskmanager.repository;
+
+import com.naz.taskmanager.model.Category;
+import com.naz.taskmanager.model.Priority;
+import java.util.Date;
+
+/**
+ * @brief Composable filter for task queries.
+ *
+ * @details Each criterion is optional; unset criteria do not restrict the result.
+ * TaskRepository translates the criteria that are set into a single
+ * parameterized WHERE clause, so only matching rows are loaded.
+ *
+ * <pre>
+ * List&lt;TaskmanagerItem&gt; open = taskRepository.find(
+ *     new TaskQuery().priority(Priority.HIGH).completed(false));
+ * </pre>
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+public class TaskQuery {
+    /** @brief Category to match, compared by name ignoring case */
+    private Category category;
+
+    /** @brief Priority to match */
+    private Priority priority;
+
+    /** @brief Completion status to match */
+    private Boolean completed;
+
+    /** @brief Exclusive upper bound for the deadline */
+    private Date deadlineBefore;
+
+    /** @brief Exclusive lower bound for the deadline */
+    private Date deadlineAfter;
+
+    /** @brief ID of the project the task must belong to */
+    private String projectId;
+
+    /** @brief Text that must appear in the task name or description */
+    private String text;
+
+    /**
+     * @brief Restricts the query to a category
+     *
+     * @param category Category to match
+     * @return This query
+     */
+    public TaskQuery category(Category category) {
+        this.category = category;
+        return this;
+    }
+
+    /**
+     * @brief Restricts the query to a priority
+     *
+     * @param priority Priority to match
+     * @return This query
+     */
+    public TaskQuery priority(Priority priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    /**
+     * @brief Restricts the query to completed or pending tasks
+     *
+     * @param completed true for completed tasks, false for pending tasks
+     * @return This query
+     */
+    public TaskQuery completed(boolean completed) {
+        this.completed = completed;
+        return this;
+    }
+
+    /**
+     * @brief Restricts the query to tasks due before a date
+     *
+     * @param date Exclusive upper bound for the deadline
+     * @return This query
+     */
+    public TaskQuery deadlineBefore(Date date) {
+        this.deadlineBefore = date != null ? (Date) date.clone() : null;
+        return this;
+    }
+
+    /**
+     * @brief Restricts the query to tasks due after a date
+     *
+     * @param date Exclusive lower bound for the deadline
+     * @return This query
+     */
+    public TaskQuery deadlineAfter(Date date) {
+        this.deadlineAfter = date != null ? (Date) date.clone() : null;
+        return this;
+    }
+
+    /**
+     * @brief Restricts the query to tasks of a project
+     *
+     * @param projectId ID of the project
+     * @return This query
+     */
+    public TaskQuery project(String projectId) {
+        this.projectId = projectId;
+        return this;
+    }
+
+    /**
+     * @brief Restricts the query to tasks whose name or description contains a text
+     *
+     * @param text Text to search for, ignoring case
+     * @return This query
+     */
+    public TaskQuery text(String text) {
+        this.text = text;
+        return this;
+    }
+
+    /** @return Category to match, or null */
+    public Category getCategory() {
+        return category;
+    }
+
+    /** @return Priority to match, or null */
+    public Priority getPriority() {
+        return priority;
+    }
+
+    /** @return Completion status to match, or null */
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    /** @return Exclusive upper bound for the deadline, or null */
+    public Date getDeadlineBefore() {
+        return deadlineBefore != null ? (Date) deadlineBefore.clone() : null;
+    }
+
+    /** @return Exclusive lower bound for the deadline, or null */
+    public Date getDeadlineAfter() {
+        return deadlineAfter != null ? (Date) deadlineAfter.clone() : null;
+    }
+
+    /** @return ID of the project to match, or null */
+    public String getProjectId() {
+        return projectId;
+    }
+
+    /** @return Text to search for, or null */
+    public String getText() {
+        return text;
+    }
+}
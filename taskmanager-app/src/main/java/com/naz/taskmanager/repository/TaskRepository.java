@@ -5,11 +5,19 @@ import com.naz.taskmanager.model.Priority;
 import com.naz.taskmanager.model.TaskmanagerItem;
 import java.sql.*;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
-import com.naz.taskmanager.util.DateUtils;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.naz.taskmanager.util.DateCodec;
+import com.naz.taskmanager.util.SearchQuery;
 
 /**
  * @brief Repository for TaskmanagerItem entities using SQLite database.
@@ -20,14 +28,36 @@ import com.naz.taskmanager.util.DateUtils;
  * @version 1.0
  */
 public class TaskRepository implements Repository<TaskmanagerItem> {
-    /** @brief Database connection */
-    private final Connection connection;
+    /** @brief Database connection pool access */
+    private final DatabaseConnection dbConnection;
     
     /** @brief Username for user-specific tasks */
     private final String username;
     
-    /** @brief Date format for database operations */
-    private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    /** @brief Task columns with the category name joined in, so rows map without extra lookups */
+    private static final String TASK_SELECT =
+        "SELECT t.id, t.name, t.description, t.category_id, c.name AS category_name, t.deadline, " +
+        "t.priority, t.completed, t.creation_date " +
+        "FROM Tasks t LEFT JOIN Categories c ON c.id = t.category_id ";
+    
+    /** @brief Statement inserting a task row */
+    private static final String INSERT_SQL =
+        "INSERT INTO Tasks (username, name, description, category_id, deadline, " +
+        "priority, completed, creation_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    /** @brief Statement updating a task row */
+    private static final String UPDATE_SQL =
+        "UPDATE Tasks SET name = ?, description = ?, category_id = ?, " +
+        "deadline = ?, priority = ?, completed = ? WHERE id = ? AND username = ?";
+    
+    /** @brief BM25 weight of a name match relative to a description match in search() */
+    private static final String SEARCH_NAME_WEIGHT = "10.0";
+    
+    /** @brief Category shared by every task read back without a stored category */
+    private static final Category UNCATEGORIZED = new Category("Uncategorized");
+    
+    /** @brief Deletes one of the user's tasks by ID */
+    private static final String DELETE_SQL = "DELETE FROM Tasks WHERE id = ? AND username = ?";
     
     /**
      * @brief Constructor for TaskRepository
@@ -35,30 +65,38 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
      * @param username Username for user-specific tasks
      */
     public TaskRepository(String username) {
-        this.connection = DatabaseConnection.getInstance(System.out).getConnection();
+        this.dbConnection = DatabaseConnection.getInstance(System.out);
         this.username = username;
     }
     
     /**
      * @brief Gets or creates a category ID for a category in the database
      * 
+     * @param connection Connection to run the lookup on
      * @param category Category object
      * @return ID of the category in the database
      * @throws SQLException if a database error occurs
      */
-    private int getOrCreateCategoryId(Category category) throws SQLException {
+    private int getOrCreateCategoryId(Connection connection, Category category) throws SQLException {
         if (category == null) {
             return -1;
         }
         
-        // First try to find the existing category
-        String selectSql = "SELECT id FROM Categories WHERE name = ?";
+        // Categories seen before resolve without a query
+        Integer internedId = CategoryRepository.getInternedId(category.getName());
+        if (internedId != null) {
+            return internedId;
+        }
+        
+        // First try to find the existing category, ignoring case like the interned lookup
+        String selectSql = "SELECT id FROM Categories WHERE name = ? COLLATE NOCASE ORDER BY id LIMIT 1";
         try (PreparedStatement stmt = connection.prepareStatement(selectSql)) {
             stmt.setString(1, category.getName());
             
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return rs.getInt("id");
+                    // A row inserted below is not interned, as its transaction may still roll back
+                    return CategoryRepository.internRow(rs.getInt("id"), category.getName()).getId();
                 }
             }
         }
@@ -80,72 +118,267 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
     }
     
     /**
-     * @brief Gets a category by its ID from the database
+     * @brief Saves a new task to the database
      * 
-     * @param categoryId Category ID
-     * @return Category object
-     * @throws SQLException if a database error occurs
+     * @param task Task to save
      */
-    private Category getCategoryById(int categoryId) throws SQLException {
-        if (categoryId < 0) {
-            return new Category("Uncategorized");
-        }
-        
-        String sql = "SELECT name FROM Categories WHERE id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, categoryId);
+    @Override
+    public void save(TaskmanagerItem task) {
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            bindInsert(stmt, task, getOrCreateCategoryId(connection, task.getCategory()));
+            stmt.executeUpdate();
             
-            try (ResultSet rs = stmt.executeQuery()) {
+            // Set the generated ID back to the task
+            try (ResultSet rs = stmt.getGeneratedKeys()) {
                 if (rs.next()) {
-                    return new Category(rs.getString("name"));
+                    task.setId(String.valueOf(rs.getLong(1)));
                 }
             }
+            
+            System.out.println("Task saved successfully: " + task.getName());
+        } catch (SQLException e) {
+            System.out.println("Error saving task: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
-        
-        return new Category("Uncategorized");
     }
     
     /**
-     * @brief Saves a new task to the database
+     * @brief Saves several new tasks in one transaction
      * 
-     * @param task Task to save
+     * @details Inserts are sent as a single JDBC batch and committed once, and
+     * category IDs are resolved once per distinct category rather than per task.
+     * Nothing is saved if any insert fails. Inside a caller's transaction the
+     * inserts are left for the caller to commit.
+     * 
+     * @param tasks Tasks to save
+     * @return Generated IDs in the same order as tasks, empty if the batch failed
      */
     @Override
-    public void save(TaskmanagerItem task) {
-        String sql = "INSERT INTO Tasks (username, name, description, category_id, deadline, " +
-                     "priority, completed, creation_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    public List<String> saveAll(Collection<TaskmanagerItem> tasks) {
+        List<String> ids = new ArrayList<>();
+        if (tasks == null || tasks.isEmpty()) {
+            return ids;
+        }
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            int categoryId = getOrCreateCategoryId(task.getCategory());
+        Connection connection = dbConnection.getConnection();
+        boolean autoCommit = true;
+        Savepoint savepoint = null;
+        try {
+            autoCommit = connection.getAutoCommit();
+            savepoint = dbConnection.beginWork(connection, autoCommit);
             
-            stmt.setString(1, username);
-            stmt.setString(2, task.getName());
-            stmt.setString(3, task.getDescription());
-            stmt.setInt(4, categoryId);
-            
-            if (task.getDeadline() != null) {
-                stmt.setString(5, dateFormat.format(task.getDeadline()));
-            } else {
-                stmt.setNull(5, Types.VARCHAR);
+            Map<String, Integer> categoryIds = new HashMap<>();
+            long lastId;
+            try (PreparedStatement stmt = connection.prepareStatement(INSERT_SQL)) {
+                for (TaskmanagerItem task : tasks) {
+                    bindInsert(stmt, task, getCachedCategoryId(connection, task.getCategory(), categoryIds));
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
             }
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+                lastId = rs.next() ? rs.getLong(1) : 0;
+            }
+            dbConnection.commitWork(connection, savepoint);
             
-            stmt.setInt(6, task.getPriority().ordinal());
-            stmt.setInt(7, task.isCompleted() ? 1 : 0);
-            stmt.setString(8, dateFormat.format(task.getCreationDate()));
-            
-            stmt.executeUpdate();
+            // AUTOINCREMENT ids are assigned consecutively while the transaction holds the write lock
+            long id = lastId - tasks.size() + 1;
+            for (TaskmanagerItem task : tasks) {
+                String generatedId = String.valueOf(id++);
+                task.setId(generatedId);
+                ids.add(generatedId);
+            }
+            System.out.println("Tasks saved successfully: " + ids.size());
+        } catch (SQLException e) {
+            dbConnection.rollbackWorkQuietly(connection, savepoint);
+            ids.clear();
+            System.out.println("Error saving tasks: " + e.getMessage());
+        } finally {
+            if (autoCommit) {
+                dbConnection.restoreAutoCommit(connection, true);
+            }
+            dbConnection.releaseConnection();
+        }
+        
+        return ids;
+    }
+    
+    /**
+     * @brief Updates several tasks in one transaction
+     * 
+     * @details Updates are sent as a single JDBC batch and committed once.
+     * Nothing is updated if any statement fails. Inside a caller's transaction
+     * the updates are left for the caller to commit.
+     * 
+     * @param tasks Tasks to update
+     */
+    @Override
+    public void updateAll(Collection<TaskmanagerItem> tasks) {
+        if (tasks == null || tasks.isEmpty()) {
+            return;
+        }
+        
+        Connection connection = dbConnection.getConnection();
+        boolean autoCommit = true;
+        Savepoint savepoint = null;
+        try {
+            autoCommit = connection.getAutoCommit();
+            savepoint = dbConnection.beginWork(connection, autoCommit);
             
-            // Set the generated ID back to the task
-            try (ResultSet rs = stmt.getGeneratedKeys()) {
-                if (rs.next()) {
-                    task.setId(String.valueOf(rs.getLong(1)));
+            Map<String, Integer> categoryIds = new HashMap<>();
+            try (PreparedStatement stmt = connection.prepareStatement(UPDATE_SQL)) {
+                for (TaskmanagerItem task : tasks) {
+                    bindUpdate(stmt, task, getCachedCategoryId(connection, task.getCategory(), categoryIds));
+                    stmt.addBatch();
                 }
+                stmt.executeBatch();
+            }
+            dbConnection.commitWork(connection, savepoint);
+            System.out.println("Tasks updated successfully: " + tasks.size());
+        } catch (SQLException | NumberFormatException e) {
+            dbConnection.rollbackWorkQuietly(connection, savepoint);
+            System.out.println("Error updating tasks: " + e.getMessage());
+        } finally {
+            if (autoCommit) {
+                dbConnection.restoreAutoCommit(connection, true);
             }
+            dbConnection.releaseConnection();
+        }
+    }
+    
+    /**
+     * @brief Applies a group of updates and deletions in one transaction
+     * 
+     * @details Used to group-commit queued task mutations: updates and deletions
+     * are each sent as a JDBC batch and committed together. Nothing is
+     * written if any statement fails. Inside a caller's transaction the
+     * changes are left for the caller to commit.
+     * 
+     * @param updates Tasks to update
+     * @param deletedIds IDs of tasks to delete
+     * @return true if the changes were written
+     */
+    public boolean applyChanges(Collection<TaskmanagerItem> updates, Collection<String> deletedIds) {
+        if (updates.isEmpty() && deletedIds.isEmpty()) {
+            return true;
+        }
+        
+        Connection connection = dbConnection.getConnection();
+        boolean autoCommit = true;
+        Savepoint savepoint = null;
+        try {
+            autoCommit = connection.getAutoCommit();
+            savepoint = dbConnection.beginWork(connection, autoCommit);
             
-            System.out.println("Task saved successfully: " + task.getName());
-        } catch (SQLException e) {
-            System.out.println("Error saving task: " + e.getMessage());
+            if (!updates.isEmpty()) {
+                Map<String, Integer> categoryIds = new HashMap<>();
+                try (PreparedStatement stmt = connection.prepareStatement(UPDATE_SQL)) {
+                    for (TaskmanagerItem task : updates) {
+                        bindUpdate(stmt, task, getCachedCategoryId(connection, task.getCategory(), categoryIds));
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                }
+            }
+            if (!deletedIds.isEmpty()) {
+                try (PreparedStatement stmt = connection.prepareStatement(DELETE_SQL)) {
+                    for (String id : deletedIds) {
+                        stmt.setLong(1, Long.parseLong(id));
+                        stmt.setString(2, username);
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                }
+            }
+            dbConnection.commitWork(connection, savepoint);
+            System.out.println("Task changes committed: " + updates.size() + " updated, "
+                + deletedIds.size() + " deleted");
+            return true;
+        } catch (SQLException | NumberFormatException e) {
+            dbConnection.rollbackWorkQuietly(connection, savepoint);
+            System.out.println("Error committing task changes: " + e.getMessage());
+            return false;
+        } finally {
+            if (autoCommit) {
+                dbConnection.restoreAutoCommit(connection, true);
+            }
+            dbConnection.releaseConnection();
+        }
+    }
+    
+    /**
+     * @brief Resolves a category ID, reusing IDs already resolved in the same batch
+     * 
+     * @param connection Connection to run the lookup on
+     * @param category Category object
+     * @param categoryIds IDs resolved so far, keyed by category name
+     * @return ID of the category in the database
+     * @throws SQLException if a database error occurs
+     */
+    private int getCachedCategoryId(Connection connection, Category category,
+                                    Map<String, Integer> categoryIds) throws SQLException {
+        if (category == null) {
+            return -1;
         }
+        Integer id = categoryIds.get(category.getName());
+        if (id == null) {
+            id = getOrCreateCategoryId(connection, category);
+            categoryIds.put(category.getName(), id);
+        }
+        return id;
+    }
+    
+    /**
+     * @brief Binds the INSERT_SQL parameters for a task
+     * 
+     * @param stmt Statement prepared from INSERT_SQL
+     * @param task Task to insert
+     * @param categoryId ID of the task's category
+     * @throws SQLException if a parameter cannot be set
+     */
+    private void bindInsert(PreparedStatement stmt, TaskmanagerItem task, int categoryId) throws SQLException {
+        stmt.setString(1, username);
+        stmt.setString(2, task.getName());
+        stmt.setString(3, task.getDescription());
+        stmt.setInt(4, categoryId);
+        
+        if (task.getDeadline() != null) {
+            stmt.setLong(5, task.getDeadline().getTime());
+        } else {
+            stmt.setNull(5, Types.INTEGER);
+        }
+        
+        stmt.setInt(6, task.getPriority().ordinal());
+        stmt.setInt(7, task.isCompleted() ? 1 : 0);
+        stmt.setLong(8, task.getCreationDate().getTime());
+    }
+    
+    /**
+     * @brief Binds the UPDATE_SQL parameters for a task
+     * 
+     * @param stmt Statement prepared from UPDATE_SQL
+     * @param task Task to update
+     * @param categoryId ID of the task's category
+     * @throws SQLException if a parameter cannot be set
+     */
+    private void bindUpdate(PreparedStatement stmt, TaskmanagerItem task, int categoryId) throws SQLException {
+        stmt.setString(1, task.getName());
+        stmt.setString(2, task.getDescription());
+        stmt.setInt(3, categoryId);
+        
+        if (task.getDeadline() != null) {
+            stmt.setLong(4, task.getDeadline().getTime());
+        } else {
+            stmt.setNull(4, Types.INTEGER);
+        }
+        
+        stmt.setInt(5, task.getPriority().ordinal());
+        stmt.setInt(6, task.isCompleted() ? 1 : 0);
+        stmt.setLong(7, Long.parseLong(task.getId()));
+        stmt.setString(8, username);
     }
     
     /**
@@ -156,9 +389,9 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
      */
     @Override
     public TaskmanagerItem getById(String id) {
-        String sql = "SELECT id, name, description, category_id, deadline, priority, " +
-                     "completed, creation_date FROM Tasks WHERE id = ? AND username = ?";
+        String sql = TASK_SELECT + "WHERE t.id = ? AND t.username = ?";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setLong(1, Long.parseLong(id));
             stmt.setString(2, username);
@@ -170,11 +403,42 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
             }
         } catch (SQLException | ParseException e) {
             System.out.println("Error getting task by ID: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
         
         return null;
     }
     
+    /**
+     * @brief Gets the project membership of the user's tasks
+     * 
+     * @return IDs of the tasks in each project, keyed by project ID
+     */
+    public Map<String, List<String>> getProjectTaskIds() {
+        Map<String, List<String>> projectTaskIds = new HashMap<>();
+        String sql = "SELECT pt.project_id, pt.task_id FROM Project_Tasks pt " +
+                     "JOIN Tasks t ON t.id = pt.task_id WHERE t.username = ?";
+        
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, username);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    projectTaskIds.computeIfAbsent(String.valueOf(rs.getLong("project_id")), k -> new ArrayList<>())
+                        .add(String.valueOf(rs.getLong("task_id")));
+                }
+            }
+        } catch (SQLException e) {
+            System.out.println("Error getting project tasks: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+        
+        return projectTaskIds;
+    }
+    
     /**
      * @brief Gets tasks with deadlines in a specified date range
      * 
@@ -184,13 +448,13 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
      */
     public List<TaskmanagerItem> getTasksInDateRange(Date startDate, Date endDate) {
         List<TaskmanagerItem> tasksInRange = new ArrayList<>();
-        String sql = "SELECT id, name, description, category_id, deadline, priority, " + 
-                     "completed, creation_date FROM Tasks WHERE username = ? AND deadline BETWEEN ? AND ?";
+        String sql = TASK_SELECT + "WHERE t.username = ? AND t.deadline BETWEEN ? AND ?";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setString(1, username);
-            stmt.setString(2, DateUtils.toSQLiteFormat(startDate));
-            stmt.setString(3, DateUtils.toSQLiteFormat(endDate));
+            stmt.setLong(2, startDate.getTime());
+            stmt.setLong(3, endDate.getTime());
             
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
@@ -199,21 +463,166 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
             }
         } catch (SQLException | ParseException e) {
             System.out.println("Error getting tasks in date range: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
         
         return tasksInRange;
     }
     
+    /**
+     * @brief Searches the user's tasks by name and description
+     * 
+     * @details Uses the Tasks_fts full-text index. Every word of the query must
+     * start a word of the task's name or description, ignoring case and
+     * diacritics. Results are ranked by BM25 with name matches weighted above
+     * description matches.
+     * 
+     * @param query Search text as typed by the user
+     * @param limit Maximum number of tasks to return
+     * @return Matching tasks, best match first; empty if the query has no words
+     */
+    public List<TaskmanagerItem> search(String query, int limit) {
+        List<TaskmanagerItem> tasks = new ArrayList<>();
+        String match = SearchQuery.toFtsMatch(query);
+        if (match == null || limit <= 0) {
+            return tasks;
+        }
+        
+        String sql = "SELECT t.id, t.name, t.description, t.category_id, c.name AS category_name, t.deadline, " +
+                     "t.priority, t.completed, t.creation_date " +
+                     "FROM (SELECT rowid AS task_id, bm25(Tasks_fts, " + SEARCH_NAME_WEIGHT + ", 1.0) AS score " +
+                     "FROM Tasks_fts WHERE Tasks_fts MATCH ?) m " +
+                     "JOIN Tasks t ON t.id = m.task_id " +
+                     "LEFT JOIN Categories c ON c.id = t.category_id " +
+                     "WHERE t.username = ? ORDER BY m.score, t.id LIMIT ?";
+        
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, match);
+            stmt.setString(2, username);
+            stmt.setInt(3, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(createTaskFromResultSet(rs));
+                }
+            }
+        } catch (SQLException | ParseException e) {
+            System.out.println("Error searching tasks: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+        
+        return tasks;
+    }
+    
+    /**
+     * @brief Gets the tasks matching a query
+     * 
+     * @details The query criteria are translated into a single parameterized
+     * WHERE clause, so filtering happens in SQLite rather than in memory.
+     * 
+     * @param query Criteria the tasks must match
+     * @return List of matching tasks
+     */
+    public List<TaskmanagerItem> find(TaskQuery query) {
+        List<TaskmanagerItem> tasks = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        String sql = TASK_SELECT + buildWhereClause(query, params);
+        
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(createTaskFromResultSet(rs));
+                }
+            }
+        } catch (SQLException | ParseException e) {
+            System.out.println("Error finding tasks: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+        
+        return tasks;
+    }
+    
+    /**
+     * @brief Builds the WHERE clause for a task query
+     * 
+     * @param query Criteria the tasks must match
+     * @param params List receiving the values to bind, in placeholder order
+     * @return WHERE clause restricted to the current user
+     */
+    private String buildWhereClause(TaskQuery query, List<Object> params) {
+        StringBuilder where = new StringBuilder("WHERE t.username = ?");
+        params.add(username);
+        
+        Category category = query.getCategory();
+        if (category != null) {
+            // Tasks without a stored category are read back as "Uncategorized"
+            if (UNCATEGORIZED.getName().equalsIgnoreCase(category.getName())) {
+                where.append(" AND (c.name IS NULL OR c.name = ? COLLATE NOCASE)");
+            } else {
+                where.append(" AND c.name = ? COLLATE NOCASE");
+            }
+            params.add(category.getName());
+        }
+        
+        if (query.getPriority() != null) {
+            where.append(" AND t.priority = ?");
+            params.add(query.getPriority().ordinal());
+        }
+        
+        if (query.getCompleted() != null) {
+            where.append(" AND t.completed = ?");
+            params.add(query.getCompleted() ? 1 : 0);
+        }
+        
+        if (query.getDeadlineBefore() != null) {
+            where.append(" AND t.deadline < ?");
+            params.add(query.getDeadlineBefore().getTime());
+        }
+        
+        if (query.getDeadlineAfter() != null) {
+            where.append(" AND t.deadline > ?");
+            params.add(query.getDeadlineAfter().getTime());
+        }
+        
+        if (query.getProjectId() != null) {
+            where.append(" AND t.id IN (SELECT task_id FROM Project_Tasks WHERE project_id = ?)");
+            params.add(query.getProjectId());
+        }
+        
+        String text = query.getText();
+        if (text != null && !text.trim().isEmpty()) {
+            String pattern = "%" + text.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            where.append(" AND (t.name LIKE ? ESCAPE '\\' OR t.description LIKE ? ESCAPE '\\')");
+            params.add(pattern);
+            params.add(pattern);
+        }
+        
+        return where.toString();
+    }
+    
     /**
      * @brief Creates a TaskmanagerItem object from a database ResultSet
      * 
-     * @param rs ResultSet containing task data
+     * @param rs ResultSet containing task data, including the joined category_name
      * @return TaskmanagerItem object
      * @throws SQLException if a database error occurs
      * @throws ParseException if date parsing fails
      */
     private TaskmanagerItem createTaskFromResultSet(ResultSet rs) throws SQLException, ParseException {
-        Category category = getCategoryById(rs.getInt("category_id"));
+        String categoryName = rs.getString("category_name");
+        // Rows of the same category share one instance, as do rows without a category
+        Category category = categoryName != null
+            ? CategoryRepository.internRow(rs.getInt("category_id"), categoryName)
+            : UNCATEGORIZED;
         TaskmanagerItem task = new TaskmanagerItem(
             rs.getString("name"),
             rs.getString("description"),
@@ -222,22 +631,14 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
         
         task.setId(String.valueOf(rs.getLong("id")));
         
-        String deadlineStr = rs.getString("deadline");
-        if (deadlineStr != null) {
-            task.setDeadline(dateFormat.parse(deadlineStr));
-        }
+        task.setDeadline(DateCodec.fromDbValue(rs.getObject("deadline")));
         
         int priorityOrdinal = rs.getInt("priority");
         task.setPriority(Priority.values()[priorityOrdinal]);
         
         task.setCompleted(rs.getInt("completed") == 1);
         
-        String creationDateStr = rs.getString("creation_date");
-        if (creationDateStr != null) {
-            Date creationDate = dateFormat.parse(creationDateStr);
-            // We need a method to set the creation date which doesn't exist in the current model
-            // For now, we'll leave it as is
-        }
+        // creation_date is not mapped: the model has no setter for the creation date
         
         return task;
     }
@@ -250,9 +651,9 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
     @Override
     public List<TaskmanagerItem> getAll() {
         List<TaskmanagerItem> tasks = new ArrayList<>();
-        String sql = "SELECT id, name, description, category_id, deadline, priority, " + 
-                     "completed, creation_date FROM Tasks WHERE username = ?";
+        String sql = TASK_SELECT + "WHERE t.username = ?";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setString(1, username);
             
@@ -263,38 +664,127 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
             }
         } catch (SQLException | ParseException e) {
             System.out.println("Error getting all tasks: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
         
         return tasks;
     }
     
     /**
-     * @brief Updates an existing task in the database
+     * @brief Gets one page of the current user's tasks in ID order
      * 
-     * @param task Task to update
+     * @details Uses keyset pagination: the page starts right after the given ID,
+     * so each page is an index range scan no matter how deep the caller pages.
+     * 
+     * @param afterId ID of the last task of the previous page, or null for the first page
+     * @param limit Maximum number of tasks to return
+     * @return Tasks with IDs greater than afterId, at most limit of them
      */
-    @Override
-    public void update(TaskmanagerItem task) {
-        String sql = "UPDATE Tasks SET name = ?, description = ?, category_id = ?, " +
-                     "deadline = ?, priority = ?, completed = ? WHERE id = ? AND username = ?";
+    public List<TaskmanagerItem> getPage(String afterId, int limit) {
+        List<TaskmanagerItem> tasks = new ArrayList<>();
+        if (limit <= 0) {
+            return tasks;
+        }
+        String sql = TASK_SELECT + "WHERE t.username = ? AND t.id > ? ORDER BY t.id LIMIT ?";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            int categoryId = getOrCreateCategoryId(task.getCategory());
-            
-            stmt.setString(1, task.getName());
-            stmt.setString(2, task.getDescription());
-            stmt.setInt(3, categoryId);
+            stmt.setString(1, username);
+            stmt.setLong(2, afterId != null ? Long.parseLong(afterId) : 0L);
+            stmt.setInt(3, limit);
             
-            if (task.getDeadline() != null) {
-                stmt.setString(4, dateFormat.format(task.getDeadline()));
-            } else {
-                stmt.setNull(4, Types.VARCHAR);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(createTaskFromResultSet(rs));
+                }
             }
-            
-            stmt.setInt(5, task.getPriority().ordinal());
-            stmt.setInt(6, task.isCompleted() ? 1 : 0);
-            stmt.setLong(7, Long.parseLong(task.getId()));
-            stmt.setString(8, username);
+        } catch (SQLException | ParseException | NumberFormatException e) {
+            System.out.println("Error getting task page: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
+        }
+        
+        return tasks;
+    }
+    
+    /**
+     * @brief Streams the current user's tasks in ID order
+     * 
+     * @details Rows are mapped lazily as the stream is consumed. The stream keeps
+     * the calling thread's connection lease and the open ResultSet until it is
+     * closed, so it must be closed (ideally with try-with-resources) on the
+     * thread that opened it.
+     * 
+     * @return Lazily populated stream of tasks
+     */
+    public Stream<TaskmanagerItem> stream() {
+        String sql = TASK_SELECT + "WHERE t.username = ? ORDER BY t.id";
+        
+        Connection connection = dbConnection.getConnection();
+        PreparedStatement stmt = null;
+        ResultSet rs;
+        try {
+            stmt = connection.prepareStatement(sql);
+            stmt.setString(1, username);
+            rs = stmt.executeQuery();
+        } catch (SQLException e) {
+            System.out.println("Error streaming tasks: " + e.getMessage());
+            closeStatement(stmt);
+            dbConnection.releaseConnection();
+            return Stream.empty();
+        }
+        
+        PreparedStatement statement = stmt;
+        Spliterator<TaskmanagerItem> rows = new Spliterators.AbstractSpliterator<TaskmanagerItem>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super TaskmanagerItem> action) {
+                try {
+                    if (!rs.next()) {
+                        return false;
+                    }
+                    action.accept(createTaskFromResultSet(rs));
+                    return true;
+                } catch (SQLException | ParseException e) {
+                    System.out.println("Error streaming tasks: " + e.getMessage());
+                    return false;
+                }
+            }
+        };
+        
+        return StreamSupport.stream(rows, false).onClose(() -> {
+            closeStatement(statement);
+            dbConnection.releaseConnection();
+        });
+    }
+    
+    /**
+     * @brief Closes a statement and its result set, ignoring errors
+     * 
+     * @param stmt Statement to close, may be null
+     */
+    private void closeStatement(Statement stmt) {
+        if (stmt == null) {
+            return;
+        }
+        try {
+            stmt.close();
+        } catch (SQLException e) {
+            System.out.println("Error closing statement: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * @brief Updates an existing task in the database
+     * 
+     * @param task Task to update
+     */
+    @Override
+    public void update(TaskmanagerItem task) {
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(UPDATE_SQL)) {
+            bindUpdate(stmt, task, getOrCreateCategoryId(connection, task.getCategory()));
             
             int rowsAffected = stmt.executeUpdate();
             if (rowsAffected > 0) {
@@ -304,6 +794,8 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
             }
         } catch (SQLException e) {
             System.out.println("Error updating task: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
     }
     
@@ -314,9 +806,8 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
      */
     @Override
     public void delete(String id) {
-        String sql = "DELETE FROM Tasks WHERE id = ? AND username = ?";
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(DELETE_SQL)) {
             stmt.setLong(1, Long.parseLong(id));
             stmt.setString(2, username);
             
@@ -328,6 +819,8 @@ public class TaskRepository implements Repository<TaskmanagerItem> {
             }
         } catch (SQLException e) {
             System.out.println("Error deleting task: " + e.getMessage());
+        } finally {
+            dbConnection.releaseConnection();
         }
     }
 }
\ No newline at end of file
@@ -3,21 +3,40 @@ package com.naz.taskmanager.repository;
 import com.naz.taskmanager.User;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.io.PrintStream;
 
 /**
  * Repository for User entities using SQLite database.
  * Implements the Repository interface for user data persistence.
+ * Passwords are stored as salted PBKDF2 hashes; a password stored as plain
+ * text before hashing was introduced is rehashed on the user's next login.
  * 
  * @author TaskManager Team
  * @version 1.0
  */
 public class UserRepository implements Repository<User> {
-    /** Database connection */
-    private final Connection connection;
     private final PrintStream out;
     private final DatabaseConnection dbConnection;
+
+    /** Counters of logins through every UserRepository */
+    private static final LoginMetrics LOGIN_METRICS = new LoginMetrics();
+
+    /** Password hashes and verified-login cache */
+    private final PasswordHasher hasher = PasswordHasher.getDefault();
+
+    /** Inserts a user or replaces the password and email of an existing one */
+    private static final String UPSERT_SQL =
+        "INSERT INTO Users (username, password, email) VALUES (?, ?, ?) " +
+        "ON CONFLICT(username) DO UPDATE SET password = excluded.password, email = excluded.email";
+
+    /** Inserts a user unless the username is taken */
+    private static final String INSERT_IF_ABSENT_SQL =
+        "INSERT INTO Users (username, password, email) VALUES (?, ?, ?) ON CONFLICT(username) DO NOTHING";
+
+    /** Number of upserts sent per JDBC batch by saveAll */
+    static final int IMPORT_BATCH_SIZE = 500;
     
     /**
      * Constructor for UserRepository
@@ -25,43 +44,133 @@ public class UserRepository implements Repository<User> {
     public UserRepository(PrintStream out) {
         this.out = out;
         this.dbConnection = DatabaseConnection.getInstance(out);
-        this.connection = this.dbConnection.getConnection();
     }
     
     /**
      * Saves a new user to the database.
-     * Updates the user if it already exists.
+     * Updates the user if it already exists, in a single upsert statement.
      * 
      * @param user User to save
      */
     @Override
     public void save(User user) {
-        // First check if user already exists
-        if (userExists(user.getUsername())) {
-            try {
-                // Update user if it exists
-                update(user);
-                System.out.println("User updated successfully: " + user.getUsername());
-                return;
-            } catch (Exception e) {
-                System.out.println("Error updating user: " + e.getMessage());
-                throw new RuntimeException("Error updating user", e);
-            }
-        }
-        
-        String sql = "INSERT INTO Users (username, password, email) VALUES (?, ?, ?)";
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, user.getUsername());
-            stmt.setString(2, user.getPassword());
-            stmt.setString(3, user.getEmail());
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(UPSERT_SQL)) {
+            bind(stmt, user, hasher.hashIfPlain(user.getPassword()));
             
             stmt.executeUpdate();
             System.out.println("User saved successfully: " + user.getUsername());
         } catch (SQLException e) {
             System.out.println("Error saving user: " + e.getMessage());
             throw new RuntimeException("Error saving user", e);
+        } finally {
+            dbConnection.releaseConnection();
+        }
+    }
+    
+    /**
+     * Saves a user unless the username is already taken.
+     * Checking and inserting is one statement, so two registrations of the
+     * same name cannot both succeed.
+     * 
+     * @param user User to save
+     * @return true if the user was inserted, false if the username exists
+     */
+    public boolean saveIfAbsent(User user) {
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(INSERT_IF_ABSENT_SQL)) {
+            bind(stmt, user, hasher.hashIfPlain(user.getPassword()));
+            
+            if (stmt.executeUpdate() > 0) {
+                System.out.println("User saved successfully: " + user.getUsername());
+                return true;
+            }
+            return false;
+        } catch (SQLException e) {
+            System.out.println("Error saving user: " + e.getMessage());
+            throw new RuntimeException("Error saving user", e);
+        } finally {
+            dbConnection.releaseConnection();
+        }
+    }
+    
+    /**
+     * Saves several users, updating any that already exist.
+     * Passwords are hashed before the transaction starts, then the upserts
+     * are sent in JDBC batches of IMPORT_BATCH_SIZE and committed once.
+     * Nothing is saved if any statement fails. Inside a caller's transaction
+     * the upserts are left for the caller to commit.
+     * 
+     * @param users Users to save
+     * @return Usernames of the saved users, in the same order as users
+     */
+    @Override
+    public List<String> saveAll(Collection<User> users) {
+        List<String> usernames = new ArrayList<>();
+        if (users == null || users.isEmpty()) {
+            return usernames;
+        }
+        
+        // Hashing is slow; keep it outside the write transaction
+        List<String> hashes = new ArrayList<>(users.size());
+        for (User user : users) {
+            hashes.add(hasher.hashIfPlain(user.getPassword()));
+        }
+        
+        Connection connection = dbConnection.getConnection();
+        boolean autoCommit = true;
+        Savepoint savepoint = null;
+        try {
+            autoCommit = connection.getAutoCommit();
+            savepoint = dbConnection.beginWork(connection, autoCommit);
+            
+            try (PreparedStatement stmt = connection.prepareStatement(UPSERT_SQL)) {
+                int pending = 0;
+                int i = 0;
+                for (User user : users) {
+                    bind(stmt, user, hashes.get(i++));
+                    stmt.addBatch();
+                    if (++pending == IMPORT_BATCH_SIZE) {
+                        stmt.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    stmt.executeBatch();
+                }
+            }
+            dbConnection.commitWork(connection, savepoint);
+            
+            for (User user : users) {
+                usernames.add(user.getUsername());
+            }
+            System.out.println("Users saved successfully: " + usernames.size());
+        } catch (SQLException e) {
+            dbConnection.rollbackWorkQuietly(connection, savepoint);
+            System.out.println("Error saving users: " + e.getMessage());
+            throw new RuntimeException("Error saving users", e);
+        } finally {
+            if (autoCommit) {
+                dbConnection.restoreAutoCommit(connection, true);
+            }
+            dbConnection.releaseConnection();
         }
+        
+        return usernames;
+    }
+    
+    /**
+     * Binds username, password hash and email to an insert statement
+     * 
+     * @param stmt Upsert or insert statement
+     * @param user User to bind
+     * @param passwordHash Hash of the user's password
+     * @throws SQLException if a database error occurs
+     */
+    private void bind(PreparedStatement stmt, User user, String passwordHash) throws SQLException {
+        stmt.setString(1, user.getUsername());
+        stmt.setString(2, passwordHash);
+        stmt.setString(3, user.getEmail());
     }
     
     /**
@@ -74,6 +183,7 @@ public class UserRepository implements Repository<User> {
     public User getById(String username) {
         String sql = "SELECT username, password, email FROM Users WHERE username = ?";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setString(1, username);
             
@@ -89,6 +199,8 @@ public class UserRepository implements Repository<User> {
         } catch (SQLException e) {
             System.out.println("Error getting user by ID: " + e.getMessage());
             throw new RuntimeException("Error getting user by ID", e);
+        } finally {
+            dbConnection.releaseConnection();
         }
         
         return null;
@@ -104,6 +216,7 @@ public class UserRepository implements Repository<User> {
         List<User> users = new ArrayList<>();
         String sql = "SELECT username, password, email FROM Users";
         
+        Connection connection = dbConnection.getConnection();
         try (Statement stmt = connection.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -117,6 +230,8 @@ public class UserRepository implements Repository<User> {
         } catch (SQLException e) {
             System.out.println("Error getting all users: " + e.getMessage());
             throw new RuntimeException("Error getting all users", e);
+        } finally {
+            dbConnection.releaseConnection();
         }
         
         return users;
@@ -131,8 +246,9 @@ public class UserRepository implements Repository<User> {
     public void update(User user) {
         String sql = "UPDATE Users SET password = ?, email = ? WHERE username = ?";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, user.getPassword());
+            stmt.setString(1, hasher.hashIfPlain(user.getPassword()));
             stmt.setString(2, user.getEmail());
             stmt.setString(3, user.getUsername());
             
@@ -146,6 +262,8 @@ public class UserRepository implements Repository<User> {
         } catch (SQLException e) {
             System.out.println("Error updating user: " + e.getMessage());
             throw new RuntimeException("Error updating user", e);
+        } finally {
+            dbConnection.releaseConnection();
         }
     }
     
@@ -158,10 +276,13 @@ public class UserRepository implements Repository<User> {
     public void delete(String username) {
         String sql = "DELETE FROM Users WHERE username = ?";
         
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setString(1, username);
             
             int rowsAffected = stmt.executeUpdate();
+            // The user's settings row is deleted with the user
+            SettingsRepository.evict(username);
             if (rowsAffected > 0) {
                 System.out.println("User deleted successfully: " + username);
             } else {
@@ -170,6 +291,8 @@ public class UserRepository implements Repository<User> {
         } catch (SQLException e) {
             System.out.println("Error deleting user: " + e.getMessage());
             throw new RuntimeException("Error deleting user", e);
+        } finally {
+            dbConnection.releaseConnection();
         }
     }
     
@@ -181,27 +304,12 @@ public class UserRepository implements Repository<User> {
      * @return User if authenticated, null otherwise
      */
     public User authenticateUser(String username, String password) {
-        String sql = "SELECT username, password, email FROM Users WHERE username = ? AND password = ?";
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, username);
-            stmt.setString(2, password);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return new User(
-                        rs.getString("username"),
-                        rs.getString("password"),
-                        rs.getString("email")
-                    );
-                }
-            }
+        try {
+            return login(username, password);
         } catch (SQLException e) {
             System.out.println("Error authenticating user: " + e.getMessage());
             throw new RuntimeException("Error authenticating user", e);
         }
-        
-        return null;
     }
     
     /**
@@ -212,6 +320,7 @@ public class UserRepository implements Repository<User> {
      */
     public boolean userExists(String username) {
         String sql = "SELECT username FROM Users WHERE username = ?";
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
             pstmt.setString(1, username);
             try (ResultSet rs = pstmt.executeQuery()) {
@@ -220,35 +329,126 @@ public class UserRepository implements Repository<User> {
         } catch (SQLException e) {
             out.println("Kullanıcı sorgulanamadı: " + e.getMessage());
             return false;
+        } finally {
+            dbConnection.releaseConnection();
         }
     }
 
     // Kullanıcı ekle (register)
     public boolean addUser(String username, String password) {
         String sql = "INSERT INTO Users (username, password) VALUES (?, ?)";
+        Connection connection = dbConnection.getConnection();
         try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
             pstmt.setString(1, username);
-            pstmt.setString(2, password);
+            pstmt.setString(2, hasher.hashIfPlain(password));
             pstmt.executeUpdate();
             return true;
         } catch (SQLException e) {
             out.println("Kullanıcı eklenemedi: " + e.getMessage());
             return false;
+        } finally {
+            dbConnection.releaseConnection();
+        }
+    }
+
+    // Kullanıcı adı ve şifre doğru mu? (login)
+    public boolean validateUser(String username, String password) {
+        try {
+            return login(username, password) != null;
+        } catch (SQLException e) {
+            out.println("Kullanıcı doğrulanamadı: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Gets the login counters and latency histogram
+     * 
+     * @return Metrics shared by every UserRepository
+     */
+    public static LoginMetrics getLoginMetrics() {
+        return LOGIN_METRICS;
+    }
+
+    /**
+     * Checks a password against the stored hash and records the attempt.
+     * The hash is verified after the connection is released, and a stored
+     * value below the current hash cost is replaced after a successful login.
+     * 
+     * @param username Username
+     * @param password Password given at login
+     * @return User if the password matches, null otherwise
+     * @throws SQLException if a database error occurs
+     */
+    private User login(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            User user = findUser(username);
+            if (user == null) {
+                hasher.verifyDummy(password);
+                return null;
+            }
+            if (!hasher.verify(password, user.getPassword())) {
+                return null;
+            }
+            if (hasher.needsRehash(user.getPassword())) {
+                String hash = hasher.hash(password);
+                replacePassword(username, user.getPassword(), hash);
+                user.setPassword(hash);
+            }
+            success = true;
+            return user;
+        } finally {
+            LOGIN_METRICS.record(success, System.nanoTime() - start);
         }
     }
 
-    // Kullanıcı adı ve şifre doğru mu? (login)    
-    public boolean validateUser(String username, String password) {        
-        String sql = "SELECT username FROM Users WHERE username = ? AND password = ?";        
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {            
-            pstmt.setString(1, username);            
-            pstmt.setString(2, password);            
-            try (ResultSet rs = pstmt.executeQuery()) {                
-                return rs.next();            
-            }        
-        } catch (SQLException e) {            
-            out.println("Kullanıcı doğrulanamadı: " + e.getMessage());            
-            return false;        
-        }    
-    }
-}
\ No newline at end of file
+    /**
+     * Reads a user row
+     * 
+     * @param username Username
+     * @return User with the stored password hash, or null if not found
+     * @throws SQLException if a database error occurs
+     */
+    private User findUser(String username) throws SQLException {
+        String sql = "SELECT username, password, email FROM Users WHERE username = ?";
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, username);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return new User(
+                        rs.getString("username"),
+                        rs.getString("password"),
+                        rs.getString("email")
+                    );
+                }
+            }
+        } finally {
+            dbConnection.releaseConnection();
+        }
+        return null;
+    }
+
+    /**
+     * Replaces a stored password unless it changed since it was read
+     * 
+     * @param username Username
+     * @param expected Stored value that was verified
+     * @param hash New password hash
+     * @throws SQLException if a database error occurs
+     */
+    private void replacePassword(String username, String expected, String hash) throws SQLException {
+        String sql = "UPDATE Users SET password = ? WHERE username = ? AND password = ?";
+        Connection connection = dbConnection.getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, hash);
+            stmt.setString(2, username);
+            stmt.setString(3, expected);
+            stmt.executeUpdate();
+        } finally {
+            dbConnection.releaseConnection();
+        }
+    }
+}
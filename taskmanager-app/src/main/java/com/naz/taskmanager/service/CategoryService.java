@@ -1,42 +1,103 @@
 package com.naz.taskmanager.service;
 
 import com.naz.taskmanager.model.Category;
-import java.util.ArrayList;
+import com.naz.taskmanager.repository.CategoryRepository;
 import java.util.List;
 
+/**
+ * Service for category management.
+ * Categories live in the Categories table shared with tasks, and every
+ * category is handed out as the single shared instance that
+ * CategoryRepository interns by lower-cased name, so looking a category up
+ * by name does not scan a list.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
 public class CategoryService {
-    private final List<Category> categories;
+    /** Categories created when missing */
+    private static final String[] DEFAULT_CATEGORIES = {"Work", "Personal", "Study", "Health"};
 
+    /** Category repository for data persistence */
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * Constructor for CategoryService
+     */
     public CategoryService() {
-        this.categories = new ArrayList<>();
+        this(new CategoryRepository());
+    }
+
+    /**
+     * Constructor for CategoryService
+     *
+     * @param categoryRepository Category repository
+     */
+    public CategoryService(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
         // Varsayılan kategoriler
-        categories.add(new Category("Work"));
-        categories.add(new Category("Personal"));
-        categories.add(new Category("Study"));
-        categories.add(new Category("Health"));
+        for (String name : DEFAULT_CATEGORIES) {
+            categoryRepository.intern(name);
+        }
     }
 
+    /**
+     * Gets all categories
+     *
+     * @return Shared category instances in ID order
+     */
     public List<Category> getAllCategories() {
-        return new ArrayList<>(categories);
+        return categoryRepository.getAllInterned();
     }
 
+    /**
+     * Finds a category by name, ignoring case
+     *
+     * @param name Category name
+     * @return Shared category instance, or null if not found
+     */
+    public Category findCategoryByName(String name) {
+        return categoryRepository.getInterned(name);
+    }
+
+    /**
+     * Gets a category by name, creating it if it does not exist
+     *
+     * @param name Category name
+     * @return Shared category instance, or null if it could not be created
+     */
+    public Category getOrCreateCategory(String name) {
+        return categoryRepository.intern(name);
+    }
+
+    /**
+     * Adds a category unless one with the same name exists
+     *
+     * @param category Category to add; it becomes the shared instance
+     */
     public void addCategory(Category category) {
-        if (!categories.contains(category)) {
-            categories.add(category);
+        if (categoryRepository.getInterned(category.getName()) == null) {
+            categoryRepository.save(category);
         }
     }
 
+    /**
+     * Saves a changed category.
+     * The shared instance takes the new name, description and color.
+     *
+     * @param category Category with its ID
+     */
     public void updateCategory(Category category) {
-        // Kategori ismi güncellendiğinde listede güncelle
-        for (int i = 0; i < categories.size(); i++) {
-            if (categories.get(i).equals(category)) {
-                categories.set(i, category);
-                break;
-            }
-        }
+        categoryRepository.update(category);
     }
 
-    public void deleteCategory(Category category) {
-        categories.remove(category);
+    /**
+     * Deletes a category that no task uses
+     *
+     * @param category Category to delete
+     * @return true if the category was deleted
+     */
+    public boolean deleteCategory(Category category) {
+        return categoryRepository.deleteIfUnused(String.valueOf(category.getId()));
     }
-} 
\ No newline at end of file
+}
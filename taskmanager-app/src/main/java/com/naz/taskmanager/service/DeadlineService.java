@@ -1,11 +1,15 @@
 package com.naz.taskmanager.service;
 
 import com.naz.taskmanager.model.TaskmanagerItem;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.*;
 
 /**
  * Service for deadline management.
  * Provides specialized deadline-related operations.
+ * Range queries read the deadline-ordered task index kept by TaskService,
+ * so their results come out sorted by deadline.
  * 
  * @author TaskManager Team
  * @version 1.0
@@ -30,26 +34,11 @@ public class DeadlineService {
      * @return List of tasks with deadlines within specified days
      */
     public List<TaskmanagerItem> getUpcomingDeadlines(int days) {
-        List<TaskmanagerItem> allTasks = taskService.getAllTasks();
-        List<TaskmanagerItem> upcomingTasks = new ArrayList<>();
-        
         Calendar calendar = Calendar.getInstance();
+        long now = calendar.getTimeInMillis();
         calendar.add(Calendar.DAY_OF_MONTH, days);
-        Date futureDate = calendar.getTime();
-        
-        for (TaskmanagerItem task : allTasks) {
-            if (!task.isCompleted() && task.getDeadline() != null) {
-                Date deadline = task.getDeadline();
-                if (deadline.after(new Date()) && deadline.before(futureDate)) {
-                    upcomingTasks.add(task);
-                }
-            }
-        }
-        
-        // Sort by deadline
-        upcomingTasks.sort(Comparator.comparing(TaskmanagerItem::getDeadline));
         
-        return upcomingTasks;
+        return taskService.getPendingTasksByDeadline(now, false, calendar.getTimeInMillis());
     }
     
     /**
@@ -67,30 +56,8 @@ public class DeadlineService {
      * @return List of tasks due today
      */
     public List<TaskmanagerItem> getTasksDueToday() {
-        List<TaskmanagerItem> allTasks = taskService.getAllTasks();
-        List<TaskmanagerItem> todayTasks = new ArrayList<>();
-        
-        Calendar cal1 = Calendar.getInstance();
-        Calendar cal2 = Calendar.getInstance();
-        
-        for (TaskmanagerItem task : allTasks) {
-            if (!task.isCompleted() && task.getDeadline() != null) {
-                cal1.setTime(new Date());
-                cal2.setTime(task.getDeadline());
-                
-                boolean sameDay = cal1.get(Calendar.YEAR) == cal2.get(Calendar.YEAR) &&
-                                  cal1.get(Calendar.DAY_OF_YEAR) == cal2.get(Calendar.DAY_OF_YEAR);
-                
-                if (sameDay) {
-                    todayTasks.add(task);
-                }
-            }
-        }
-        
-        // Sort by deadline time
-        todayTasks.sort(Comparator.comparing(TaskmanagerItem::getDeadline));
-        
-        return todayTasks;
+        LocalDate today = LocalDate.now();
+        return taskService.getPendingTasksByDeadline(startOfDay(today), true, startOfDay(today.plusDays(1)));
     }
     
     /**
@@ -156,18 +123,22 @@ public class DeadlineService {
             return "overdue";
         }
         
-        Calendar cal1 = Calendar.getInstance();
-        Calendar cal2 = Calendar.getInstance();
-        cal1.setTime(new Date());
-        cal2.setTime(task.getDeadline());
-        
-        boolean sameDay = cal1.get(Calendar.YEAR) == cal2.get(Calendar.YEAR) &&
-                          cal1.get(Calendar.DAY_OF_YEAR) == cal2.get(Calendar.DAY_OF_YEAR);
-        
-        if (sameDay) {
+        LocalDate today = LocalDate.now();
+        long deadline = task.getDeadline().getTime();
+        if (deadline >= startOfDay(today) && deadline < startOfDay(today.plusDays(1))) {
             return "today";
         }
         
         return "upcoming";
     }
+    
+    /**
+     * Gets the first instant of a day in the system time zone
+     * 
+     * @param date Day
+     * @return Start of the day in epoch milliseconds
+     */
+    private static long startOfDay(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
\ No newline at end of file
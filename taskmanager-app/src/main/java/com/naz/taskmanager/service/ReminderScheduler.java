@@ -0,0 +1,268 @@
+package com.naz.taskmanager.service;
+
+import com.naz.taskmanager.model.Reminder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Background scheduler that fires reminders when they become due.
+ * Pending reminders are kept in a priority queue ordered by reminder time,
+ * so finding the next due reminder is O(1) and every schedule or fire is
+ * O(log n). The worker thread sleeps until the earliest reminder is due and
+ * is woken early when an earlier reminder is scheduled.
+ *
+ * Each reminder ID has at most one live queue entry. Cancelling or
+ * rescheduling a reminder only replaces its live entry; the stale entry
+ * stays in the queue and is skipped when it reaches the head.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+class ReminderScheduler {
+    /** Orders queue entries by due time, earliest first */
+    private static final Comparator<Entry> DUE_ORDER =
+        Comparator.comparingLong(entry -> entry.dueMillis);
+
+    /** Maximum time to wait for the worker thread when stopping */
+    private static final long STOP_TIMEOUT_MILLIS = 1000;
+
+    /** Service that marks reminders as triggered and notifies observers */
+    private final ReminderService reminderService;
+
+    /** Queue entries, earliest first, including stale ones */
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(DUE_ORDER);
+
+    /** Live queue entry of each pending reminder by reminder ID */
+    private final Map<String, Entry> live = new HashMap<>();
+
+    /** Worker thread, null when the scheduler is not running */
+    private Thread worker;
+
+    /** Flag indicating the worker should keep running */
+    private boolean running = false;
+
+    /**
+     * Constructor for ReminderScheduler
+     *
+     * @param reminderService Service that fires due reminders
+     */
+    ReminderScheduler(ReminderService reminderService) {
+        this.reminderService = reminderService;
+    }
+
+    /**
+     * Loads every pending reminder once and starts the worker thread.
+     * Reminders that are already due fire right away.
+     */
+    synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        for (Reminder reminder : reminderService.getPendingReminders()) {
+            enqueue(reminder);
+        }
+
+        running = true;
+        worker = new Thread(this::run, "reminder-scheduler");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops the worker thread. Pending reminders are discarded.
+     */
+    void stop() {
+        Thread stopping;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            stopping = worker;
+            worker = null;
+            queue.clear();
+            live.clear();
+            notifyAll();
+        }
+
+        if (stopping != Thread.currentThread()) {
+            try {
+                stopping.join(STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the worker thread is running
+     *
+     * @return true if the scheduler is running
+     */
+    synchronized boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the number of reminders waiting to fire
+     *
+     * @return Number of pending reminders
+     */
+    synchronized int getPendingCount() {
+        return live.size();
+    }
+
+    /**
+     * Adds a reminder to the schedule.
+     * A reminder already scheduled under the same ID is replaced, so a
+     * rescheduled reminder fires once, at its new time.
+     *
+     * @param reminder Reminder to fire when due
+     */
+    synchronized void schedule(Reminder reminder) {
+        Entry entry = enqueue(reminder);
+        if (entry != null && queue.peek() == entry) {
+            // New earliest reminder, wake the worker to shorten its sleep
+            notifyAll();
+        }
+    }
+
+    /**
+     * Removes a reminder from the schedule.
+     * The queue entry is skipped when it reaches the head instead of being
+     * searched for, which keeps cancellation O(1).
+     *
+     * @param reminderId ID of the reminder to cancel
+     */
+    synchronized void cancel(String reminderId) {
+        if (reminderId != null) {
+            live.remove(reminderId);
+        }
+    }
+
+    /**
+     * Removes every reminder of a task from the schedule
+     *
+     * @param taskId ID of the task
+     */
+    synchronized void cancelTask(String taskId) {
+        if (taskId == null) {
+            return;
+        }
+        for (Iterator<Entry> it = live.values().iterator(); it.hasNext(); ) {
+            if (taskId.equals(it.next().reminder.getTaskId())) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Adds a pending reminder to the queue as the live entry for its ID.
+     * Must be called holding the lock.
+     *
+     * @param reminder Reminder to add
+     * @return The new entry, or null if the reminder is not pending
+     */
+    private Entry enqueue(Reminder reminder) {
+        if (reminder == null || reminder.isTriggered() || reminder.getReminderTime() == null
+                || reminder.getId() == null) {
+            return null;
+        }
+        Entry entry = new Entry(reminder);
+        live.put(reminder.getId(), entry);
+        queue.add(entry);
+        return entry;
+    }
+
+    /**
+     * Takes the head entry off the queue. Must be called holding the lock.
+     *
+     * @return The head reminder if its entry is still live, null if it is stale
+     */
+    private Reminder pollLive() {
+        Entry entry = queue.poll();
+        String id = entry.reminder.getId();
+        if (live.get(id) != entry) {
+            return null;
+        }
+        live.remove(id);
+        return entry.reminder;
+    }
+
+    /**
+     * Worker loop: sleeps until the earliest reminder is due, then fires
+     * every reminder that is due at that instant.
+     */
+    private void run() {
+        while (true) {
+            List<Reminder> due = new ArrayList<>();
+
+            synchronized (this) {
+                try {
+                    while (running && due.isEmpty()) {
+                        Entry next = queue.peek();
+                        if (next == null) {
+                            wait();
+                            continue;
+                        }
+
+                        long delay = next.dueMillis - System.currentTimeMillis();
+                        if (delay > 0) {
+                            wait(delay);
+                            continue;
+                        }
+
+                        Reminder reminder = pollLive();
+                        if (reminder != null) {
+                            due.add(reminder);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                if (!running) {
+                    return;
+                }
+
+                // Collect everything else that became due at the same time
+                long now = System.currentTimeMillis();
+                while (!queue.isEmpty() && queue.peek().dueMillis <= now) {
+                    Reminder reminder = pollLive();
+                    if (reminder != null) {
+                        due.add(reminder);
+                    }
+                }
+            }
+
+            // Fire outside the lock so observers cannot stall scheduling
+            for (Reminder reminder : due) {
+                try {
+                    reminderService.fireReminder(reminder);
+                } catch (RuntimeException e) {
+                    System.out.println("Error firing reminder: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Queue entry of a reminder. The due time is taken when the reminder is
+     * scheduled, so later changes to the reminder cannot reorder the queue.
+     */
+    private static final class Entry {
+        final Reminder reminder;
+        final long dueMillis;
+
+        Entry(Reminder reminder) {
+            this.reminder = reminder;
+            this.dueMillis = reminder.getReminderTime().getTime();
+        }
+    }
+}
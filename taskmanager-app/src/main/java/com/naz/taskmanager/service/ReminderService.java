@@ -1,13 +1,20 @@
 package com.naz.taskmanager.service;
 
+import com.naz.taskmanager.model.NotificationSettings;
 import com.naz.taskmanager.model.Reminder;
 import com.naz.taskmanager.model.TaskmanagerItem;
 import com.naz.taskmanager.repository.ReminderRepository;
+import com.naz.taskmanager.repository.SettingsRepository;
 import com.naz.taskmanager.repository.TaskRepository;
+import java.time.Instant;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Service for reminder management.
@@ -31,6 +38,9 @@ public class ReminderService {
         void onReminderDue(Reminder reminder, String taskId);
     }
     
+    /** Number of due reminders fetched and marked per round in checkReminders */
+    private static final int DUE_BATCH_SIZE = 100;
+    
     /** Kullanıcı adı */
     private final String username;
     
@@ -40,9 +50,22 @@ public class ReminderService {
     /** Task repository for data persistence */
     private final TaskRepository taskRepository;
     
-    /** List of observers for notification */
+    /** Settings repository, served from its cache after the first read */
+    private final SettingsRepository settingsRepository;
+    
+    /** List of observers for notification, safe to iterate from the scheduler thread */
     private final List<ReminderObserver> observers;
     
+    /** Background scheduler, null until startScheduler is called */
+    private ReminderScheduler scheduler;
+    
+    /** Settings kept current by settingsListener while the scheduler runs, null otherwise */
+    private volatile NotificationSettings settings;
+    
+    /** Keeps settings current when the user's preferences are saved */
+    private final SettingsRepository.SettingsListener settingsListener =
+        (changedUser, changed) -> settings = changed;
+    
     /**
      * ReminderService sınıfı için yapıcı metot
      * 
@@ -52,7 +75,8 @@ public class ReminderService {
         this.username = username;
         this.reminderRepository = new ReminderRepository(username);
         this.taskRepository = new TaskRepository(username);
-        this.observers = new ArrayList<>();
+        this.settingsRepository = new SettingsRepository(username);
+        this.observers = new CopyOnWriteArrayList<>();
     }
     
     /**
@@ -76,11 +100,20 @@ public class ReminderService {
     }
     
     /**
-     * Observer Pattern: Notify all observers of a due reminder
+     * Observer Pattern: Notify all observers of a due reminder,
+     * unless the user turned app notifications off
      * 
      * @param reminder The due reminder
      */
     private void notifyObservers(Reminder reminder) {
+        NotificationSettings current = settings;
+        if (current == null) {
+            current = settingsRepository.getSettings();
+        }
+        if (!current.isAppNotificationsEnabled()) {
+            // The reminder still counts as triggered, the user turned notifications off
+            return;
+        }
         for (ReminderObserver observer : observers) {
             observer.onReminderDue(reminder, reminder.getTaskId());
         }
@@ -103,6 +136,11 @@ public class ReminderService {
         reminder.setReminderTime(reminderTime);
         
         reminderRepository.save(reminder);
+        
+        ReminderScheduler activeScheduler = getScheduler();
+        if (activeScheduler != null) {
+            activeScheduler.schedule(reminder);
+        }
         return reminder;
     }
     
@@ -128,6 +166,15 @@ public class ReminderService {
         return createReminder(task.getId(), reminderTime);
     }
     
+    /**
+     * Gets the user's default reminder time
+     * 
+     * @return Minutes before the deadline from the user's notification settings
+     */
+    public int getDefaultReminderMinutes() {
+        return settingsRepository.getSettings().getDefaultReminderMinutes();
+    }
+    
     /**
      * Gets all reminders
      * 
@@ -156,24 +203,22 @@ public class ReminderService {
         return taskReminders;
     }
     
+    /**
+     * Gets all reminders that have not been triggered yet
+     * 
+     * @return Untriggered reminders, earliest first
+     */
+    public List<Reminder> getPendingReminders() {
+        return reminderRepository.findUntriggered();
+    }
+    
     /**
      * Gets all due reminders (time has passed but not triggered)
      * 
      * @return List of due reminders
      */
     public List<Reminder> getDueReminders() {
-        List<Reminder> reminders = getAllReminders();
-        List<Reminder> dueReminders = new ArrayList<>();
-        Date now = new Date();
-        
-        for (Reminder reminder : reminders) {
-            if (!reminder.isTriggered() && reminder.getReminderTime() != null 
-                    && reminder.getReminderTime().before(now)) {
-                dueReminders.add(reminder);
-            }
-        }
-        
-        return dueReminders;
+        return reminderRepository.findDue(Instant.now(), Integer.MAX_VALUE);
     }
     
     /**
@@ -193,6 +238,24 @@ public class ReminderService {
      */
     public void deleteReminder(String id) {
         reminderRepository.delete(id);
+        
+        ReminderScheduler activeScheduler = getScheduler();
+        if (activeScheduler != null) {
+            activeScheduler.cancel(id);
+        }
+    }
+    
+    /**
+     * Removes the reminders of a deleted task from the background schedule.
+     * The reminder rows themselves are deleted with the task.
+     * 
+     * @param taskId ID of the deleted task
+     */
+    public void cancelRemindersForTask(String taskId) {
+        ReminderScheduler activeScheduler = getScheduler();
+        if (activeScheduler != null) {
+            activeScheduler.cancelTask(taskId);
+        }
     }
     
     /**
@@ -201,11 +264,103 @@ public class ReminderService {
      * @param taskService TaskService to get task information
      */
     public void checkReminders(TaskService taskService) {
-        List<Reminder> dueReminders = getDueReminders();
+        Instant now = Instant.now();
         
-        for (Reminder reminder : dueReminders) {
-            markReminderAsTriggered(reminder);
-            notifyObservers(reminder);
+        while (true) {
+            List<Reminder> dueReminders = reminderRepository.findDue(now, DUE_BATCH_SIZE);
+            if (dueReminders.isEmpty()) {
+                return;
+            }
+            
+            List<String> ids = new ArrayList<>();
+            for (Reminder reminder : dueReminders) {
+                ids.add(reminder.getId());
+            }
+            List<String> marked = reminderRepository.markTriggered(ids);
+            if (marked.isEmpty()) {
+                // Nothing could be marked; stop rather than fetch the same batch again
+                return;
+            }
+            
+            // Reminders marked elsewhere in the meantime, e.g. by the scheduler, were already announced
+            Set<String> markedIds = new HashSet<>(marked);
+            for (Reminder reminder : dueReminders) {
+                if (markedIds.contains(reminder.getId())) {
+                    reminder.setTriggered(true);
+                    notifyObservers(reminder);
+                }
+            }
+            if (dueReminders.size() < DUE_BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Starts firing reminders in the background as they become due.
+     * Pending reminders are loaded once; reminders created or deleted
+     * through this service afterwards are added to or removed from the
+     * schedule. Observers are notified on the scheduler thread.
+     * While the scheduler runs, the service listens for changes to the
+     * user's notification settings.
+     */
+    public synchronized void startScheduler() {
+        if (scheduler == null) {
+            settingsRepository.addListener(settingsListener);
+            settings = settingsRepository.getSettings();
+            scheduler = new ReminderScheduler(this);
+            scheduler.start();
+        }
+    }
+    
+    /**
+     * Stops the background scheduler if it is running
+     */
+    public void stopScheduler() {
+        ReminderScheduler stopping;
+        synchronized (this) {
+            stopping = scheduler;
+            scheduler = null;
+            if (stopping != null) {
+                settingsRepository.removeListener(settingsListener);
+                settings = null;
+            }
+        }
+        if (stopping != null) {
+            stopping.stop();
+        }
+    }
+    
+    /**
+     * Checks whether the background scheduler is running
+     * 
+     * @return true if reminders are being fired in the background
+     */
+    public synchronized boolean isSchedulerRunning() {
+        return scheduler != null && scheduler.isRunning();
+    }
+    
+    /**
+     * Gets the scheduler if it is running
+     * 
+     * @return Active scheduler, or null
+     */
+    private synchronized ReminderScheduler getScheduler() {
+        return scheduler;
+    }
+    
+    /**
+     * Marks a due reminder as triggered and notifies observers.
+     * Observers are not notified when no row was marked, i.e. the reminder
+     * was deleted or already triggered elsewhere.
+     * 
+     * @param reminder The due reminder
+     */
+    void fireReminder(Reminder reminder) {
+        if (reminderRepository.markTriggered(Collections.singletonList(reminder.getId())).isEmpty()) {
+            return;
         }
+        reminder.setTriggered(true);
+        notifyObservers(reminder);
     }
 }
\ No newline at end of file
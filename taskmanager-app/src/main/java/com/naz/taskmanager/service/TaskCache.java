@@ -0,0 +1,199 @@
+package com.naz.taskmanager.service;
+
+import com.naz.taskmanager.model.TaskmanagerItem;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-through cache of one user's tasks.
+ * Tasks are kept by ID in a bounded LRU map, and the result of the last
+ * full task list load is kept separately when it is within the same bound.
+ * Every entry expires after the
+ * time-to-live, which bounds how stale the cache can get when another
+ * process writes to the database. TaskService keeps the cache in step
+ * with its own writes.
+ *
+ * Cached tasks are the same instances handed to callers, as they would be
+ * from a single repository read.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+class TaskCache {
+    /** Maximum number of tasks kept by ID */
+    private final int maxSize;
+
+    /** Time after which an entry is reloaded */
+    private final long ttlMillis;
+
+    /** Cached tasks by ID, least recently used first */
+    private final LinkedHashMap<String, CachedTask> tasks;
+
+    /** Last full task list, null if not loaded, invalidated or larger than maxSize */
+    private List<TaskmanagerItem> allTasks;
+
+    /** Time the full task list was loaded */
+    private long allTasksLoadedAt = 0;
+
+    /** Number of lookups answered from the cache */
+    private long hits = 0;
+
+    /** Number of lookups that had to go to the repository */
+    private long misses = 0;
+
+    /**
+     * Constructor for TaskCache
+     *
+     * @param maxSize Maximum number of tasks kept by ID
+     * @param ttlMillis Time after which an entry is reloaded
+     */
+    TaskCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.tasks = new LinkedHashMap<String, CachedTask>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedTask> eldest) {
+                return size() > TaskCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Looks up a task by ID
+     *
+     * @param id Task ID
+     * @return Cached task, or null if it is not cached or has expired
+     */
+    synchronized TaskmanagerItem get(String id) {
+        CachedTask entry = tasks.get(id);
+        if (entry == null || isExpired(entry.loadedAt)) {
+            if (entry != null) {
+                tasks.remove(id);
+            }
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.task;
+    }
+
+    /**
+     * Looks up the full task list
+     *
+     * @return Copy of the cached list, or null if it is not cached or has expired
+     */
+    synchronized List<TaskmanagerItem> getAll() {
+        if (allTasks == null || isExpired(allTasksLoadedAt)) {
+            allTasks = null;
+            misses++;
+            return null;
+        }
+        hits++;
+        return new ArrayList<>(allTasks);
+    }
+
+    /**
+     * Stores a task loaded from or written to the repository
+     *
+     * @param task Task to cache
+     */
+    synchronized void put(TaskmanagerItem task) {
+        if (task != null && task.getId() != null) {
+            tasks.put(task.getId(), new CachedTask(task, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Stores the full task list, also caching each task by ID.
+     * A list longer than the size bound is not kept.
+     *
+     * @param list Tasks loaded from the repository
+     */
+    synchronized void putAll(List<TaskmanagerItem> list) {
+        allTasks = list.size() <= maxSize ? new ArrayList<>(list) : null;
+        allTasksLoadedAt = System.currentTimeMillis();
+        for (TaskmanagerItem task : list) {
+            put(task);
+        }
+    }
+
+    /**
+     * Records that a task changed: its entry is replaced and the full list dropped
+     *
+     * @param task Task that was saved or updated
+     */
+    synchronized void updated(TaskmanagerItem task) {
+        allTasks = null;
+        put(task);
+    }
+
+    /**
+     * Records that a task was deleted: its entry and the full list are dropped
+     *
+     * @param id ID of the deleted task
+     */
+    synchronized void deleted(String id) {
+        allTasks = null;
+        tasks.remove(id);
+    }
+
+    /**
+     * Drops every cached entry
+     */
+    synchronized void clear() {
+        allTasks = null;
+        tasks.clear();
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache
+     *
+     * @return Cache hits
+     */
+    synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that had to go to the repository
+     *
+     * @return Cache misses
+     */
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of tasks cached by ID
+     *
+     * @return Cached tasks
+     */
+    synchronized int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Checks whether an entry loaded at the given time has expired
+     *
+     * @param loadedAt Time the entry was loaded
+     * @return true if the entry is older than the time-to-live
+     */
+    private boolean isExpired(long loadedAt) {
+        return System.currentTimeMillis() - loadedAt >= ttlMillis;
+    }
+
+    /**
+     * Cached task and the time it was loaded
+     */
+    private static final class CachedTask {
+        private final TaskmanagerItem task;
+        private final long loadedAt;
+
+        private CachedTask(TaskmanagerItem task, long loadedAt) {
+            this.task = task;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
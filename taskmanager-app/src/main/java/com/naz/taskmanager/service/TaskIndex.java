@@ -0,0 +1,341 @@
+package com.naz.taskmanager.service;
+
+import com.naz.taskmanager.model.Category;
+import com.naz.taskmanager.model.Priority;
+import com.naz.taskmanager.model.TaskmanagerItem;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory secondary indexes over one user's tasks.
+ * Tasks are filed by priority, category, project and deadline, so grouping
+ * queries read one bucket instead of scanning every task. Each bucket keeps
+ * its tasks in ID order, the order the repository returns them in.
+ *
+ * The keys a task was filed under are remembered, so a task that was
+ * changed in place can be moved to its new buckets by put().
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+class TaskIndex {
+    /** Orders numeric task IDs numerically */
+    private static final Comparator<String> ID_ORDER =
+        Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder());
+
+    /** Category key used for tasks without a category, as the repository reads them back */
+    private static final String UNCATEGORIZED = "uncategorized";
+
+    /** Tasks by priority */
+    private final EnumMap<Priority, TreeMap<String, TaskmanagerItem>> byPriority = new EnumMap<>(Priority.class);
+
+    /** Tasks by lower-case category name */
+    private final Map<String, TreeMap<String, TaskmanagerItem>> byCategory = new HashMap<>();
+
+    /** Tasks by project ID */
+    private final Map<String, TreeMap<String, TaskmanagerItem>> byProject = new HashMap<>();
+
+    /** Tasks with a deadline, by deadline in epoch milliseconds */
+    private final TreeMap<Long, TreeMap<String, TaskmanagerItem>> byDeadline = new TreeMap<>();
+
+    /** Keys each indexed task is filed under, by task ID */
+    private final Map<String, Keys> keysById = new HashMap<>();
+
+    /** Project IDs of each task, from the project membership table */
+    private final Map<String, Set<String>> projectsByTask = new HashMap<>();
+
+    /** Flag indicating the index has been loaded */
+    private boolean loaded = false;
+
+    /** Number of put, remove and clear calls, used to detect changes during a load */
+    private long version = 0;
+
+    /**
+     * Checks whether the index has been loaded
+     *
+     * @return true after load()
+     */
+    synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Gets the change counter, to be passed to loadIfUnchanged
+     *
+     * @return Number of put, remove and clear calls so far
+     */
+    synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Loads the index from tasks read without holding its lock, unless it
+     * changed since the tasks were read; the tasks may then miss the change.
+     *
+     * @param tasks All of the user's tasks
+     * @param projectTaskIds IDs of the tasks in each project, keyed by project ID
+     * @param expectedVersion Value of getVersion() taken before the tasks were read
+     * @return true if the index is loaded
+     */
+    synchronized boolean loadIfUnchanged(Collection<TaskmanagerItem> tasks,
+            Map<String, List<String>> projectTaskIds, long expectedVersion) {
+        if (!loaded && version == expectedVersion) {
+            load(tasks, projectTaskIds);
+        }
+        return loaded;
+    }
+
+    /**
+     * Replaces the index contents
+     *
+     * @param tasks All of the user's tasks
+     * @param projectTaskIds IDs of the tasks in each project, keyed by project ID
+     */
+    synchronized void load(Collection<TaskmanagerItem> tasks, Map<String, List<String>> projectTaskIds) {
+        clear();
+        for (Map.Entry<String, List<String>> entry : projectTaskIds.entrySet()) {
+            for (String taskId : entry.getValue()) {
+                projectsByTask.computeIfAbsent(taskId, k -> new HashSet<>()).add(entry.getKey());
+            }
+        }
+        for (TaskmanagerItem task : tasks) {
+            file(task);
+        }
+        loaded = true;
+    }
+
+    /**
+     * Drops every indexed task; the index must be loaded again before use
+     */
+    synchronized void clear() {
+        version++;
+        byPriority.clear();
+        byCategory.clear();
+        byProject.clear();
+        byDeadline.clear();
+        keysById.clear();
+        projectsByTask.clear();
+        loaded = false;
+    }
+
+    /**
+     * Files a new or changed task under its current keys.
+     * Ignored until the index is loaded, since the load picks the task up.
+     *
+     * @param task Task to index
+     */
+    synchronized void put(TaskmanagerItem task) {
+        version++;
+        if (loaded) {
+            file(task);
+        }
+    }
+
+    /**
+     * Removes a deleted task
+     *
+     * @param id Task ID
+     */
+    synchronized void remove(String id) {
+        version++;
+        unfile(id);
+        projectsByTask.remove(id);
+    }
+
+    /**
+     * Files a task under its current keys. Must be called holding the lock.
+     *
+     * @param task Task to index
+     */
+    private void file(TaskmanagerItem task) {
+        if (task == null || task.getId() == null) {
+            return;
+        }
+        unfile(task.getId());
+
+        Keys keys = new Keys(task, projectsByTask.get(task.getId()));
+        keysById.put(task.getId(), keys);
+        bucket(byPriority, keys.priority).put(task.getId(), task);
+        bucket(byCategory, keys.category).put(task.getId(), task);
+        for (String projectId : keys.projects) {
+            bucket(byProject, projectId).put(task.getId(), task);
+        }
+        if (keys.deadline != null) {
+            bucket(byDeadline, keys.deadline).put(task.getId(), task);
+        }
+    }
+
+    /**
+     * Gets tasks with a priority
+     *
+     * @param priority Priority to match
+     * @return Matching tasks in ID order
+     */
+    synchronized List<TaskmanagerItem> getByPriority(Priority priority) {
+        return values(byPriority.get(priority), null);
+    }
+
+    /**
+     * Gets tasks in a category, compared by name ignoring case
+     *
+     * @param category Category to match
+     * @return Matching tasks in ID order
+     */
+    synchronized List<TaskmanagerItem> getByCategory(Category category) {
+        return values(byCategory.get(categoryKey(category)), null);
+    }
+
+    /**
+     * Gets tasks in a project
+     *
+     * @param projectId Project ID
+     * @param includeCompleted whether to include completed tasks
+     * @return Matching tasks in ID order
+     */
+    synchronized List<TaskmanagerItem> getByProject(String projectId, boolean includeCompleted) {
+        return values(byProject.get(projectId), includeCompleted ? null : Boolean.FALSE);
+    }
+
+    /**
+     * Gets pending tasks whose deadline is before a time
+     *
+     * @param now Exclusive upper bound for the deadline
+     * @return Matching tasks in deadline order
+     */
+    synchronized List<TaskmanagerItem> getOverdue(Date now) {
+        return getPendingByDeadline(Long.MIN_VALUE, true, now.getTime());
+    }
+
+    /**
+     * Gets pending tasks whose deadline lies in a range.
+     * The range is a view of the deadline tree, so no sorting is needed.
+     *
+     * @param fromMillis Lower bound for the deadline
+     * @param fromInclusive true to include tasks due exactly at the lower bound
+     * @param toMillis Exclusive upper bound for the deadline
+     * @return Matching tasks in deadline order
+     */
+    synchronized List<TaskmanagerItem> getPendingByDeadline(long fromMillis, boolean fromInclusive, long toMillis) {
+        List<TaskmanagerItem> result = new ArrayList<>();
+        if (fromMillis > toMillis) {
+            return result;
+        }
+        for (TreeMap<String, TaskmanagerItem> bucket
+                : byDeadline.subMap(fromMillis, fromInclusive, toMillis, false).values()) {
+            for (TaskmanagerItem task : bucket.values()) {
+                if (!task.isCompleted()) {
+                    result.add(task);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes a task from the buckets it is filed under. Must be called holding the lock.
+     *
+     * @param id Task ID
+     */
+    private void unfile(String id) {
+        Keys keys = keysById.remove(id);
+        if (keys == null) {
+            return;
+        }
+        removeFrom(byPriority, keys.priority, id);
+        removeFrom(byCategory, keys.category, id);
+        for (String projectId : keys.projects) {
+            removeFrom(byProject, projectId, id);
+        }
+        if (keys.deadline != null) {
+            removeFrom(byDeadline, keys.deadline, id);
+        }
+    }
+
+    /**
+     * Gets the bucket for a key, creating it if needed
+     *
+     * @param index Index holding the bucket
+     * @param key Bucket key
+     * @return Bucket of tasks by ID
+     */
+    private static <K> TreeMap<String, TaskmanagerItem> bucket(Map<K, TreeMap<String, TaskmanagerItem>> index, K key) {
+        return index.computeIfAbsent(key, k -> new TreeMap<>(ID_ORDER));
+    }
+
+    /**
+     * Removes a task from a bucket, dropping the bucket once it is empty
+     *
+     * @param index Index holding the bucket
+     * @param key Bucket key
+     * @param id Task ID
+     */
+    private static <K> void removeFrom(Map<K, TreeMap<String, TaskmanagerItem>> index, K key, String id) {
+        TreeMap<String, TaskmanagerItem> bucket = index.get(key);
+        if (bucket != null) {
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Copies the tasks of a bucket
+     *
+     * @param bucket Bucket, may be null
+     * @param completed Completion status to match, or null for all tasks
+     * @return Tasks in ID order
+     */
+    private static List<TaskmanagerItem> values(TreeMap<String, TaskmanagerItem> bucket, Boolean completed) {
+        List<TaskmanagerItem> result = new ArrayList<>();
+        if (bucket != null) {
+            for (TaskmanagerItem task : bucket.values()) {
+                if (completed == null || task.isCompleted() == completed) {
+                    result.add(task);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the index key of a category
+     *
+     * @param category Category, may be null
+     * @return Lower-case category name
+     */
+    private static String categoryKey(Category category) {
+        return category != null && category.getName() != null ? category.getName().toLowerCase() : UNCATEGORIZED;
+    }
+
+    /**
+     * Keys a task is filed under
+     */
+    private static final class Keys {
+        private final Priority priority;
+        private final String category;
+        private final Long deadline;
+        private final Set<String> projects = new HashSet<>();
+
+        private Keys(TaskmanagerItem task, Set<String> memberships) {
+            this.priority = task.getPriority() != null ? task.getPriority() : Priority.MEDIUM;
+            this.category = categoryKey(task.getCategory());
+            this.deadline = task.getDeadline() != null ? task.getDeadline().getTime() : null;
+            if (memberships != null) {
+                projects.addAll(memberships);
+            }
+            if (task.getProject() != null && task.getProject().getId() != null) {
+                projects.add(task.getProject().getId());
+            }
+        }
+    }
+}
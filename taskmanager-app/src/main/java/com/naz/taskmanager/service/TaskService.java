@@ -3,12 +3,14 @@ package com.naz.taskmanager.service;
 import com.naz.taskmanager.model.Category;
 import com.naz.taskmanager.model.Priority;
 import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.repository.TaskQuery;
 import com.naz.taskmanager.repository.TaskRepository;
+import config.AppConfig;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for task management.
@@ -22,13 +24,111 @@ public class TaskService {
     /** Task repository for data persistence */
     private final TaskRepository taskRepository;
     
+    /** Queue for updates and deletions in write-behind mode, null in synchronous mode */
+    private final TaskWriteQueue writeQueue;
+    
+    /** Cache of the user's tasks in front of the repository */
+    private final TaskCache cache;
+    
+    /** Secondary indexes for grouping queries, loaded on first use */
+    private final TaskIndex index = new TaskIndex();
+    
+    /** Reminder service whose schedule drops the reminders of deleted tasks, may be null */
+    private volatile ReminderService reminderService;
+    
     /**
-     * Constructor for TaskService
+     * Constructor for TaskService.
+     * Uses the task durability mode from the application configuration.
      * 
      * @param username Username for repository creation
      */
     public TaskService(String username) {
+        this(username, AppConfig.getInstance().isTaskWriteBehindEnabled());
+    }
+    
+    /**
+     * Constructor for TaskService
+     * 
+     * @param username Username for repository creation
+     * @param writeBehind true to queue updates and deletions and write them in the background
+     */
+    public TaskService(String username, boolean writeBehind) {
+        AppConfig config = AppConfig.getInstance();
         this.taskRepository = new TaskRepository(username);
+        this.cache = new TaskCache(Math.max(0, config.getTaskCacheSize()),
+            config.getTaskCacheSize() > 0 ? config.getTaskCacheTtlMillis() : 0);
+        if (writeBehind) {
+            // Cached copies of changes that could not be written no longer match the database
+            this.writeQueue = new TaskWriteQueue(taskRepository,
+                config.getTaskWriteBatchSize(), config.getTaskWriteFlushIntervalMillis(), this::clearCache);
+            this.writeQueue.start();
+        } else {
+            this.writeQueue = null;
+        }
+    }
+    
+    /**
+     * Sets the reminder service told about deleted tasks
+     * 
+     * @param reminderService Reminder service of the same user, or null
+     */
+    public void setReminderService(ReminderService reminderService) {
+        this.reminderService = reminderService;
+    }
+    
+    /**
+     * Checks whether updates and deletions are written in the background
+     * 
+     * @return true in write-behind mode
+     */
+    public boolean isWriteBehind() {
+        return writeQueue != null;
+    }
+    
+    /**
+     * Waits until every queued update and deletion has been written.
+     * Returns immediately in synchronous mode.
+     */
+    public void flush() {
+        if (writeQueue != null) {
+            writeQueue.flush();
+        }
+    }
+    
+    /**
+     * Gets the number of task lookups answered from the cache
+     * 
+     * @return Cache hits
+     */
+    public long getCacheHitCount() {
+        return cache.getHits();
+    }
+    
+    /**
+     * Gets the number of task lookups that went to the database
+     * 
+     * @return Cache misses
+     */
+    public long getCacheMissCount() {
+        return cache.getMisses();
+    }
+    
+    /**
+     * Drops every cached and indexed task, e.g. after the database was changed outside this service
+     */
+    public void clearCache() {
+        cache.clear();
+        index.clear();
+    }
+    
+    /**
+     * Writes any queued changes and stops the background writer.
+     * The service keeps working afterwards, writing synchronously.
+     */
+    public void close() {
+        if (writeQueue != null) {
+            writeQueue.close();
+        }
     }
     
     /**
@@ -46,43 +146,106 @@ public class TaskService {
         }
         TaskmanagerItem task = new TaskmanagerItem(name, description, category);
         taskRepository.save(task);
+        cache.updated(task);
+        index.put(task);
         return task;
     }
     
     /**
-     * Gets a task by ID
+     * Gets a task by ID.
+     * Served from the task cache when possible.
      * 
      * @param id Task ID
      * @return Task with matching ID
      */
     public TaskmanagerItem getTask(String id) {
-        return taskRepository.getById(id);
+        if (writeQueue != null) {
+            TaskmanagerItem pending = writeQueue.getPendingUpdate(id);
+            if (pending != null) {
+                return pending;
+            }
+            if (writeQueue.isPendingDelete(id)) {
+                return null;
+            }
+        }
+        TaskmanagerItem task = cache.get(id);
+        if (task == null) {
+            task = taskRepository.getById(id);
+            cache.put(task);
+        }
+        return task;
     }
     
     /**
-     * Gets all tasks
+     * Gets all tasks.
+     * Served from the task cache when possible.
      * 
      * @return List of all tasks
      */
     public List<TaskmanagerItem> getAllTasks() {
-        return taskRepository.getAll();
+        List<TaskmanagerItem> tasks = cache.getAll();
+        if (tasks == null) {
+            flush();
+            tasks = taskRepository.getAll();
+            cache.putAll(tasks);
+        }
+        return tasks;
     }
     
     /**
-     * Updates an existing task
+     * Gets one page of tasks in ID order
+     * 
+     * @param afterId ID of the last task of the previous page, or null for the first page
+     * @param limit Maximum number of tasks to return
+     * @return Next page of tasks, empty when there are no more
+     */
+    public List<TaskmanagerItem> getTaskPage(String afterId, int limit) {
+        flush();
+        return taskRepository.getPage(afterId, limit);
+    }
+    
+    /**
+     * Streams all tasks in ID order without loading them all at once.
+     * The stream must be closed on the thread that opened it.
+     * 
+     * @return Lazily populated stream of tasks
+     */
+    public Stream<TaskmanagerItem> streamAllTasks() {
+        flush();
+        return taskRepository.stream();
+    }
+    
+    /**
+     * Updates an existing task.
+     * In write-behind mode the update is queued and written later; see flush().
      * 
      * @param task Task to update
      */
     public void updateTask(TaskmanagerItem task) {
+        cache.updated(task);
+        index.put(task);
+        if (writeQueue != null && writeQueue.update(task)) {
+            return;
+        }
         taskRepository.update(task);
     }
     
     /**
-     * Deletes a task
+     * Deletes a task.
+     * In write-behind mode the deletion is queued and written later; see flush().
      * 
      * @param id ID of task to delete
      */
     public void deleteTask(String id) {
+        cache.deleted(id);
+        index.remove(id);
+        ReminderService reminders = reminderService;
+        if (reminders != null) {
+            reminders.cancelRemindersForTask(id);
+        }
+        if (writeQueue != null && writeQueue.delete(id)) {
+            return;
+        }
         taskRepository.delete(id);
     }
     
@@ -106,9 +269,10 @@ public class TaskService {
      * @return List of tasks in the category
      */
     public List<TaskmanagerItem> getTasksByCategory(Category category) {
-        return getAllTasks().stream()
-                .filter(task -> task.getCategory().equals(category))
-                .collect(Collectors.toList());
+        if (category == null) {
+            return new ArrayList<>();
+        }
+        return index().getByCategory(category);
     }
     
     /**
@@ -118,9 +282,10 @@ public class TaskService {
      * @return List of tasks with the priority
      */
     public List<TaskmanagerItem> getTasksByPriority(Priority priority) {
-        return getAllTasks().stream()
-                .filter(task -> task.getPriority().equals(priority))
-                .collect(Collectors.toList());
+        if (priority == null) {
+            return new ArrayList<>();
+        }
+        return index().getByPriority(priority);
     }
     
     /**
@@ -129,9 +294,44 @@ public class TaskService {
      * @return List of overdue tasks
      */
     public List<TaskmanagerItem> getOverdueTasks() {
-        return getAllTasks().stream()
-                .filter(TaskmanagerItem::isOverdue)
-                .collect(Collectors.toList());
+        return index().getOverdue(new Date());
+    }
+    
+    /**
+     * Gets pending tasks whose deadline lies in a range, in deadline order.
+     * Answered from the task index without a database query or a sort.
+     * 
+     * @param fromMillis Lower bound for the deadline in epoch milliseconds
+     * @param fromInclusive true to include tasks due exactly at the lower bound
+     * @param toMillis Exclusive upper bound for the deadline in epoch milliseconds
+     * @return Matching tasks
+     */
+    public List<TaskmanagerItem> getPendingTasksByDeadline(long fromMillis, boolean fromInclusive, long toMillis) {
+        return index().getPendingByDeadline(fromMillis, fromInclusive, toMillis);
+    }
+    
+    /**
+     * Searches tasks by name and description using the full-text index
+     * 
+     * @param query Search text; every word must start a word of the task
+     * @param limit Maximum number of tasks to return
+     * @return Matching tasks, best match first
+     */
+    public List<TaskmanagerItem> searchTasks(String query, int limit) {
+        flush();
+        return taskRepository.search(query, limit);
+    }
+    
+    /**
+     * Gets tasks matching a query.
+     * Filtering is done by the repository in a single SQL query.
+     * 
+     * @param query Criteria the tasks must match
+     * @return List of matching tasks
+     */
+    public List<TaskmanagerItem> findTasks(TaskQuery query) {
+        flush();
+        return taskRepository.find(query);
     }
     
     /**
@@ -142,6 +342,7 @@ public class TaskService {
      * @return List of tasks in the date range
      */
     public List<TaskmanagerItem> getTasksInDateRange(Date startDate, Date endDate) {
+        flush();
         return taskRepository.getTasksInDateRange(startDate, endDate);
     }
     
@@ -234,22 +435,30 @@ public class TaskService {
      * @return the tasks by project
      */
     public List<TaskmanagerItem> getTasksByProject(String projectId, boolean includeCompleted) {
-        // Tüm görevleri getir
-        List<TaskmanagerItem> allTasks = taskRepository.getAll();
-        
-        // Proje ID'sine göre filtrele
-        List<TaskmanagerItem> projectTasks = allTasks.stream()
-            .filter(task -> task.getProject() != null && task.getProject().getId().equals(projectId))
-            .collect(Collectors.toList());
+        if (projectId == null) {
+            return new ArrayList<>();
+        }
         
-        // İstenirse tamamlanmış görevleri filtrele
-        if (includeCompleted) {
-            return projectTasks;
-        } else {
-            return projectTasks.stream()
-                .filter(task -> !task.isCompleted())
-                .collect(Collectors.toList());
+        // Proje ID'sine göre filtrele, istenirse tamamlanmış görevleri hariç tut
+        return index().getByProject(projectId, includeCompleted);
+    }
+    
+    /**
+     * Gets the task index, loading it from the repository on first use
+     * 
+     * @return Loaded task index
+     */
+    private TaskIndex index() {
+        // Read without holding the index lock: getAllTasks() may wait for the writer thread,
+        // whose failure handler clears the index. A change made meanwhile forces another read.
+        while (!index.isLoaded()) {
+            long version = index.getVersion();
+            List<TaskmanagerItem> tasks = getAllTasks();
+            if (index.loadIfUnchanged(tasks, taskRepository.getProjectTaskIds(), version)) {
+                break;
+            }
         }
+        return index;
     }
 
     /**
@@ -260,13 +469,10 @@ public class TaskService {
      */
     public List<TaskmanagerItem> getAllTasks(boolean includeCompleted) {
         if (includeCompleted) {
-            return taskRepository.getAll();
+            return getAllTasks();
         } else {
             // Tamamlanmış görevleri hariç tut, sadece boş liste döndürme
-            List<TaskmanagerItem> allTasks = taskRepository.getAll();
-            return allTasks.stream()
-                .filter(task -> !task.isCompleted())
-                .collect(Collectors.toList());
+            return findTasks(new TaskQuery().completed(false));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,340 @@
+package com.naz.taskmanager.service;
+
+import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.repository.TaskRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Write-behind queue for task updates and deletions.
+ * Changes are queued on the caller's thread and coalesced per task ID, so a
+ * task updated several times is written once with its latest state. A single
+ * writer thread commits the queued changes as one transaction when the batch
+ * size is reached or the oldest change has waited for the flush interval.
+ * Changes being written stay visible through getPendingUpdate and
+ * isPendingDelete until their transaction has finished, so a reader never
+ * sees the row they replace.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+class TaskWriteQueue {
+    /** Repository the changes are written to */
+    private final TaskRepository taskRepository;
+
+    /** Number of queued changes that triggers a write */
+    private final int batchSize;
+
+    /** Longest time a queued change waits before it is written */
+    private final long flushIntervalMillis;
+
+    /** Called on the writer thread after changes were dropped because they could not be written */
+    private final Runnable onWriteFailure;
+
+    /** Tasks waiting to be updated, by ID in the order first queued */
+    private final Map<String, TaskmanagerItem> pendingUpdates = new LinkedHashMap<>();
+
+    /** IDs of tasks waiting to be deleted */
+    private final Set<String> pendingDeletes = new LinkedHashSet<>();
+
+    /** Updates taken by writePending whose transaction has not finished yet */
+    private final Map<String, TaskmanagerItem> inFlightUpdates = new HashMap<>();
+
+    /** Deletions taken by writePending whose transaction has not finished yet */
+    private final Set<String> inFlightDeletes = new HashSet<>();
+
+    /** Number of changes queued so far */
+    private long queuedCount = 0;
+
+    /** Number of queued changes written so far */
+    private long writtenCount = 0;
+
+    /** Time the oldest pending change was queued */
+    private long oldestQueuedAt = 0;
+
+    /** Flag indicating a caller is waiting in flush() */
+    private boolean flushRequested = false;
+
+    /** Writer thread, null when the queue is not running */
+    private Thread worker;
+
+    /** Flag indicating the writer should keep running */
+    private boolean running = false;
+
+    /** Hook that writes pending changes when the JVM exits */
+    private Thread shutdownHook;
+
+    /**
+     * Constructor for TaskWriteQueue
+     *
+     * @param taskRepository Repository the changes are written to
+     * @param batchSize Number of queued changes that triggers a write
+     * @param flushIntervalMillis Longest time a queued change waits before it is written
+     * @param onWriteFailure Called after changes were dropped, e.g. to forget cached copies of them
+     */
+    TaskWriteQueue(TaskRepository taskRepository, int batchSize, long flushIntervalMillis,
+            Runnable onWriteFailure) {
+        this.taskRepository = taskRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(1, flushIntervalMillis);
+        this.onWriteFailure = onWriteFailure;
+    }
+
+    /**
+     * Starts the writer thread
+     */
+    synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "task-writer");
+        worker.setDaemon(true);
+        worker.start();
+
+        shutdownHook = new Thread(this::close, "task-writer-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Stops the writer thread and writes every pending change on the caller's thread
+     */
+    void close() {
+        Thread stopping;
+        Thread hook;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            stopping = worker;
+            hook = shutdownHook;
+            worker = null;
+            shutdownHook = null;
+            notifyAll();
+        }
+
+        if (stopping != Thread.currentThread()) {
+            try {
+                stopping.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writePending();
+
+        if (hook != Thread.currentThread()) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(hook);
+            } catch (IllegalStateException e) {
+                // JVM is already shutting down
+            }
+        }
+    }
+
+    /**
+     * Queues an update of a task
+     *
+     * @param task Task whose current state should be written
+     * @return false if the queue is closed and the caller must write the change itself
+     */
+    synchronized boolean update(TaskmanagerItem task) {
+        if (!running) {
+            return false;
+        }
+        if (!pendingDeletes.contains(task.getId()) && !inFlightDeletes.contains(task.getId())) {
+            // Updating a task queued for deletion has no effect, as in synchronous mode
+            pendingUpdates.put(task.getId(), task);
+            queued();
+        }
+        return true;
+    }
+
+    /**
+     * Queues the deletion of a task, dropping any pending update of it
+     *
+     * @param id ID of the task to delete
+     * @return false if the queue is closed and the caller must write the change itself
+     */
+    synchronized boolean delete(String id) {
+        if (!running) {
+            return false;
+        }
+        pendingUpdates.remove(id);
+        pendingDeletes.add(id);
+        queued();
+        return true;
+    }
+
+    /**
+     * Gets a task with a pending update, including one being written
+     *
+     * @param id Task ID
+     * @return Queued task, or null if no update of it is pending
+     */
+    synchronized TaskmanagerItem getPendingUpdate(String id) {
+        TaskmanagerItem task = pendingUpdates.get(id);
+        if (task != null || pendingDeletes.contains(id)) {
+            return task;
+        }
+        return inFlightUpdates.get(id);
+    }
+
+    /**
+     * Checks whether a task is waiting to be deleted or being deleted
+     *
+     * @param id Task ID
+     * @return true if a deletion of the task is pending
+     */
+    synchronized boolean isPendingDelete(String id) {
+        return pendingDeletes.contains(id) || inFlightDeletes.contains(id);
+    }
+
+    /**
+     * Gets the number of pending changes
+     *
+     * @return Number of tasks waiting to be updated or deleted
+     */
+    synchronized int getPendingCount() {
+        return pendingUpdates.size() + pendingDeletes.size();
+    }
+
+    /**
+     * Waits until every change queued before the call has been written
+     */
+    void flush() {
+        synchronized (this) {
+            long target = queuedCount;
+            if (running) {
+                flushRequested = true;
+                notifyAll();
+                while (running && writtenCount < target) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (writtenCount >= target) {
+                    return;
+                }
+            }
+        }
+        // Not running, or stopped while waiting: write on the caller's thread
+        writePending();
+    }
+
+    /**
+     * Records a new change. Must be called holding the lock.
+     */
+    private void queued() {
+        queuedCount++;
+        if (getPendingCount() == 1) {
+            // First pending change: the writer is idle and must start its timer
+            oldestQueuedAt = System.currentTimeMillis();
+            notifyAll();
+        } else if (getPendingCount() >= batchSize) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Writer loop: waits for a full batch, the flush interval or a flush
+     * request, then commits the pending changes.
+     */
+    private void run() {
+        while (true) {
+            synchronized (this) {
+                try {
+                    while (running) {
+                        if (getPendingCount() > 0) {
+                            long wait = oldestQueuedAt + flushIntervalMillis - System.currentTimeMillis();
+                            if (flushRequested || getPendingCount() >= batchSize || wait <= 0) {
+                                break;
+                            }
+                            wait(wait);
+                        } else {
+                            wait();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (!running) {
+                    return;
+                }
+            }
+            writePending();
+        }
+    }
+
+    /**
+     * Takes the pending changes and commits them as one transaction.
+     * If the group fails, each change is retried on its own so one bad
+     * change does not lose the others. Changes that still fail are logged
+     * and dropped, and onWriteFailure is called. The changes are kept as
+     * in flight until the writes have finished.
+     */
+    private void writePending() {
+        List<TaskmanagerItem> updates;
+        List<String> deletes;
+        long count;
+        synchronized (this) {
+            updates = new ArrayList<>(pendingUpdates.values());
+            deletes = new ArrayList<>(pendingDeletes);
+            inFlightUpdates.putAll(pendingUpdates);
+            inFlightDeletes.addAll(pendingDeletes);
+            pendingUpdates.clear();
+            pendingDeletes.clear();
+            flushRequested = false;
+            count = queuedCount;
+        }
+
+        int failed = 0;
+        if (!updates.isEmpty() || !deletes.isEmpty()) {
+            if (!taskRepository.applyChanges(updates, deletes)) {
+                for (TaskmanagerItem task : updates) {
+                    if (!taskRepository.applyChanges(Collections.singletonList(task), Collections.<String>emptyList())) {
+                        System.out.println("Dropping queued update of task " + task.getId());
+                        failed++;
+                    }
+                }
+                for (String id : deletes) {
+                    if (!taskRepository.applyChanges(Collections.<TaskmanagerItem>emptyList(), Collections.singletonList(id))) {
+                        System.out.println("Dropping queued deletion of task " + id);
+                        failed++;
+                    }
+                }
+            }
+        }
+
+        synchronized (this) {
+            for (TaskmanagerItem task : updates) {
+                inFlightUpdates.remove(task.getId(), task);
+            }
+            inFlightDeletes.removeAll(deletes);
+        }
+        if (failed > 0) {
+            System.out.println("Error writing task changes: " + failed + " of "
+                + (updates.size() + deletes.size()) + " queued changes were not saved");
+            try {
+                onWriteFailure.run();
+            } catch (RuntimeException e) {
+                System.out.println("Error handling failed task changes: " + e.getMessage());
+            }
+        }
+
+        synchronized (this) {
+            writtenCount = Math.max(writtenCount, count);
+            notifyAll();
+        }
+    }
+}
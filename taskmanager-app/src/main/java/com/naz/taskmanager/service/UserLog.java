@@ -0,0 +1,377 @@
+package com.naz.taskmanager.service;
+
+import com.naz.taskmanager.model.User;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of user records with an in-memory index by username.
+ * Each record is length-prefixed and checksummed, so registering a user
+ * appends one record instead of rewriting every user. A later record for
+ * the same username replaces the earlier one; once replaced records
+ * outnumber live ones the file is compacted.
+ *
+ * The file is read into memory in one pass. A record cut short by a
+ * crash is dropped on load. A file written by the earlier Java
+ * serialization format is converted on first load. If the file cannot be
+ * read, nothing is appended to it until a later load succeeds.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+class UserLog {
+    /** File header: "TMUL" followed by the format version */
+    private static final int MAGIC = 0x544D554C;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+
+    /** Record header: payload length and CRC-32 of the payload */
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    /** Replaced records tolerated before compaction is considered */
+    static final int COMPACTION_MIN_DEAD = 64;
+
+    /** First bytes of a Java serialization stream */
+    private static final short SERIAL_MAGIC = (short) 0xACED;
+
+    private final Path path;
+
+    /** Live users by username, in registration order */
+    private final Map<String, User> users = new LinkedHashMap<>();
+
+    /** Number of records in the file, live and replaced */
+    private int recordCount = 0;
+
+    /** Whether the last load failed, leaving the file in an unknown format */
+    private boolean loadFailed = false;
+
+    /**
+     * Constructor for UserLog
+     *
+     * @param file Log file, created on the first append
+     */
+    UserLog(File file) {
+        this.path = file.toPath();
+    }
+
+    /**
+     * Reads the log into the index.
+     * Drops a torn record at the end of the file, converts a legacy file and
+     * compacts the log if it holds mostly replaced records. After a failed
+     * load, put is refused until a load succeeds.
+     *
+     * @throws IOException if the file cannot be read
+     */
+    synchronized void load() throws IOException {
+        users.clear();
+        recordCount = 0;
+        loadFailed = true;
+        readLog();
+        loadFailed = false;
+    }
+
+    /**
+     * Reads the file into the index, repairing or converting it as needed
+     *
+     * @throws IOException if the file cannot be read
+     */
+    private void readLog() throws IOException {
+        if (!Files.exists(path) || Files.size(path) == 0) {
+            return;
+        }
+
+        // Read onto the heap so no mapping is left open on the file when it
+        // is truncated or replaced below
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        long validLength = -1;
+        boolean legacy = buffer.remaining() >= 2 && buffer.getShort(0) == SERIAL_MAGIC;
+        if (!legacy) {
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Unknown user data format: " + path);
+            }
+            validLength = readRecords(buffer);
+        }
+        if (validLength < 0) {
+            loadLegacy();
+            return;
+        }
+
+        if (validLength < buffer.limit()) {
+            System.out.println("Dropping incomplete user record at offset " + validLength);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Reads records until the end of the buffer or the first damaged record
+     *
+     * @param buffer Buffer positioned after the file header
+     * @return Length of the file up to the last intact record
+     */
+    private long readRecords(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                return start;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            crc.reset();
+            crc.update(payload, 0, length);
+            if ((int) crc.getValue() != checksum) {
+                return start;
+            }
+            try {
+                User user = decode(ByteBuffer.wrap(payload));
+                users.put(user.getUsername(), user);
+                recordCount++;
+            } catch (BufferUnderflowException e) {
+                return start;
+            }
+        }
+        return buffer.position();
+    }
+
+    /**
+     * Loads a map written with ObjectOutputStream and rewrites it as a log
+     *
+     * @throws IOException if the file cannot be read or rewritten
+     */
+    @SuppressWarnings("unchecked")
+    private void loadLegacy() throws IOException {
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(path.toFile()))) {
+            users.putAll((Map<String, User>) ois.readObject());
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Cannot read legacy user data", e);
+        }
+        compact();
+    }
+
+    /**
+     * Gets a user by username
+     *
+     * @param username Username
+     * @return User, or null if not found
+     */
+    synchronized User get(String username) {
+        return users.get(username);
+    }
+
+    /**
+     * Checks whether a username is taken
+     *
+     * @param username Username
+     * @return true if a user with the name exists
+     */
+    synchronized boolean contains(String username) {
+        return users.containsKey(username);
+    }
+
+    /**
+     * Gets the number of live users
+     *
+     * @return Number of users
+     */
+    synchronized int size() {
+        return users.size();
+    }
+
+    /**
+     * Gets every live user
+     *
+     * @return Users in registration order
+     */
+    synchronized Collection<User> getAll() {
+        return new ArrayList<>(users.values());
+    }
+
+    /**
+     * Gets the number of records in the file, including replaced ones
+     *
+     * @return Number of records
+     */
+    synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Stores a user, replacing any user with the same name.
+     * The record is appended and forced to disk before the index changes.
+     *
+     * @param user User to store
+     * @throws IOException if the record cannot be written or the last load failed
+     */
+    synchronized void put(User user) throws IOException {
+        if (loadFailed) {
+            throw new IOException("User data could not be loaded, not writing to " + path);
+        }
+        ByteBuffer record = record(user);
+        boolean created = !Files.exists(path) || Files.size(path) == 0;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            if (created) {
+                writeFully(channel, header());
+            }
+            writeFully(channel, record);
+            channel.force(false);
+        }
+        users.put(user.getUsername(), user);
+        recordCount++;
+        compactIfNeeded();
+    }
+
+    /**
+     * Compacts the log when replaced records pass the threshold and outnumber live ones
+     *
+     * @throws IOException if the compacted file cannot be written
+     */
+    private void compactIfNeeded() throws IOException {
+        int dead = recordCount - users.size();
+        if (dead > COMPACTION_MIN_DEAD && dead > users.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the log with one record per live user.
+     * The new file is written beside the old one and moved over it, so a
+     * crash leaves either the old or the new log.
+     *
+     * @throws IOException if the compacted file cannot be written
+     */
+    synchronized void compact() throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header());
+            for (User user : users.values()) {
+                writeFully(channel, record(user));
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        recordCount = users.size();
+    }
+
+    /**
+     * Builds the file header
+     *
+     * @return Header ready to write
+     */
+    private static ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).flip();
+        return header;
+    }
+
+    /**
+     * Builds the record of a user: length, CRC-32, then the payload
+     *
+     * @param user User to encode
+     * @return Record ready to write
+     */
+    private static ByteBuffer record(User user) {
+        List<byte[]> fields = new ArrayList<>();
+        int length = 0;
+        for (String value : new String[] {user.getUsername(), user.getPassword(), user.getEmail()}) {
+            byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+            fields.add(bytes);
+            length += 4 + (bytes != null ? bytes.length : 0);
+        }
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        for (byte[] bytes : fields) {
+            if (bytes == null) {
+                payload.putInt(-1);
+            } else {
+                payload.putInt(bytes.length).put(bytes);
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload.array(), 0, length);
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + length);
+        record.putInt(length).putInt((int) crc.getValue()).put(payload.array()).flip();
+        return record;
+    }
+
+    /**
+     * Decodes a record payload
+     *
+     * @param payload Payload of one record
+     * @return Decoded user
+     */
+    private static User decode(ByteBuffer payload) {
+        String username = readString(payload);
+        String password = readString(payload);
+        String email = readString(payload);
+        if (username == null) {
+            throw new BufferUnderflowException();
+        }
+        return new User(username, password, email);
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string, -1 standing for null
+     *
+     * @param buffer Buffer to read from
+     * @return String, or null
+     */
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a whole buffer to a channel
+     *
+     * @param channel Channel to write to
+     * @param buffer Buffer to write
+     * @throws IOException if the write fails
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
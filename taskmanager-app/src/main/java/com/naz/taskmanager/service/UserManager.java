@@ -1,24 +1,25 @@
 package com.naz.taskmanager.service;
 
 import com.naz.taskmanager.model.User;
-import java.io.*;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.File;
+import java.io.IOException;
 
 /**
  * Service class for user management.
  * Implements Singleton pattern for user operations.
+ * Users are kept in an append-only record log, so registering a user
+ * writes one record rather than the whole user file.
  * 
  * @author TaskManager Team
  * @version 1.0
  */
 public class UserManager {
     private static final String USER_DATA_FILE = "data/users.dat";
-    private Map<String, User> users;
+    private final UserLog userLog;
     private static UserManager instance;
     
     private UserManager() {
-        users = new HashMap<>();
+        userLog = new UserLog(new File(USER_DATA_FILE));
         loadUsers();
     }
     
@@ -30,18 +31,22 @@ public class UserManager {
     }
     
     public boolean registerUser(String username, String password, String email) {
-        if (users.containsKey(username)) {
+        if (userLog.contains(username)) {
             return false;
         }
         
         User newUser = new User(username, password, email);
-        users.put(username, newUser);
-        saveUsers();
+        try {
+            userLog.put(newUser);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
         return true;
     }
     
     public User loginUser(String username, String password) {
-        User user = users.get(username);
+        User user = userLog.get(username);
         if (user != null && user.getPassword().equals(password)) {
             return user;
         }
@@ -49,26 +54,12 @@ public class UserManager {
     }
     
     private void loadUsers() {
-        File file = new File(USER_DATA_FILE);
-        if (!file.exists()) {
-            return;
-        }
-        
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-            users = (Map<String, User>) ois.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            e.printStackTrace();
-        }
-    }
-    
-    private void saveUsers() {
-        File file = new File(USER_DATA_FILE);
-        file.getParentFile().mkdirs();
-        
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
-            oos.writeObject(users);
+        try {
+            userLog.load();
         } catch (IOException e) {
+            // The log refuses new users until it loads, so the file is left as found
+            System.out.println("Error loading users, registration is disabled: " + e.getMessage());
             e.printStackTrace();
         }
     }
-} 
\ No newline at end of file
+}
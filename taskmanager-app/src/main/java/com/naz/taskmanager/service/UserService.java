@@ -1,7 +1,10 @@
 package com.naz.taskmanager.service;
 
 import com.naz.taskmanager.User;
+import com.naz.taskmanager.repository.LoginMetrics;
 import com.naz.taskmanager.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -50,26 +53,43 @@ public class UserService {
                 return false;
             }
             
-            // Check if user already exists
-            if (userRepository.userExists(username)) {
-                // If in test environment and user already exists, delete it
-                if (username.startsWith("test_user_")) {
-                    userRepository.delete(username);
-                } else {
-                    return false;
-                }
+            // In test environment an existing test user is replaced
+            if (username.startsWith("test_user_")) {
+                userRepository.delete(username);
             }
             
-            // Create and save user
+            // Insert unless the username is taken
             User user = new User(username, password, email);
-            userRepository.save(user);
-            return true;
+            return userRepository.saveIfAbsent(user);
         } catch (Exception e) {
             System.out.println("Error registering user: " + e.getMessage());
             return false;
         }
     }
     
+    /**
+     * Imports several users at once, replacing existing users with the same name.
+     * Users without a username or password are skipped.
+     * 
+     * @param users Users to import
+     * @return Usernames of the imported users, empty if the import failed
+     */
+    public List<String> importUsers(Collection<User> users) {
+        List<User> valid = new ArrayList<>();
+        for (User user : users) {
+            if (user.getUsername() != null && !user.getUsername().trim().isEmpty() &&
+                user.getPassword() != null && !user.getPassword().trim().isEmpty()) {
+                valid.add(user);
+            }
+        }
+        try {
+            return userRepository.saveAll(valid);
+        } catch (Exception e) {
+            System.out.println("Error importing users: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+    
     /**
      * Gets all users
      * 
@@ -135,4 +155,13 @@ public class UserService {
         userRepository.update(user);
         return true;
     }
+    
+    /**
+     * Gets the login counters and latency histogram
+     * 
+     * @return Metrics of every login since startup
+     */
+    public LoginMetrics getLoginMetrics() {
+        return UserRepository.getLoginMetrics();
+    }
 }
\ No newline at end of file
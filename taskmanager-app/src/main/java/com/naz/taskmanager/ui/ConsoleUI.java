@@ -3,8 +3,8 @@ package com.naz.taskmanager.ui;
 import com.naz.taskmanager.Taskmanager;
 import com.naz.taskmanager.model.*;
 import com.naz.taskmanager.service.*;
+import com.naz.taskmanager.util.DateCodec;
 import java.io.PrintStream;
-import java.text.SimpleDateFormat;
 import java.util.List;
 import java.util.Scanner;
 import java.util.Date;
@@ -37,8 +37,8 @@ public class ConsoleUI {
     /** @brief Taskmanager instance */
     private final Taskmanager taskManager;
     
-    /** @brief Date format for display */
-    private final SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
+    /** @brief Number of tasks read from the database at a time when listing */
+    private static final int PAGE_SIZE = 20;
     
     /**
      * @brief Constructor for ConsoleUI
@@ -62,10 +62,11 @@ public class ConsoleUI {
     /**
      * @brief Display all tasks
      * 
-     * @details Shows a list of all tasks with their details.
+     * @details Shows a list of all tasks with their details, reading them
+     * one page at a time so the first tasks appear without loading the whole list.
      */
     public void displayAllTasks() {
-        List<TaskmanagerItem> tasks = taskService.getAllTasks();
+        List<TaskmanagerItem> tasks = taskService.getTaskPage(null, PAGE_SIZE);
         
         if (tasks.isEmpty()) {
             out.println("No tasks found.");
@@ -74,10 +75,17 @@ public class ConsoleUI {
         
         out.println("===== ALL TASKS =====");
         
-        for (int i = 0; i < tasks.size(); i++) {
-            TaskmanagerItem task = tasks.get(i);
-            displayTask(i + 1, task);
-            out.println("--------------------");
+        // Each page is printed before the next one is read
+        int index = 0;
+        while (!tasks.isEmpty()) {
+            for (TaskmanagerItem task : tasks) {
+                displayTask(++index, task);
+                out.println("--------------------");
+            }
+            if (tasks.size() < PAGE_SIZE) {
+                break;
+            }
+            tasks = taskService.getTaskPage(tasks.get(tasks.size() - 1).getId(), PAGE_SIZE);
         }
     }
     
@@ -92,7 +100,7 @@ public class ConsoleUI {
         out.println("   Description: " + task.getDescription());
         
         if (task.getDeadline() != null) {
-            out.println("   Deadline: " + dateFormat.format(task.getDeadline()));
+            out.println("   Deadline: " + DateCodec.formatUi(task.getDeadline()));
             if (task.isOverdue()) {
                 out.println("   Status: OVERDUE");
             } else {
@@ -227,14 +235,14 @@ public class ConsoleUI {
     private void assignDeadlineToTask(TaskmanagerItem task) {
         out.println("Current task: " + task.getName());
         if (task.getDeadline() != null) {
-            out.println("Current deadline: " + dateFormat.format(task.getDeadline()));
+            out.println("Current deadline: " + DateCodec.formatUi(task.getDeadline()));
         }
         
         out.println("Enter new deadline (format: dd/MM/yyyy HH:mm): ");
         String deadlineStr = scanner.nextLine().trim();
         
         try {
-            Date deadline = dateFormat.parse(deadlineStr);
+            Date deadline = DateCodec.parseUi(deadlineStr);
             task.setDeadline(deadline);
             
             // Update task
@@ -362,7 +370,7 @@ public class ConsoleUI {
         for (int i = 0; i < tasksWithDeadlines.size(); i++) {
             TaskmanagerItem task = tasksWithDeadlines.get(i);
             out.println((i + 1) + ". " + task.getName());
-            out.println("   Deadline: " + dateFormat.format(task.getDeadline()));
+            out.println("   Deadline: " + DateCodec.formatUi(task.getDeadline()));
             out.println("----------------------------------------");
         }
         
@@ -403,7 +411,7 @@ public class ConsoleUI {
         }
         
         out.println("Task: " + task.getName());
-        out.println("Deadline: " + dateFormat.format(deadline));
+        out.println("Deadline: " + DateCodec.formatUi(deadline));
         
         out.println("\nHow many minutes before the deadline do you want to be reminded?");
         out.println("1. 15 minutes");
@@ -432,19 +440,19 @@ public class ConsoleUI {
                 out.print("Enter custom minutes before deadline: ");
                 minutesBefore = taskManager.getInput();
                 if (minutesBefore <= 0) {
-                    out.println("Invalid input. Setting to 30 minutes by default.");
-                    minutesBefore = 30;
+                    minutesBefore = reminderService.getDefaultReminderMinutes();
+                    out.println("Invalid input. Setting to " + minutesBefore + " minutes by default.");
                 }
                 break;
             default:
-                out.println("Invalid choice. Setting to 30 minutes by default.");
-                minutesBefore = 30;
+                minutesBefore = reminderService.getDefaultReminderMinutes();
+                out.println("Invalid choice. Setting to " + minutesBefore + " minutes by default.");
         }
         
         // Create reminder using service
         try {
             Reminder reminder = reminderService.createReminderBeforeDeadline(task, minutesBefore);
-            out.println("Reminder set successfully for " + dateFormat.format(reminder.getReminderTime()));
+            out.println("Reminder set successfully for " + DateCodec.formatUi(reminder.getReminderTime()));
         } catch (Exception e) {
             out.println("Error setting reminder: " + e.getMessage());
         }
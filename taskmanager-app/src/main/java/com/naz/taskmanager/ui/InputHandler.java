@@ -1,7 +1,7 @@
 package com.naz.taskmanager.ui;
 
+import com.naz.taskmanager.util.DateCodec;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Scanner;
 
@@ -16,9 +16,6 @@ public class InputHandler {
     /** Scanner for user input */
     private final Scanner scanner;
     
-    /** Date format for date input/output */
-    private final SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
-    
     /**
      * Constructor for InputHandler
      * 
@@ -122,7 +119,7 @@ public class InputHandler {
         }
         
         try {
-            return dateFormat.parse(dateStr);
+            return DateCodec.parseUi(dateStr);
         } catch (ParseException e) {
             System.out.println("Invalid date format. Please use dd/MM/yyyy HH:mm");
             return null;
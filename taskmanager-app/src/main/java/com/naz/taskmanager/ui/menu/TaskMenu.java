@@ -8,7 +8,7 @@ import java.util.Scanner;
 
 /**
  * Task management menu implementation.
- * Provides options for adding, viewing, categorizing, and deleting tasks.
+ * Provides options for adding, viewing, categorizing, deleting and searching tasks.
  * 
  * @author TaskManager Team
  * @version 1.0
@@ -72,6 +72,10 @@ public class TaskMenu implements Menu {
                 taskManager.deleteTasks();
                 break;
             case 5:
+                taskManager.searchTasks();
+                taskManager.enterToContinue();
+                break;
+            case 6:
                 return false;
             default:
                 taskManager.clearScreen();
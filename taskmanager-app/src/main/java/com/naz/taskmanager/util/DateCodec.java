@@ -0,0 +1,331 @@
+package com.naz.taskmanager.util;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe conversion between Date values and their text forms.
+ * Unlike SimpleDateFormat, every formatter here is immutable, so one
+ * instance is shared by all threads. The database format
+ * (yyyy-MM-dd HH:mm:ss) is written and read with a fixed-width fast path
+ * that does not go through a formatter at all; other patterns are cached
+ * after their first use.
+ *
+ * Dates are converted in the system default time zone, as SimpleDateFormat did.
+ * Date columns in the database hold epoch milliseconds, see {@link #fromDbValue}.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+public final class DateCodec {
+    /** Pattern used for dates stored in the database */
+    public static final String DB_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    /** Pattern used for dates shown in the user interface */
+    public static final String UI_PATTERN = "dd/MM/yyyy HH:mm";
+
+    /** Formatter for the database pattern, used when the fast path does not apply */
+    public static final DateTimeFormatter DB_FORMATTER = DateTimeFormatter.ofPattern(DB_PATTERN);
+
+    /** Formatter for dates shown in the user interface */
+    public static final DateTimeFormatter UI_FORMATTER = DateTimeFormatter.ofPattern(UI_PATTERN);
+
+    /**
+     * Parser for typed UI dates, also accepting single-digit day, month and
+     * hour. Strict resolution rejects dates such as 31/02 instead of clamping
+     * them, so they reach the lenient parser and roll over as before.
+     */
+    private static final DateTimeFormatter UI_INPUT_FORMATTER =
+        DateTimeFormatter.ofPattern("d/M/uuuu H:mm").withResolverStyle(ResolverStyle.STRICT);
+
+    /** Lenient parser matching how typed UI dates were read before this class, one per thread */
+    private static final ThreadLocal<SimpleDateFormat> LEGACY_UI_PARSER =
+        ThreadLocal.withInitial(() -> new SimpleDateFormat(UI_PATTERN));
+
+    /** Length of a database date string */
+    private static final int DB_LENGTH = 19;
+
+    /** Formatters by pattern, built on first use */
+    private static final ConcurrentMap<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    static {
+        FORMATTERS.put(DB_PATTERN, DB_FORMATTER);
+        FORMATTERS.put(UI_PATTERN, UI_FORMATTER);
+    }
+
+    /**
+     * Private constructor, the class only has static methods
+     */
+    private DateCodec() {
+    }
+
+    /**
+     * Formats a date for database storage
+     *
+     * @param date Date to format
+     * @return Text in yyyy-MM-dd HH:mm:ss form, or null if date is null
+     */
+    public static String formatDb(Date date) {
+        if (date == null) {
+            return null;
+        }
+        LocalDateTime time = LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+        int year = time.getYear();
+        if (year < 0 || year > 9999) {
+            return DB_FORMATTER.format(time);
+        }
+
+        char[] buf = new char[DB_LENGTH];
+        putDigits(buf, 0, year, 4);
+        buf[4] = '-';
+        putDigits(buf, 5, time.getMonthValue(), 2);
+        buf[7] = '-';
+        putDigits(buf, 8, time.getDayOfMonth(), 2);
+        buf[10] = ' ';
+        putDigits(buf, 11, time.getHour(), 2);
+        buf[13] = ':';
+        putDigits(buf, 14, time.getMinute(), 2);
+        buf[16] = ':';
+        putDigits(buf, 17, time.getSecond(), 2);
+        return new String(buf);
+    }
+
+    /**
+     * Parses a date read from the database
+     *
+     * @param text Text in yyyy-MM-dd HH:mm:ss form
+     * @return Parsed date, or null if text is null
+     * @throws ParseException if the text is not a valid database date
+     */
+    public static Date parseDb(String text) throws ParseException {
+        if (text == null) {
+            return null;
+        }
+        LocalDateTime time = parseDbFixedWidth(text);
+        if (time == null) {
+            time = parse(text, DB_FORMATTER);
+        }
+        return toDate(time);
+    }
+
+    /**
+     * Converts a date column value read from the database.
+     * Dates are stored as INTEGER epoch milliseconds; TEXT values in the
+     * yyyy-MM-dd HH:mm:ss form written before that change are still accepted.
+     *
+     * @param value Column value as returned by ResultSet.getObject
+     * @return Date, or null if value is null
+     * @throws ParseException if a TEXT value is not a valid database date
+     */
+    public static Date fromDbValue(Object value) throws ParseException {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return new Date(((Number) value).longValue());
+        }
+        String text = value.toString();
+        if (isEpochMillis(text)) {
+            // Epoch milliseconds that ended up in a column with TEXT affinity
+            return new Date(Long.parseLong(text));
+        }
+        return parseDb(text);
+    }
+
+    /**
+     * Formats a date for display
+     *
+     * @param date Date to format
+     * @return Text in dd/MM/yyyy HH:mm form, or null if date is null
+     */
+    public static String formatUi(Date date) {
+        return format(date, UI_FORMATTER);
+    }
+
+    /**
+     * Parses a date typed by the user.
+     * Well-formed input goes through the shared formatter. Anything else is
+     * handed to a lenient SimpleDateFormat, so input accepted before keeps
+     * its meaning: out-of-range fields roll over (32/01 is 01/02), trailing
+     * text is ignored and a short year is taken literally.
+     *
+     * @param text Text in dd/MM/yyyy HH:mm form; single-digit day, month and hour are accepted
+     * @return Parsed date
+     * @throws ParseException if the text is not a valid date
+     */
+    public static Date parseUi(String text) throws ParseException {
+        if (text == null) {
+            throw new ParseException("Date text is null", 0);
+        }
+        try {
+            return toDate(parse(text.trim(), UI_INPUT_FORMATTER));
+        } catch (ParseException e) {
+            return LEGACY_UI_PARSER.get().parse(text);
+        }
+    }
+
+    /**
+     * Formats a date with any pattern, reusing the formatter built for it
+     *
+     * @param date Date to format
+     * @param pattern DateTimeFormatter pattern
+     * @return Formatted text, or null if date is null
+     */
+    public static String format(Date date, String pattern) {
+        return format(date, formatter(pattern));
+    }
+
+    /**
+     * Gets the shared formatter for a pattern
+     *
+     * @param pattern DateTimeFormatter pattern
+     * @return Cached formatter
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter formatter(String pattern) {
+        DateTimeFormatter formatter = FORMATTERS.get(pattern);
+        if (formatter == null) {
+            formatter = DateTimeFormatter.ofPattern(pattern);
+            DateTimeFormatter existing = FORMATTERS.putIfAbsent(pattern, formatter);
+            if (existing != null) {
+                formatter = existing;
+            }
+        }
+        return formatter;
+    }
+
+    /**
+     * Formats a date with a formatter in the system time zone
+     *
+     * @param date Date to format
+     * @param formatter Formatter to use
+     * @return Formatted text, or null if date is null
+     */
+    private static String format(Date date, DateTimeFormatter formatter) {
+        if (date == null) {
+            return null;
+        }
+        return formatter.format(LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()));
+    }
+
+    /**
+     * Parses text with a formatter, reporting failures as ParseException
+     *
+     * @param text Text to parse
+     * @param formatter Formatter to use
+     * @return Parsed local date-time
+     * @throws ParseException if the text cannot be parsed
+     */
+    private static LocalDateTime parse(String text, DateTimeFormatter formatter) throws ParseException {
+        try {
+            return LocalDateTime.parse(text, formatter);
+        } catch (DateTimeParseException e) {
+            ParseException pe = new ParseException("Unparseable date: \"" + text + "\"", e.getErrorIndex());
+            pe.initCause(e);
+            throw pe;
+        }
+    }
+
+    /**
+     * Parses the database form by position without a formatter
+     *
+     * @param text Text to parse
+     * @return Parsed local date-time, or null if the text does not have the fixed-width shape
+     * @throws ParseException if the text has the right shape but is not a valid date
+     */
+    private static LocalDateTime parseDbFixedWidth(String text) throws ParseException {
+        if (text.length() != DB_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-'
+                || text.charAt(10) != ' ' || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            return null;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        if ((year | month | day | hour | minute | second) < 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second);
+        } catch (DateTimeException e) {
+            ParseException pe = new ParseException("Invalid date: \"" + text + "\"", 0);
+            pe.initCause(e);
+            throw pe;
+        }
+    }
+
+    /**
+     * Converts a local date-time in the system time zone to a Date
+     *
+     * @param time Local date-time
+     * @return Matching Date
+     */
+    private static Date toDate(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Checks whether text is a plain number of epoch milliseconds
+     *
+     * @param text Text to check
+     * @return true if the text consists of 5 to 18 digits
+     */
+    private static boolean isEpochMillis(String text) {
+        if (text.length() < 5 || text.length() > 18) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads a run of decimal digits
+     *
+     * @param text Text to read
+     * @param start Index of the first digit
+     * @param count Number of digits
+     * @return Value of the digits, or -1 if a character is not a digit
+     */
+    private static int digits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Writes a zero-padded number
+     *
+     * @param buf Target buffer
+     * @param start Index of the first digit
+     * @param value Non-negative value to write
+     * @param count Number of digits
+     */
+    private static void putDigits(char[] buf, int start, int value, int count) {
+        for (int i = start + count - 1; i >= start; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Utility class for date operations.
@@ -13,12 +15,24 @@ import java.util.Date;
  * @version 1.0
  */
 public class DateUtils {
-    /** Date format for database storage */
+    /**
+     * Date format for database storage
+     * @deprecated SimpleDateFormat is not thread-safe; use {@link DateCodec#formatDb} and {@link DateCodec#parseDb}
+     */
+    @Deprecated
     public static final SimpleDateFormat DB_DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
     
-    /** Date format for user interface display */
+    /**
+     * Date format for user interface display
+     * @deprecated SimpleDateFormat is not thread-safe; use {@link DateCodec#formatUi} and {@link DateCodec#parseUi}
+     */
+    @Deprecated
     public static final SimpleDateFormat UI_DATE_FORMAT = new SimpleDateFormat("dd/MM/yyyy HH:mm");
     
+    /** Formatters for formatWithPattern by pattern, one map per thread */
+    private static final ThreadLocal<Map<String, SimpleDateFormat>> PATTERN_FORMATS =
+        ThreadLocal.withInitial(HashMap::new);
+    
     /**
      * Converts UI date format to database format
      * 
@@ -29,7 +43,7 @@ public class DateUtils {
         if (date == null) {
             return null;
         }
-        return DB_DATE_FORMAT.format(date);
+        return DateCodec.formatDb(date);
     }
     
     /**
@@ -42,7 +56,7 @@ public class DateUtils {
         if (date == null) {
             return "Not set";
         }
-        return UI_DATE_FORMAT.format(date);
+        return DateCodec.formatUi(date);
     }
     
     /**
@@ -55,7 +69,7 @@ public class DateUtils {
         if (date == null) {
             return null;
         }
-        return DB_DATE_FORMAT.format(date);
+        return DateCodec.formatDb(date);
     }
     
     /**
@@ -68,7 +82,7 @@ public class DateUtils {
         if (date == null) {
             return "Not set";
         }
-        return UI_DATE_FORMAT.format(date);
+        return DateCodec.formatUi(date);
     }
     
     /**
@@ -82,7 +96,7 @@ public class DateUtils {
         if (dateStr == null || dateStr.trim().isEmpty()) {
             return null;
         }
-        return UI_DATE_FORMAT.parse(dateStr);
+        return DateCodec.parseUi(dateStr);
     }
     
     /**
@@ -191,17 +205,19 @@ public class DateUtils {
     }
     
     /**
-     * Formats date with custom format
+     * Formats date with custom format.
+     * The pattern keeps SimpleDateFormat meaning (for example u is the day
+     * of the week, not the year as in DateTimeFormatter); the formatter is
+     * built once per pattern and thread.
      * 
      * @param date Date to format
-     * @param format Format pattern
+     * @param format SimpleDateFormat pattern
      * @return Formatted date string
      */
     public static String formatWithPattern(Date date, String format) {
         if (date == null) {
             return "Not set";
         }
-        SimpleDateFormat sdf = new SimpleDateFormat(format);
-        return sdf.format(date);
+        return PATTERN_FORMATS.get().computeIfAbsent(format, SimpleDateFormat::new).format(date);
     }
 }
\ No newline at end of file
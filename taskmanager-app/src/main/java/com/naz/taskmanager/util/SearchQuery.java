@@ -0,0 +1,114 @@
+package com.naz.taskmanager.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Parses free-text task searches.
+ * A search is split into words; a task matches when every word is the
+ * start of some word in its name or description. Case and diacritics are
+ * ignored. The same terms drive the FTS5 query in TaskRepository and the
+ * in-memory match used when GUI tasks are not stored in the database, so
+ * both behave alike.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+public final class SearchQuery {
+    /** Maximum number of terms taken from one search */
+    private static final int MAX_TERMS = 16;
+
+    /**
+     * Private constructor, the class only has static methods
+     */
+    private SearchQuery() {
+    }
+
+    /**
+     * Splits search text into lower-case terms
+     *
+     * @param text Search text as typed by the user
+     * @return Distinct terms in order, empty if the text has no letters or digits
+     */
+    public static List<String> terms(String text) {
+        return words(text, MAX_TERMS);
+    }
+
+    /**
+     * Builds an FTS5 MATCH expression requiring every term as a prefix
+     *
+     * @param text Search text as typed by the user
+     * @return MATCH expression, or null if the text has no terms
+     */
+    public static String toFtsMatch(String text) {
+        List<String> terms = terms(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        StringBuilder match = new StringBuilder();
+        for (String term : terms) {
+            if (match.length() > 0) {
+                match.append(' ');
+            }
+            // Terms hold only letters and digits, so quoting makes them plain tokens
+            match.append('"').append(term).append("\"*");
+        }
+        return match.toString();
+    }
+
+    /**
+     * Checks whether every term starts a word in one of the fields
+     *
+     * @param terms Terms from terms()
+     * @param fields Text to search, null fields are skipped
+     * @return true if all terms match
+     */
+    public static boolean matches(List<String> terms, String... fields) {
+        if (terms.isEmpty()) {
+            return true;
+        }
+        List<String> words = new ArrayList<>();
+        for (String field : fields) {
+            words.addAll(words(field, Integer.MAX_VALUE));
+        }
+        for (String term : terms) {
+            boolean found = false;
+            for (String word : words) {
+                if (word.startsWith(term)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits text into distinct lower-case words without diacritics
+     *
+     * @param text Text to split, may be null
+     * @param max Maximum number of words to return
+     * @return Words in order of first appearance
+     */
+    private static List<String> words(String text, int max) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text != null) {
+            String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+            for (String word : folded.split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty() && words.size() < max) {
+                    words.add(word);
+                }
+            }
+        }
+        return new ArrayList<>(words);
+    }
+}
@@ -293,9 +293,15 @@ public class AddTaskFrame extends JFrame {
             String category = (String) categoryComboBox.getSelectedItem();
             String priority = (String) priorityComboBox.getSelectedItem();
             
-            // Create a new Task object and add it to the static list
+            // Create a new Task object and add it to the Task model
             Task newTask = new Task(title, description, dueDate, category, priority);
-            Task.addTask(newTask);
+            if (!Task.addTask(newTask)) {
+                JOptionPane.showMessageDialog(this,
+                    "Error saving task to the database.",
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE);
+                return;
+            }
             
             SimpleDateFormat dateFormat = new SimpleDateFormat("MM/dd/yyyy");
             String dueDateStr = dateFormat.format(dueDate);
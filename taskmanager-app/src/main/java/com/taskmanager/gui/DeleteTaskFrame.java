@@ -3,21 +3,19 @@ package com.taskmanager.gui;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.text.SimpleDateFormat;
-import java.util.Vector;
 
 import com.taskmanager.model.Task;
+import com.taskmanager.gui.TaskTableModel.Column;
 
 /**
  * Frame for deleting tasks
  */
 public class DeleteTaskFrame extends JFrame {
 	private JTable taskTable;
-	private DefaultTableModel tableModel;
+	private TaskTableModel tableModel;
 	private JButton deleteButton;
 	private JButton closeButton;
 	private JButton refreshButton;
@@ -91,13 +89,8 @@ public class DeleteTaskFrame extends JFrame {
 		tablePanel.setOpaque(false);
 		
 		// Create columns for the table
-		String[] columns = {"ID", "Title", "Due Date", "Category", "Priority", "Status"};
-		tableModel = new DefaultTableModel(columns, 0) {
-			@Override
-			public boolean isCellEditable(int row, int column) {
-				return false; // Make table non-editable
-			}
-		};
+		tableModel = new TaskTableModel(Column.ID, Column.TITLE, Column.DUE_DATE,
+			Column.CATEGORY, Column.PRIORITY, Column.STATUS);
 		
 		taskTable = new JTable(tableModel);
 		taskTable.setFillsViewportHeight(true);
@@ -187,34 +180,19 @@ public class DeleteTaskFrame extends JFrame {
 	}
 	
 	/**
-	 * Load task data into the table
+	 * Load task data into the table in the background
 	 */
 	private void loadTaskData() {
-		// Clear existing data
-		tableModel.setRowCount(0);
-		
-		// Format for displaying dates
-		SimpleDateFormat dateFormat = new SimpleDateFormat("MM/dd/yyyy");
-		
-		// Load tasks from the Task model's static list
-		for (Task task : Task.getAllTasks()) {
-			Vector<Object> row = new Vector<>();
-			row.add(task.getId());
-			row.add(task.getTitle());
-			row.add(dateFormat.format(task.getDueDate()));
-			row.add(task.getCategory());
-			row.add(task.getPriority());
-			row.add(task.getStatus());
-			tableModel.addRow(row);
-		}
-		
-		// If no tasks were found, show a message
-		if (tableModel.getRowCount() == 0) {
-			JOptionPane.showMessageDialog(this,
-				"No tasks found. Add some tasks first!",
-				"No Tasks",
-				JOptionPane.INFORMATION_MESSAGE);
-		}
+		// Reload tasks from the Task model, which reads the database when one is used
+		tableModel.load(Task::refreshTasks, count -> {
+			// If no tasks were found, show a message
+			if (count == 0) {
+				JOptionPane.showMessageDialog(this,
+					"No tasks found. Add some tasks first!",
+					"No Tasks",
+					JOptionPane.INFORMATION_MESSAGE);
+			}
+		});
 	}
 	
 	/**
@@ -231,8 +209,9 @@ public class DeleteTaskFrame extends JFrame {
 		}
 		
 		// Get the task ID from the selected row
-		int taskId = (int) tableModel.getValueAt(selectedRow, 0);
-		String taskTitle = (String) tableModel.getValueAt(selectedRow, 1);
+		Task selectedTask = tableModel.getTaskAt(selectedRow);
+		int taskId = selectedTask.getId();
+		String taskTitle = selectedTask.getTitle();
 		
 		// Confirm deletion
 		int confirm = JOptionPane.showConfirmDialog(this,
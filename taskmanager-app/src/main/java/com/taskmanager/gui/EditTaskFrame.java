@@ -3,23 +3,21 @@ package com.taskmanager.gui;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Vector;
 
 import com.taskmanager.model.Task;
+import com.taskmanager.gui.TaskTableModel.Column;
 
 /**
  * Frame for editing tasks
  */
 public class EditTaskFrame extends JFrame {
 	private JTable taskTable;
-	private DefaultTableModel tableModel;
+	private TaskTableModel tableModel;
 	private JButton editButton;
 	private JButton closeButton;
 	private JButton refreshButton;
@@ -131,13 +129,8 @@ public class EditTaskFrame extends JFrame {
 		tablePanel.setOpaque(false);
 		
 		// Create columns for the table
-		String[] columns = {"ID", "Title", "Due Date", "Category", "Priority", "Status"};
-		tableModel = new DefaultTableModel(columns, 0) {
-			@Override
-			public boolean isCellEditable(int row, int column) {
-				return false; // Make table non-editable
-			}
-		};
+		tableModel = new TaskTableModel(Column.ID, Column.TITLE, Column.DUE_DATE,
+			Column.CATEGORY, Column.PRIORITY, Column.STATUS);
 		
 		taskTable = new JTable(tableModel);
 		taskTable.setFillsViewportHeight(true);
@@ -411,34 +404,19 @@ public class EditTaskFrame extends JFrame {
 	}
 	
 	/**
-	 * Load task data into the table
+	 * Load task data into the table in the background
 	 */
 	private void loadTaskData() {
-		// Clear existing data
-		tableModel.setRowCount(0);
-		
-		// Format for displaying dates
-		SimpleDateFormat dateFormat = new SimpleDateFormat("MM/dd/yyyy");
-		
-		// Load tasks from the Task model's static list
-		for (Task task : Task.getAllTasks()) {
-			Vector<Object> row = new Vector<>();
-			row.add(task.getId());
-			row.add(task.getTitle());
-			row.add(dateFormat.format(task.getDueDate()));
-			row.add(task.getCategory());
-			row.add(task.getPriority());
-			row.add(task.getStatus());
-			tableModel.addRow(row);
-		}
-		
-		// If no tasks were found, show a message
-		if (tableModel.getRowCount() == 0) {
-			JOptionPane.showMessageDialog(this,
-				"No tasks found. Add some tasks first!",
-				"No Tasks",
-				JOptionPane.INFORMATION_MESSAGE);
-		}
+		// Reload tasks from the Task model, which reads the database when one is used
+		tableModel.load(Task::refreshTasks, count -> {
+			// If no tasks were found, show a message
+			if (count == 0) {
+				JOptionPane.showMessageDialog(this,
+					"No tasks found. Add some tasks first!",
+					"No Tasks",
+					JOptionPane.INFORMATION_MESSAGE);
+			}
+		});
 	}
 	
 	/**
@@ -455,7 +433,7 @@ public class EditTaskFrame extends JFrame {
 		}
 		
 		// Get the task ID from the selected row
-		int taskId = (int) tableModel.getValueAt(selectedRow, 0);
+		int taskId = tableModel.getTaskAt(selectedRow).getId();
 		
 		// Find the task in the model
 		Task task = Task.findTaskById(taskId);
@@ -475,13 +453,19 @@ public class EditTaskFrame extends JFrame {
 		taskDescriptionArea.setText(task.getDescription());
 		dateSpinner.setValue(task.getDueDate());
 		
-		// Set category
+		// Set category, adding categories created outside the GUI so saving keeps them
+		boolean categoryFound = false;
 		for (int i = 0; i < categoryComboBox.getItemCount(); i++) {
 			if (categoryComboBox.getItemAt(i).equals(task.getCategory())) {
 				categoryComboBox.setSelectedIndex(i);
+				categoryFound = true;
 				break;
 			}
 		}
+		if (!categoryFound && task.getCategory() != null) {
+			categoryComboBox.addItem(task.getCategory());
+			categoryComboBox.setSelectedItem(task.getCategory());
+		}
 		
 		// Set priority
 		for (int i = 0; i < priorityComboBox.getItemCount(); i++) {
@@ -7,6 +7,10 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import com.naz.taskmanager.repository.UserRepository;
+import com.taskmanager.model.Category;
+import com.taskmanager.model.CategoryRepositoryAdapter;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskRepositoryAdapter;
 import java.awt.Window.Type;
 import java.awt.image.BufferedImage;
 import javax.imageio.ImageIO;
@@ -211,8 +215,11 @@ public class LoginFrame extends JFrame {
         String username = usernameField.getText().trim();
         String password = new String(passwordField.getPassword());
         
-        // For demonstration, any non-empty username/password combination is valid
-        if (!username.isEmpty() && !password.isEmpty()) {
+        // Tasks are stored per user, so the account must exist
+        if (!username.isEmpty() && !password.isEmpty() && userRepository.validateUser(username, password)) {
+            // Load the user's tasks and the shared categories from the database
+            Task.useRepository(new TaskRepositoryAdapter(username));
+            Category.useRepository(new CategoryRepositoryAdapter());
             dispose();
             MainMenuFrame mainMenuFrame = new MainMenuFrame(username);
             mainMenuFrame.setVisible(true);
@@ -7,6 +7,7 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import com.naz.taskmanager.Taskmanager;
 import com.naz.taskmanager.service.TaskService;
+import com.taskmanager.model.Task;
 
 /**
  * Main Menu Screen
@@ -192,6 +193,8 @@ public class MainMenuFrame extends JFrame {
                     "Exit Confirmation", JOptionPane.YES_NO_OPTION);
                     
                 if (result == JOptionPane.YES_OPTION) {
+                    // Drop the user's tasks from memory before the next login
+                    Task.useRepository(null);
                     dispose();
                     new LoginFrame().setVisible(true);
                 }
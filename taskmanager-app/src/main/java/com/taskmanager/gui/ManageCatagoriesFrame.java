@@ -518,7 +518,7 @@ public class ManageCatagoriesFrame extends JFrame {
 				loadCategoryData();
 			} else {
 				JOptionPane.showMessageDialog(this,
-					"Cannot delete default categories.",
+					"Cannot delete default categories or categories used by tasks.",
 					"Deletion Failed",
 					JOptionPane.ERROR_MESSAGE);
 			}
@@ -569,8 +569,15 @@ public class ManageCatagoriesFrame extends JFrame {
 			}
 			
 			Category newCategory = new Category(name, description, color);
-			Category.addCategory(newCategory);
-			success = true;
+			success = Category.addCategory(newCategory);
+			
+			if (!success) {
+				JOptionPane.showMessageDialog(this,
+					"Error saving category to the database.",
+					"Save Failed",
+					JOptionPane.ERROR_MESSAGE);
+				return;
+			}
 		} else {
 			// Updating existing category
 			success = Category.updateCategory(currentCategoryId, name, description, color);
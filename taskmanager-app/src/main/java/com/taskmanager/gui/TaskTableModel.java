@@ -0,0 +1,218 @@
+package com.taskmanager.gui;
+
+import javax.swing.SwingWorker;
+import javax.swing.table.AbstractTableModel;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import com.taskmanager.model.Task;
+
+/**
+ * Table model backed directly by a list of tasks.
+ * Cells are read from the Task objects when the table paints them, so no
+ * row copies are kept and only visible due dates are formatted. Tasks are
+ * loaded by a background worker and added in chunks, which keeps the
+ * frame responsive while a large list is read.
+ */
+public class TaskTableModel extends AbstractTableModel {
+	/** Number of tasks handed to the table at a time while loading */
+	static final int LOAD_CHUNK_SIZE = 200;
+
+	/** Format for displaying due dates, shared since it is immutable */
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+
+	/**
+	 * Columns a task table can show
+	 */
+	public enum Column {
+		ID("ID", Integer.class),
+		TITLE("Title", String.class),
+		DESCRIPTION("Description", String.class),
+		DUE_DATE("Due Date", String.class),
+		CATEGORY("Category", String.class),
+		PRIORITY("Priority", String.class),
+		STATUS("Status", String.class);
+
+		private final String title;
+		private final Class<?> type;
+
+		Column(String title, Class<?> type) {
+			this.title = title;
+			this.type = type;
+		}
+	}
+
+	private final Column[] columns;
+	private final List<Task> tasks = new ArrayList<>();
+
+	// Worker of the load in progress, cancelled when a new load starts
+	private SwingWorker<Integer, List<Task>> loader;
+
+	/**
+	 * Creates an empty task table model
+	 * @param columns Columns to show, in order
+	 */
+	public TaskTableModel(Column... columns) {
+		this.columns = columns.clone();
+	}
+
+	@Override
+	public int getRowCount() {
+		return tasks.size();
+	}
+
+	@Override
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	@Override
+	public String getColumnName(int column) {
+		return columns[column].title;
+	}
+
+	@Override
+	public Class<?> getColumnClass(int column) {
+		return columns[column].type;
+	}
+
+	@Override
+	public boolean isCellEditable(int row, int column) {
+		return false; // Make table non-editable
+	}
+
+	@Override
+	public Object getValueAt(int row, int column) {
+		Task task = tasks.get(row);
+		switch (columns[column]) {
+			case ID:
+				return task.getId();
+			case TITLE:
+				return task.getTitle();
+			case DESCRIPTION:
+				return task.getDescription();
+			case DUE_DATE:
+				return formatDate(task);
+			case CATEGORY:
+				return task.getCategory();
+			case PRIORITY:
+				return task.getPriority();
+			case STATUS:
+				return task.getStatus();
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Get the task shown in a row
+	 * @param row Model row index
+	 * @return The task
+	 */
+	public Task getTaskAt(int row) {
+		return tasks.get(row);
+	}
+
+	/**
+	 * Format the due date of a task for display
+	 * @param task Task to format
+	 * @return Formatted due date, empty if the task has none
+	 */
+	public static String formatDate(Task task) {
+		if (task.getDueDate() == null) {
+			return "";
+		}
+		return DATE_FORMAT.format(task.getDueDate().toInstant().atZone(ZoneId.systemDefault()));
+	}
+
+	/**
+	 * Append tasks to the end of the table
+	 * @param added Tasks to append
+	 */
+	public void addTasks(Collection<Task> added) {
+		if (added.isEmpty()) {
+			return;
+		}
+		int first = tasks.size();
+		tasks.addAll(added);
+		fireTableRowsInserted(first, tasks.size() - 1);
+	}
+
+	/**
+	 * Remove every task from the table
+	 */
+	public void clear() {
+		int count = tasks.size();
+		if (count > 0) {
+			tasks.clear();
+			fireTableRowsDeleted(0, count - 1);
+		}
+	}
+
+	/**
+	 * Replace the table contents with tasks read in the background.
+	 * The source is called off the event dispatch thread and its tasks are
+	 * added in chunks of LOAD_CHUNK_SIZE. A load still running is cancelled.
+	 * Must be called on the event dispatch thread.
+	 * @param source Supplies the tasks to show
+	 * @param onLoaded Called on the event dispatch thread with the row count
+	 *                 once every task is added, may be null
+	 * @return The started worker
+	 */
+	public SwingWorker<Integer, List<Task>> load(final Supplier<? extends Collection<Task>> source,
+												 final IntConsumer onLoaded) {
+		if (loader != null) {
+			loader.cancel(false);
+		}
+		clear();
+
+		loader = new SwingWorker<Integer, List<Task>>() {
+			@Override
+			protected Integer doInBackground() {
+				List<Task> loaded = new ArrayList<>(source.get());
+				for (int from = 0; from < loaded.size() && !isCancelled(); from += LOAD_CHUNK_SIZE) {
+					int to = Math.min(from + LOAD_CHUNK_SIZE, loaded.size());
+					publish(new ArrayList<>(loaded.subList(from, to)));
+				}
+				return loaded.size();
+			}
+
+			@Override
+			protected void process(List<List<Task>> chunks) {
+				// Chunks of a cancelled load may still be queued behind the new one
+				if (isCancelled()) {
+					return;
+				}
+				for (List<Task> chunk : chunks) {
+					addTasks(chunk);
+				}
+			}
+
+			@Override
+			protected void done() {
+				if (isCancelled()) {
+					return;
+				}
+				if (loader == this) {
+					loader = null;
+				}
+				try {
+					get();
+				} catch (InterruptedException | ExecutionException e) {
+					System.out.println("Error loading tasks: " + e.getMessage());
+				}
+				if (onLoaded != null) {
+					onLoaded.accept(getRowCount());
+				}
+			}
+		};
+		loader.execute();
+		return loader;
+	}
+}
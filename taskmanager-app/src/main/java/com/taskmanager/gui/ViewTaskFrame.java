@@ -3,24 +3,24 @@ package com.taskmanager.gui;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableRowSorter;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.Vector;
+import java.util.Set;
 
+import com.naz.taskmanager.util.SearchQuery;
 import com.taskmanager.model.Task;
+import com.taskmanager.gui.TaskTableModel.Column;
 
 /**
  * Frame for viewing tasks
  */
 public class ViewTaskFrame extends JFrame {
 	private JTable taskTable;
-	private DefaultTableModel tableModel;
+	private TaskTableModel tableModel;
 	private JTextField searchField;
 	private JComboBox<String> categoryFilterComboBox;
 	private JComboBox<String> priorityFilterComboBox;
@@ -181,13 +181,8 @@ public class ViewTaskFrame extends JFrame {
 		tablePanel.setOpaque(false);
 		
 		// Create columns for the table
-		String[] columns = {"ID", "Title", "Description", "Due Date", "Category", "Priority", "Status"};
-		tableModel = new DefaultTableModel(columns, 0) {
-			@Override
-			public boolean isCellEditable(int row, int column) {
-				return false; // Make table non-editable
-			}
-		};
+		tableModel = new TaskTableModel(Column.ID, Column.TITLE, Column.DESCRIPTION, Column.DUE_DATE,
+			Column.CATEGORY, Column.PRIORITY, Column.STATUS);
 		
 		taskTable = new JTable(tableModel);
 		taskTable.setFillsViewportHeight(true);
@@ -280,74 +275,53 @@ public class ViewTaskFrame extends JFrame {
 	}
 	
 	/**
-	 * Load task data into the table
+	 * Load task data into the table in the background
 	 */
 	private void loadTaskData() {
-		// Clear existing data
-		tableModel.setRowCount(0);
-		
-		// Format for displaying dates
-		SimpleDateFormat dateFormat = new SimpleDateFormat("MM/dd/yyyy");
-		
-		// Load tasks from the Task model's static list
-		for (Task task : Task.getAllTasks()) {
-			Vector<Object> row = new Vector<>();
-			row.add(task.getId());
-			row.add(task.getTitle());
-			row.add(task.getDescription());
-			row.add(dateFormat.format(task.getDueDate()));
-			row.add(task.getCategory());
-			row.add(task.getPriority());
-			row.add(task.getStatus());
-			tableModel.addRow(row);
-		}
-		
-		// If no tasks were found, show a message
-		if (tableModel.getRowCount() == 0) {
-			JOptionPane.showMessageDialog(this,
-				"No tasks found. Add some tasks first!",
-				"No Tasks",
-				JOptionPane.INFORMATION_MESSAGE);
-		}
+		// Reload tasks from the Task model, which reads the database when one is used
+		tableModel.load(Task::refreshTasks, count -> {
+			// If no tasks were found, show a message
+			if (count == 0) {
+				JOptionPane.showMessageDialog(this,
+					"No tasks found. Add some tasks first!",
+					"No Tasks",
+					JOptionPane.INFORMATION_MESSAGE);
+			}
+		});
 	}
 	
 	/**
 	 * Filter tasks based on search field and combo box selections
 	 */
 	private void filterTasks() {
-		String searchText = searchField.getText().toLowerCase();
+		// Words match the start of words in the title or description; the
+		// matching tasks are looked up once in the full-text index
+		String searchText = searchField.getText();
+		Set<Integer> matchingIds = SearchQuery.terms(searchText).isEmpty() ? null : Task.searchTaskIds(searchText);
 		String categoryFilter = (String) categoryFilterComboBox.getSelectedItem();
 		String priorityFilter = (String) priorityFilterComboBox.getSelectedItem();
 		
 		// Create a new sorter for the table
-		TableRowSorter<DefaultTableModel> sorter = new TableRowSorter<>(tableModel);
+		TableRowSorter<TaskTableModel> sorter = new TableRowSorter<>(tableModel);
 		taskTable.setRowSorter(sorter);
 		
 		// Create a filter
-		RowFilter<DefaultTableModel, Integer> filter = new RowFilter<DefaultTableModel, Integer>() {
+		RowFilter<TaskTableModel, Integer> filter = new RowFilter<TaskTableModel, Integer>() {
 			@Override
-			public boolean include(Entry<? extends DefaultTableModel, ? extends Integer> entry) {
-				DefaultTableModel model = entry.getModel();
-				int row = entry.getIdentifier();
-				
-				// Get values from the row
-				String title = model.getValueAt(row, 1).toString().toLowerCase();
-				String description = model.getValueAt(row, 2).toString().toLowerCase();
-				String category = model.getValueAt(row, 4).toString();
-				String priority = model.getValueAt(row, 5).toString();
+			public boolean include(Entry<? extends TaskTableModel, ? extends Integer> entry) {
+				// Read the task behind the row
+				Task task = entry.getModel().getTaskAt(entry.getIdentifier());
 				
 				// Check search text
-				boolean matchesSearch = searchText.isEmpty() || 
-					title.contains(searchText) || 
-					description.contains(searchText);
+				boolean matchesSearch = matchingIds == null || matchingIds.contains(task.getId());
 				
 				// Check category
 				boolean matchesCategory = categoryFilter.equals("All") || 
-					category.equals(categoryFilter);
+					categoryFilter.equals(task.getCategory());
 				
 				// Check priority
 				boolean matchesPriority = priorityFilter.equals("All") || 
-					priority.equals(priorityFilter);
+					priorityFilter.equals(task.getPriority());
 				
 				// Row must match all active filters
 				return matchesSearch && matchesCategory && matchesPriority;
@@ -380,13 +354,14 @@ public class ViewTaskFrame extends JFrame {
 		int modelRow = taskTable.convertRowIndexToModel(selectedRow);
 		
 		// Get task details
-		int id = (int) tableModel.getValueAt(modelRow, 0);
-		String title = (String) tableModel.getValueAt(modelRow, 1);
-		String description = (String) tableModel.getValueAt(modelRow, 2);
-		String dueDate = (String) tableModel.getValueAt(modelRow, 3);
-		String category = (String) tableModel.getValueAt(modelRow, 4);
-		String priority = (String) tableModel.getValueAt(modelRow, 5);
-		String status = (String) tableModel.getValueAt(modelRow, 6);
+		Task task = tableModel.getTaskAt(modelRow);
+		int id = task.getId();
+		String title = task.getTitle();
+		String description = task.getDescription();
+		String dueDate = TaskTableModel.formatDate(task);
+		String category = task.getCategory();
+		String priority = task.getPriority();
+		String status = task.getStatus();
 		
 		// Create a formatted message
 		String message = String.format(
@@ -1,10 +1,17 @@
 package com.taskmanager.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
- * Model class for Category objects
+ * Model class for Category objects.
+ * Categories are kept in maps by ID and by lower-case name. Once
+ * useRepository() is called they are loaded from the database and every
+ * change is written through to it.
  */
 public class Category {
     private static int nextId = 1;
@@ -13,16 +20,20 @@ public class Category {
     private String description;
     private String color;
     
-    // Static list to store all categories
-    private static final List<Category> allCategories = new ArrayList<>();
+    // All categories by ID, in insertion order
+    private static final Map<Integer, Category> categoriesById = new LinkedHashMap<>();
+    
+    // All categories by lower-case name
+    private static final Map<String, Category> categoriesByName = new HashMap<>();
+    
+    // Database store, null when categories are only kept in memory
+    private static CategoryRepositoryAdapter repository;
     
     // Add default categories
     static {
-        addCategory(new Category("Work", "Work related tasks", "#FF5733"));
-        addCategory(new Category("Personal", "Personal tasks", "#33FF57"));
-        addCategory(new Category("Study", "Study related tasks", "#3357FF"));
-        addCategory(new Category("Health", "Health and fitness", "#FF33A8"));
-        addCategory(new Category("Other", "Other tasks", "#33FFF5"));
+        for (Category category : defaultCategories()) {
+            addCategory(category);
+        }
     }
     
     /**
@@ -38,12 +49,106 @@ public class Category {
         this.color = color;
     }
     
+    /**
+     * Creates a category read from the database
+     * @param id Database ID
+     * @param name Category name
+     * @param description Category description
+     * @param color Color code in hex format
+     */
+    Category(int id, String name, String description, String color) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.color = color;
+    }
+    
+    /**
+     * Create the default categories
+     * @return New default categories
+     */
+    private static List<Category> defaultCategories() {
+        List<Category> defaults = new ArrayList<>();
+        defaults.add(new Category("Work", "Work related tasks", "#FF5733"));
+        defaults.add(new Category("Personal", "Personal tasks", "#33FF57"));
+        defaults.add(new Category("Study", "Study related tasks", "#3357FF"));
+        defaults.add(new Category("Health", "Health and fitness", "#FF33A8"));
+        defaults.add(new Category("Other", "Other tasks", "#33FFF5"));
+        return defaults;
+    }
+    
+    /**
+     * Check whether a name belongs to a default category
+     * @param name Category name
+     * @return true for default categories, which cannot be deleted
+     */
+    private static boolean isDefault(String name) {
+        switch (key(name)) {
+            case "work":
+            case "personal":
+            case "study":
+            case "health":
+            case "other":
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Get the lookup key of a category name
+     * @param name Category name
+     * @return Lower-case name
+     */
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Store categories in the database from now on, replacing the categories
+     * in memory with the stored ones. Missing default categories are created.
+     * @param adapter Category store, or null to keep categories in memory only
+     */
+    public static void useRepository(CategoryRepositoryAdapter adapter) {
+        repository = adapter;
+        clearCategories();
+        if (adapter == null) {
+            for (Category category : defaultCategories()) {
+                addCategory(category);
+            }
+            return;
+        }
+        for (Category category : adapter.loadAll()) {
+            put(category);
+        }
+        for (Category category : defaultCategories()) {
+            addCategory(category);
+        }
+    }
+    
+    /**
+     * Remove every category from memory
+     */
+    static void clearCategories() {
+        categoriesById.clear();
+        categoriesByName.clear();
+    }
+    
+    /**
+     * Index a category by ID and name
+     * @param category Category to index
+     */
+    private static void put(Category category) {
+        categoriesById.put(category.getId(), category);
+        categoriesByName.put(key(category.getName()), category);
+    }
+    
     /**
      * Get all categories
      * @return List of all categories
      */
     public static List<Category> getAllCategories() {
-        return allCategories;
+        return new ArrayList<>(categoriesById.values());
     }
     
     /**
@@ -51,44 +156,49 @@ public class Category {
      * @return Array of category names
      */
     public static String[] getCategoryNames() {
-        String[] names = new String[allCategories.size()];
-        for (int i = 0; i < allCategories.size(); i++) {
-            names[i] = allCategories.get(i).getName();
+        String[] names = new String[categoriesById.size()];
+        int i = 0;
+        for (Category category : categoriesById.values()) {
+            names[i++] = category.getName();
         }
         return names;
     }
     
     /**
-     * Add a category to the static list
+     * Add a category, saving it to the database if one is used
      * @param category Category to add
+     * @return true if the category was added, false if the name exists or it could not be saved
      */
-    public static void addCategory(Category category) {
+    public static boolean addCategory(Category category) {
         // Check if a category with the same name already exists
-        for (Category existingCategory : allCategories) {
-            if (existingCategory.getName().equalsIgnoreCase(category.getName())) {
-                return; // Don't add duplicates
-            }
+        if (categoriesByName.containsKey(key(category.getName()))) {
+            return false; // Don't add duplicates
         }
-        allCategories.add(category);
+        if (repository != null && !repository.insert(category)) {
+            return false;
+        }
+        put(category);
+        return true;
     }
     
     /**
      * Delete a category by its ID
      * @param categoryId ID of the category to delete
-     * @return true if category was found and deleted, false otherwise
+     * @return true if category was found and deleted, false if it was not
+     *         found, is a default category or is still used by tasks
      */
     public static boolean deleteCategory(int categoryId) {
-        for (int i = 0; i < allCategories.size(); i++) {
-            if (allCategories.get(i).getId() == categoryId) {
-                // Don't delete if it's one of the default categories (ID 1-5)
-                if (categoryId <= 5) {
-                    return false;
-                }
-                allCategories.remove(i);
-                return true;
-            }
+        Category category = categoriesById.get(categoryId);
+        // Don't delete the default categories
+        if (category == null || isDefault(category.getName())) {
+            return false;
         }
-        return false;
+        if (repository != null && !repository.delete(categoryId)) {
+            return false;
+        }
+        categoriesById.remove(categoryId);
+        categoriesByName.remove(key(category.getName()));
+        return true;
     }
     
     /**
@@ -97,12 +207,7 @@ public class Category {
      * @return the category if found, null otherwise
      */
     public static Category findCategoryById(int categoryId) {
-        for (Category category : allCategories) {
-            if (category.getId() == categoryId) {
-                return category;
-            }
-        }
-        return null;
+        return categoriesById.get(categoryId);
     }
     
     /**
@@ -111,12 +216,7 @@ public class Category {
      * @return the category if found, null otherwise
      */
     public static Category findCategoryByName(String name) {
-        for (Category category : allCategories) {
-            if (category.getName().equalsIgnoreCase(name)) {
-                return category;
-            }
-        }
-        return null;
+        return name == null ? null : categoriesByName.get(key(name));
     }
     
     /**
@@ -131,16 +231,19 @@ public class Category {
         Category category = findCategoryById(categoryId);
         if (category != null) {
             // Check if new name conflicts with existing category
-            for (Category existingCategory : allCategories) {
-                if (existingCategory.getId() != categoryId && 
-                    existingCategory.getName().equalsIgnoreCase(name)) {
-                    return false; // Name already exists
-                }
+            Category existingCategory = categoriesByName.get(key(name));
+            if (existingCategory != null && existingCategory.getId() != categoryId) {
+                return false; // Name already exists
             }
             
+            categoriesByName.remove(key(category.getName()));
             category.setName(name);
             category.setDescription(description);
             category.setColor(color);
+            categoriesByName.put(key(name), category);
+            if (repository != null) {
+                repository.update(category);
+            }
             return true;
         }
         return false;
@@ -151,6 +254,10 @@ public class Category {
         return id;
     }
     
+    void setId(int id) {
+        this.id = id;
+    }
+    
     public String getName() {
         return name;
     }
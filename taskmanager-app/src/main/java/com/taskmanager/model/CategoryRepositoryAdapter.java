@@ -0,0 +1,85 @@
+package com.taskmanager.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.naz.taskmanager.repository.CategoryRepository;
+
+/**
+ * Stores GUI categories in the Categories table through CategoryRepository,
+ * so categories created in the GUI or by console tasks are shared.
+ */
+public class CategoryRepositoryAdapter {
+    private final CategoryRepository repository;
+
+    /**
+     * Creates an adapter over the shared category table
+     */
+    public CategoryRepositoryAdapter() {
+        this(new CategoryRepository());
+    }
+
+    /**
+     * Creates an adapter over a repository
+     * @param repository Category repository
+     */
+    public CategoryRepositoryAdapter(CategoryRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Read every category
+     * @return Categories in ID order
+     */
+    List<Category> loadAll() {
+        List<Category> categories = new ArrayList<>();
+        for (com.naz.taskmanager.model.Category stored : repository.getAll()) {
+            categories.add(new Category(stored.getId(), stored.getName(), stored.getDescription(), stored.getColor()));
+        }
+        return categories;
+    }
+
+    /**
+     * Insert a new category and give it the generated ID
+     * @param category Category to insert
+     * @return true if the category was saved
+     */
+    boolean insert(Category category) {
+        com.naz.taskmanager.model.Category stored = toStored(category);
+        stored.setId(-1);
+        repository.save(stored);
+        if (stored.getId() < 0) {
+            return false;
+        }
+        category.setId(stored.getId());
+        return true;
+    }
+
+    /**
+     * Write a changed category
+     * @param category Category to update
+     */
+    void update(Category category) {
+        com.naz.taskmanager.model.Category stored = toStored(category);
+        stored.setId(category.getId());
+        repository.update(stored);
+    }
+
+    /**
+     * Delete a category that no task uses
+     * @param categoryId ID of the category
+     * @return true if the category was deleted
+     */
+    boolean delete(int categoryId) {
+        return repository.deleteIfUnused(String.valueOf(categoryId));
+    }
+
+    /**
+     * Convert a GUI category to a repository category
+     * @param category GUI category
+     * @return Repository category
+     */
+    private static com.naz.taskmanager.model.Category toStored(Category category) {
+        return new com.naz.taskmanager.model.Category(category.getName(), category.getDescription(), category.getColor());
+    }
+}
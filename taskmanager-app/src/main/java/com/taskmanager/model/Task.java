@@ -2,10 +2,19 @@ package com.taskmanager.model;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.naz.taskmanager.util.SearchQuery;
 
 /**
- * Model class for Task objects
+ * Model class for Task objects.
+ * Tasks are kept in a map by ID. Once useRepository() is called the map is
+ * loaded from the database and every change is written through to it;
+ * without a repository the tasks only live in memory.
  */
 public class Task {
     private static int nextId = 1;
@@ -17,8 +26,11 @@ public class Task {
     private String priority;
     private String status;
     
-    // Static list to store all tasks
-    private static final List<Task> allTasks = new ArrayList<>();
+    // All tasks by ID, in insertion order; guarded by the class lock since the GUI reads it off the event thread
+    private static final Map<Integer, Task> tasksById = new LinkedHashMap<>();
+    
+    // Database store of the logged-in user, null when tasks are only kept in memory
+    private static TaskRepositoryAdapter repository;
     
     /**
      * Creates a new task
@@ -39,19 +51,58 @@ public class Task {
     }
     
     /**
-     * Get all tasks
+     * Creates a task read from the database, filled in by the adapter
+     * @param id Database ID
+     */
+    Task(int id) {
+        this.id = id;
+    }
+    
+    /**
+     * Store tasks in the database from now on, replacing the tasks in memory
+     * with the user's stored tasks
+     * @param adapter Store of the logged-in user, or null to keep tasks in memory only
+     */
+    public static synchronized void useRepository(TaskRepositoryAdapter adapter) {
+        repository = adapter;
+        tasksById.clear();
+        refreshTasks();
+    }
+    
+    /**
+     * Reload the tasks from the database, picking up changes made elsewhere
      * @return List of all tasks
      */
-    public static List<Task> getAllTasks() {
-        return allTasks;
+    public static synchronized List<Task> refreshTasks() {
+        if (repository != null) {
+            List<Task> loaded = repository.loadAll(tasksById);
+            tasksById.clear();
+            for (Task task : loaded) {
+                tasksById.put(task.getId(), task);
+            }
+        }
+        return getAllTasks();
+    }
+    
+    /**
+     * Get all tasks
+     * @return List of all tasks, a copy that later changes do not affect
+     */
+    public static synchronized List<Task> getAllTasks() {
+        return new ArrayList<>(tasksById.values());
     }
     
     /**
-     * Add a task to the static list
+     * Add a task, saving it to the database if one is used
      * @param task Task to add
+     * @return true if the task was added, false if it could not be saved
      */
-    public static void addTask(Task task) {
-        allTasks.add(task);
+    public static synchronized boolean addTask(Task task) {
+        if (repository != null && !repository.insert(task)) {
+            return false;
+        }
+        tasksById.put(task.getId(), task);
+        return true;
     }
     
     /**
@@ -59,14 +110,37 @@ public class Task {
      * @param taskId ID of the task to delete
      * @return true if task was found and deleted, false otherwise
      */
-    public static boolean deleteTask(int taskId) {
-        for (int i = 0; i < allTasks.size(); i++) {
-            if (allTasks.get(i).getId() == taskId) {
-                allTasks.remove(i);
-                return true;
+    public static synchronized boolean deleteTask(int taskId) {
+        if (!tasksById.containsKey(taskId)) {
+            return false;
+        }
+        if (repository != null) {
+            repository.delete(taskId);
+        }
+        tasksById.remove(taskId);
+        return true;
+    }
+    
+    /**
+     * Find the tasks matching search text. Every word must start a word of
+     * the title or description; the database full-text index answers the
+     * search when one is used.
+     * @param text Search text as typed by the user
+     * @return IDs of the matching tasks, empty if the text has no words
+     */
+    public static synchronized Set<Integer> searchTaskIds(String text) {
+        Set<Integer> ids = new HashSet<>();
+        if (repository != null) {
+            ids.addAll(repository.search(text, Math.max(1, tasksById.size())));
+            return ids;
+        }
+        List<String> terms = SearchQuery.terms(text);
+        for (Task task : tasksById.values()) {
+            if (!terms.isEmpty() && SearchQuery.matches(terms, task.getTitle(), task.getDescription())) {
+                ids.add(task.getId());
             }
         }
-        return false;
+        return ids;
     }
     
     /**
@@ -74,13 +148,8 @@ public class Task {
      * @param taskId ID of the task to find
      * @return the task if found, null otherwise
      */
-    public static Task findTaskById(int taskId) {
-        for (Task task : allTasks) {
-            if (task.getId() == taskId) {
-                return task;
-            }
-        }
-        return null;
+    public static synchronized Task findTaskById(int taskId) {
+        return tasksById.get(taskId);
     }
     
     /**
@@ -94,7 +163,7 @@ public class Task {
      * @param status New status
      * @return true if task was found and updated, false otherwise
      */
-    public static boolean updateTask(int taskId, String title, String description, 
+    public static synchronized boolean updateTask(int taskId, String title, String description, 
                                     Date dueDate, String category, String priority, String status) {
         Task task = findTaskById(taskId);
         if (task != null) {
@@ -104,6 +173,9 @@ public class Task {
             task.setCategory(category);
             task.setPriority(priority);
             task.setStatus(status);
+            if (repository != null) {
+                repository.update(task);
+            }
             return true;
         }
         return false;
@@ -122,6 +194,10 @@ public class Task {
         return id;
     }
 
+    void setId(int id) {
+        this.id = id;
+    }
+
     public String getTitle() {
         return title;
     }
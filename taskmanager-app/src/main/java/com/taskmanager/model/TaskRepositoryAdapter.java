@@ -0,0 +1,163 @@
+package com.taskmanager.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.naz.taskmanager.model.Priority;
+import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.repository.TaskRepository;
+
+/**
+ * Stores GUI tasks in the Tasks table through TaskRepository, so the GUI
+ * and the console work on the same tasks.
+ * The table has no status column and three priorities, so "Completed"
+ * maps to the completed flag and "Urgent" to HIGH. A task read back keeps
+ * its finer status and priority when they still agree with the table.
+ */
+public class TaskRepositoryAdapter {
+    private static final String COMPLETED = "Completed";
+    private static final String NOT_STARTED = "Not Started";
+
+    private final TaskRepository repository;
+
+    /**
+     * Creates an adapter for a user's tasks
+     * @param username Owner of the tasks
+     */
+    public TaskRepositoryAdapter(String username) {
+        this(new TaskRepository(username));
+    }
+
+    /**
+     * Creates an adapter over a repository
+     * @param repository Repository of the user's tasks
+     */
+    public TaskRepositoryAdapter(TaskRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Read every task of the user
+     * @param current Tasks held so far by ID, reused for rows with the same ID
+     * @return Tasks in ID order
+     */
+    List<Task> loadAll(Map<Integer, Task> current) {
+        List<Task> tasks = new ArrayList<>();
+        for (TaskmanagerItem item : repository.getAll()) {
+            int id = Integer.parseInt(item.getId());
+            Task task = current.get(id);
+            if (task == null) {
+                task = new Task(id);
+            }
+            copy(item, task);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Insert a new task and give it the generated ID
+     * @param task Task to insert
+     * @return true if the task was saved
+     */
+    boolean insert(Task task) {
+        TaskmanagerItem item = toItem(task);
+        repository.save(item);
+        if (item.getId() == null) {
+            return false;
+        }
+        task.setId(Integer.parseInt(item.getId()));
+        return true;
+    }
+
+    /**
+     * Write a changed task
+     * @param task Task to update
+     */
+    void update(Task task) {
+        TaskmanagerItem item = toItem(task);
+        item.setId(String.valueOf(task.getId()));
+        repository.update(item);
+    }
+
+    /**
+     * Delete a task
+     * @param taskId ID of the task
+     */
+    void delete(int taskId) {
+        repository.delete(String.valueOf(taskId));
+    }
+
+    /**
+     * Search the user's tasks with the full-text index
+     * @param text Search text as typed by the user
+     * @param limit Maximum number of tasks to return
+     * @return IDs of the matching tasks, best match first
+     */
+    List<Integer> search(String text, int limit) {
+        List<Integer> ids = new ArrayList<>();
+        for (TaskmanagerItem item : repository.search(text, limit)) {
+            ids.add(Integer.parseInt(item.getId()));
+        }
+        return ids;
+    }
+
+    /**
+     * Convert a GUI task to a repository item
+     * @param task GUI task
+     * @return Item without an ID
+     */
+    private static TaskmanagerItem toItem(Task task) {
+        TaskmanagerItem item = new TaskmanagerItem(task.getTitle(), task.getDescription(),
+            task.getCategory() != null ? new com.naz.taskmanager.model.Category(task.getCategory()) : null);
+        item.setDeadline(task.getDueDate());
+        item.setPriority(toPriority(task.getPriority()));
+        item.setCompleted(COMPLETED.equals(task.getStatus()));
+        return item;
+    }
+
+    /**
+     * Copy a repository item into a GUI task
+     * @param item Item read from the repository
+     * @param task Task to fill
+     */
+    private static void copy(TaskmanagerItem item, Task task) {
+        task.setTitle(item.getName());
+        task.setDescription(item.getDescription());
+        task.setDueDate(item.getDeadline());
+        task.setCategory(item.getCategory() != null ? item.getCategory().getName() : null);
+        if (toPriority(task.getPriority()) != item.getPriority()) {
+            task.setPriority(toLabel(item.getPriority()));
+        }
+        if (item.isCompleted()) {
+            task.setStatus(COMPLETED);
+        } else if (task.getStatus() == null || COMPLETED.equals(task.getStatus())) {
+            task.setStatus(NOT_STARTED);
+        }
+    }
+
+    /**
+     * Map a GUI priority label to a priority
+     * @param label "Low", "Medium", "High" or "Urgent"
+     * @return Priority, MEDIUM for unknown labels
+     */
+    private static Priority toPriority(String label) {
+        if ("Urgent".equals(label) || "High".equals(label)) {
+            return Priority.HIGH;
+        }
+        return "Low".equals(label) ? Priority.LOW : Priority.MEDIUM;
+    }
+
+    /**
+     * Map a priority to its GUI label
+     * @param priority Priority, may be null
+     * @return Priority label
+     */
+    private static String toLabel(Priority priority) {
+        if (priority == Priority.HIGH) {
+            return "High";
+        }
+        return priority == Priority.LOW ? "Low" : "Medium";
+    }
+}
@@ -18,6 +18,24 @@ public class AppConfig {
     private static final String DEFAULT_DB_PATH = "data/taskmanager.db";
     private static final String DEFAULT_USER_DATA_PATH = "data/users.bin";
     private static final String DEFAULT_LOG_LEVEL = "INFO";
+    private static final int DEFAULT_DB_POOL_MIN_IDLE = 1;
+    private static final int DEFAULT_DB_POOL_MAX_SIZE = 4;
+    private static final long DEFAULT_DB_POOL_ACQUIRE_TIMEOUT_MS = 5000;
+    private static final long DEFAULT_DB_POOL_IDLE_TIMEOUT_MS = 60000;
+    private static final String DEFAULT_DB_JOURNAL_MODE = "WAL";
+    private static final String DEFAULT_DB_SYNCHRONOUS = "NORMAL";
+    private static final int DEFAULT_DB_CACHE_SIZE_KB = 8192;
+    private static final long DEFAULT_DB_MMAP_SIZE_BYTES = 64L * 1024 * 1024;
+    private static final String DEFAULT_DB_TEMP_STORE = "MEMORY";
+    private static final int DEFAULT_DB_BUSY_TIMEOUT_MS = 5000;
+    private static final int DEFAULT_DB_STATEMENT_CACHE_SIZE = 64;
+    private static final String DEFAULT_TASK_DURABILITY = "SYNC";
+    private static final int DEFAULT_TASK_WRITE_BATCH_SIZE = 64;
+    private static final long DEFAULT_TASK_WRITE_FLUSH_INTERVAL_MS = 250;
+    private static final int DEFAULT_TASK_CACHE_SIZE = 512;
+    private static final long DEFAULT_TASK_CACHE_TTL_MS = 60000;
+    private static final int DEFAULT_AUTH_PASSWORD_ITERATIONS = 120000;
+    private static final int DEFAULT_AUTH_LOGIN_CACHE_SIZE = 256;
     
     /**
      * Private constructor for Singleton pattern
@@ -59,13 +77,42 @@ public class AppConfig {
     }
     
     /**
-     * Get property value
+     * Get property value. A system property with the same key (-Dkey=value)
+     * takes precedence over the configuration file.
      * @param key Property key
      * @param defaultValue Default value if property not found
      * @return Property value
      */
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
+    }
+    
+    /**
+     * Get integer property value
+     * @param key Property key
+     * @param defaultValue Default value if property not found or not a number
+     * @return Property value
+     */
+    public int getIntProperty(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Get long property value
+     * @param key Property key
+     * @param defaultValue Default value if property not found or not a number
+     * @return Property value
+     */
+    public long getLongProperty(String key, long defaultValue) {
+        try {
+            return Long.parseLong(getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
     }
     
     /**
@@ -76,6 +123,166 @@ public class AppConfig {
         return getProperty("db.path", DEFAULT_DB_PATH);
     }
     
+    /**
+     * Get number of database connections kept open while idle
+     * @return Minimum idle pool size
+     */
+    public int getDbPoolMinIdle() {
+        return getIntProperty("db.pool.min", DEFAULT_DB_POOL_MIN_IDLE);
+    }
+    
+    /**
+     * Get maximum number of open database connections
+     * @return Maximum pool size
+     */
+    public int getDbPoolMaxSize() {
+        return getIntProperty("db.pool.max", DEFAULT_DB_POOL_MAX_SIZE);
+    }
+    
+    /**
+     * Get time to wait for a free database connection
+     * @return Acquisition timeout in milliseconds
+     */
+    public long getDbPoolAcquireTimeoutMillis() {
+        return getLongProperty("db.pool.acquire.timeout.ms", DEFAULT_DB_POOL_ACQUIRE_TIMEOUT_MS);
+    }
+    
+    /**
+     * Get time after which an idle database connection is closed
+     * @return Idle timeout in milliseconds, 0 to keep idle connections forever
+     */
+    public long getDbPoolIdleTimeoutMillis() {
+        return getLongProperty("db.pool.idle.timeout.ms", DEFAULT_DB_POOL_IDLE_TIMEOUT_MS);
+    }
+    
+    /**
+     * Check if the SQLite performance profile is applied to new connections
+     * @return true if the tuned pragmas should be applied
+     */
+    public boolean isDbPerformanceProfileEnabled() {
+        return Boolean.parseBoolean(getProperty("db.performance.profile.enabled", "true"));
+    }
+    
+    /**
+     * Get SQLite journal mode
+     * @return Journal mode, e.g. WAL or DELETE
+     */
+    public String getDbJournalMode() {
+        return getProperty("db.journal.mode", DEFAULT_DB_JOURNAL_MODE);
+    }
+    
+    /**
+     * Get SQLite synchronous level
+     * @return Synchronous level, e.g. NORMAL or FULL
+     */
+    public String getDbSynchronous() {
+        return getProperty("db.synchronous", DEFAULT_DB_SYNCHRONOUS);
+    }
+    
+    /**
+     * Get SQLite page cache size per connection
+     * @return Cache size in KiB
+     */
+    public int getDbCacheSizeKb() {
+        return getIntProperty("db.cache.size.kb", DEFAULT_DB_CACHE_SIZE_KB);
+    }
+    
+    /**
+     * Get SQLite memory-mapped I/O size per connection
+     * @return mmap size in bytes, 0 to disable
+     */
+    public long getDbMmapSizeBytes() {
+        return getLongProperty("db.mmap.size.bytes", DEFAULT_DB_MMAP_SIZE_BYTES);
+    }
+    
+    /**
+     * Get SQLite temporary storage location
+     * @return Temp store, e.g. MEMORY or FILE
+     */
+    public String getDbTempStore() {
+        return getProperty("db.temp.store", DEFAULT_DB_TEMP_STORE);
+    }
+    
+    /**
+     * Get time SQLite waits on a locked database before failing
+     * @return Busy timeout in milliseconds
+     */
+    public int getDbBusyTimeoutMillis() {
+        return getIntProperty("db.busy.timeout.ms", DEFAULT_DB_BUSY_TIMEOUT_MS);
+    }
+    
+    /**
+     * Get number of prepared statements cached per database connection
+     * @return Statement cache size, 0 to disable caching
+     */
+    public int getDbStatementCacheSize() {
+        return getIntProperty("db.statement.cache.size", DEFAULT_DB_STATEMENT_CACHE_SIZE);
+    }
+    
+    /**
+     * Get durability mode for task updates and deletions
+     * @return SYNC to write each change before returning, WRITE_BEHIND to queue changes
+     */
+    public String getTaskDurabilityMode() {
+        return getProperty("task.durability", DEFAULT_TASK_DURABILITY).trim().toUpperCase();
+    }
+    
+    /**
+     * Check if task updates and deletions are queued and written in the background
+     * @return true in WRITE_BEHIND durability mode
+     */
+    public boolean isTaskWriteBehindEnabled() {
+        return "WRITE_BEHIND".equals(getTaskDurabilityMode());
+    }
+    
+    /**
+     * Get number of queued task changes that triggers a write
+     * @return Batch size
+     */
+    public int getTaskWriteBatchSize() {
+        return getIntProperty("task.write.batch.size", DEFAULT_TASK_WRITE_BATCH_SIZE);
+    }
+    
+    /**
+     * Get longest time a queued task change waits before it is written
+     * @return Flush interval in milliseconds
+     */
+    public long getTaskWriteFlushIntervalMillis() {
+        return getLongProperty("task.write.flush.interval.ms", DEFAULT_TASK_WRITE_FLUSH_INTERVAL_MS);
+    }
+    
+    /**
+     * Get number of tasks cached per user
+     * @return Task cache size, 0 to disable caching
+     */
+    public int getTaskCacheSize() {
+        return getIntProperty("task.cache.size", DEFAULT_TASK_CACHE_SIZE);
+    }
+    
+    /**
+     * Get time after which a cached task is reloaded
+     * @return Time-to-live in milliseconds
+     */
+    public long getTaskCacheTtlMillis() {
+        return getLongProperty("task.cache.ttl.ms", DEFAULT_TASK_CACHE_TTL_MS);
+    }
+    
+    /**
+     * Get PBKDF2 iteration count for new password hashes
+     * @return Iteration count
+     */
+    public int getPasswordHashIterations() {
+        return getIntProperty("auth.password.iterations", DEFAULT_AUTH_PASSWORD_ITERATIONS);
+    }
+    
+    /**
+     * Get number of verified logins remembered to skip the password hash
+     * @return Login cache size, 0 to disable caching
+     */
+    public int getLoginCacheSize() {
+        return getIntProperty("auth.login.cache.size", DEFAULT_AUTH_LOGIN_CACHE_SIZE);
+    }
+    
     /**
      * Get user data path
      * @return User data file path
@@ -913,6 +913,7 @@ public class TaskmanagerAppTest {
     public void testGetUpcomingDeadlines() {
         try {
             TaskService taskService = new TaskService("test_user");
+            new UserService().registerUser("test_user", "password", "test@example.com");
             DeadlineService deadlineService = new DeadlineService(taskService);
             
             // Create a task with tomorrow's deadline
@@ -935,6 +936,7 @@ public class TaskmanagerAppTest {
     public void testGetOverdueTasks() {
         try {
             TaskService taskService = new TaskService("test_user");
+            new UserService().registerUser("test_user", "password", "test@example.com");
             DeadlineService deadlineService = new DeadlineService(taskService);
             
             // Create an overdue task
@@ -4522,6 +4524,9 @@ public void testFormatWithPattern() {
         
         assertEquals("Date should be correctly formatted with another pattern", expected2, result2);
         
+        // Pattern letters keep their SimpleDateFormat meaning
+        assertEquals("u should be the day of the week", "1", DateUtils.formatWithPattern(testDate, "u"));
+        
         // Test with null
         assertEquals("Null date should return 'Not set'", "Not set", DateUtils.formatWithPattern(null, "yyyy-MM-dd"));
     } catch (Exception e) {
@@ -5163,8 +5168,8 @@ public void testHandleSelectionExit() {
         // Create TaskMenu
         TaskMenu taskMenu = new TaskMenu(scanner, testOut, taskManager, taskService);
         
-        // Call the method to test with option 5 (Exit)
-        boolean result = taskMenu.handleSelection(5);
+        // Call the method to test with option 6 (Exit)
+        boolean result = taskMenu.handleSelection(6);
         
         // Verify the result
         assertFalse("Should return false to exit menu", result);
@@ -5230,8 +5235,8 @@ public void testHandleSelectionInvalid() {
 @Test
 public void testShowMenu() {
     try {
-        // Create input with exit choice (5) to avoid infinite loop
-        String input = "5\n";
+        // Create input with exit choice (6) to avoid infinite loop
+        String input = "6\n";
         ByteArrayInputStream inContent = new ByteArrayInputStream(input.getBytes());
         Scanner scanner = new Scanner(inContent);
         
@@ -5283,7 +5288,7 @@ public void testShowMenu() {
 public void testShowMenuWithInputError() {
     try {
         // Create input sequence: first invalid input, then exit
-        String input = "invalid\n5\n";
+        String input = "invalid\n6\n";
         ByteArrayInputStream inContent = new ByteArrayInputStream(input.getBytes());
         Scanner scanner = new Scanner(inContent);
         
@@ -5355,8 +5360,8 @@ public void testShowMenuWithInputError() {
 @Test
 public void testMenuLoopingBehavior() {
     try {
-        // Create input sequence: option 2 (view tasks), then exit (5)
-        String input = "2\n5\n";
+        // Create input sequence: option 2 (view tasks), then exit (6)
+        String input = "2\n6\n";
         ByteArrayInputStream inContent = new ByteArrayInputStream(input.getBytes());
         Scanner scanner = new Scanner(inContent);
         
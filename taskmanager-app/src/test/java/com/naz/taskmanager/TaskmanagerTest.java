@@ -10,6 +10,7 @@ import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.util.Scanner;
 import java.util.Date;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 import java.util.ArrayList;
@@ -274,6 +275,29 @@ public class TaskmanagerTest {
         }
     }
     
+    @Test
+    public void testSearchTasks() throws Exception {
+        String testUsername = "search_menu_test_" + System.currentTimeMillis();
+        new UserRepository(System.out).addUser(testUsername, "password");
+        TaskService searchService = new TaskService(testUsername);
+        searchService.createTask("Kuzgunkaya raporu", "Aranacak görev", new Category("Work"));
+        searchService.createTask("Alışveriş", "Başka görev", new Category("Personal"));
+        
+        // Kelimenin başı yazılınca görev bulunmalı
+        Scanner testScanner = new Scanner(new ByteArrayInputStream("kuzgun\n".getBytes()));
+        ByteArrayOutputStream searchOut = new ByteArrayOutputStream();
+        Taskmanager testManager = new Taskmanager(testScanner, new PrintStream(searchOut));
+        Field taskServiceField = Taskmanager.class.getDeclaredField("taskService");
+        taskServiceField.setAccessible(true);
+        taskServiceField.set(testManager, searchService);
+        
+        testManager.searchTasks();
+        String output = searchOut.toString();
+        assertTrue("Eşleşen görev listelenmeli", output.contains("Kuzgunkaya raporu"));
+        assertFalse("Eşleşmeyen görev listelenmemeli", output.contains("Alışveriş"));
+        searchService.close();
+    }
+    
     @Test
     public void testDeleteTasks() {
         // Giriş simüle edelim
@@ -390,7 +414,7 @@ public class TaskmanagerTest {
     @Test
     public void testCreateTaskmanagerMenu() {
         // Menüden çıkış için giriş hazırlama
-        String input = "5\n"; // 5 = Çıkış
+        String input = "6\n"; // 6 = Çıkış
         System.setIn(new ByteArrayInputStream(input.getBytes()));
         Scanner testScanner = new Scanner(System.in);
         
@@ -1010,6 +1034,8 @@ public class TaskmanagerTest {
         try {
             // Benzersiz bir test kullanıcı adı oluştur
             String testUsername = "settings_test_" + System.currentTimeMillis();
+            // Görevler ve ayarlar Users tablosuna bağlı olduğundan kullanıcı önce eklenir
+            new UserRepository(System.out).addUser(testUsername, "password");
             
             // Yeni repository oluştur
             SettingsRepository repository = new SettingsRepository(testUsername);
@@ -1204,57 +1230,48 @@ public class TaskmanagerTest {
         // Zamanı geçmiş hatırlatıcılar için test
         String testUsername = "due_reminder_test_" + System.currentTimeMillis();
         ReminderService reminderService = new ReminderService(testUsername);
+        TaskRepository taskRepository = new TaskRepository(testUsername);
+        ReminderRepository reminderRepository = new ReminderRepository(testUsername);
+        UserRepository userRepository = new UserRepository(System.out);
+        TaskmanagerItem task = new TaskmanagerItem("Due Task", "Due Description", new Category("Due"));
         
         try {
-            // Test hatırlatıcıları oluştur
-            List<Reminder> testReminders = new ArrayList<>();
+            // Filtreleme artık SQL'de yapıldığı için hatırlatıcılar veritabanına kaydedilir
+            userRepository.addUser(testUsername, "password");
+            taskRepository.save(task);
             
             // Geçmiş hatırlatıcı
             Calendar pastCal = Calendar.getInstance();
             pastCal.add(Calendar.HOUR, -1); // 1 saat önce
-            Reminder pastReminder = new Reminder("task-1", pastCal.getTime());
+            Reminder pastReminder = new Reminder(task.getId(), pastCal.getTime());
+            pastReminder.setMessage("past");
             
             // Gelecek hatırlatıcı
             Calendar futureCal = Calendar.getInstance();
             futureCal.add(Calendar.HOUR, 1); // 1 saat sonra
-            Reminder futureReminder = new Reminder("task-2", futureCal.getTime());
+            Reminder futureReminder = new Reminder(task.getId(), futureCal.getTime());
+            futureReminder.setMessage("future");
             
             // Zaten tetiklenmiş hatırlatıcı
-            Reminder triggeredReminder = new Reminder("task-3", pastCal.getTime());
+            Reminder triggeredReminder = new Reminder(task.getId(), pastCal.getTime());
+            triggeredReminder.setMessage("triggered");
             triggeredReminder.setTriggered(true);
             
-            // Null tarihli hatırlatıcı
-            Reminder nullDateReminder = new Reminder();
-            nullDateReminder.setTaskId("task-4");
-            
-            testReminders.add(pastReminder);
-            testReminders.add(futureReminder);
-            testReminders.add(triggeredReminder);
-            testReminders.add(nullDateReminder);
-            
-            // Test reflection kullanarak private alanları değiştir
-            Field remindersField = ReminderService.class.getDeclaredField("reminderRepository");
-            remindersField.setAccessible(true);
-            
-            ReminderRepository mockRepository = new ReminderRepository(testUsername) {
-                @Override
-                public List<Reminder> getAll() {
-                    return testReminders;
-                }
-            };
-            
-            remindersField.set(reminderService, mockRepository);
+            reminderRepository.saveAll(Arrays.asList(pastReminder, futureReminder, triggeredReminder));
             
             // Zamanı geçmiş hatırlatıcıları al
             List<Reminder> dueReminders = reminderService.getDueReminders();
             
             // Sadece geçmiş ve tetiklenmemiş hatırlatıcı olmalı
             assertEquals("Should find only 1 due reminder", 1, dueReminders.size());
-            assertEquals("Due reminder should be the past one", pastReminder.getTaskId(), dueReminders.get(0).getTaskId());
+            assertEquals("Due reminder should be the past one", pastReminder.getId(), dueReminders.get(0).getId());
             
         } catch (Exception e) {
             e.printStackTrace();
             fail("Test failed with exception: " + e.getMessage());
+        } finally {
+            taskRepository.delete(task.getId());
+            userRepository.delete(testUsername);
         }
     }
     
@@ -1263,6 +1280,8 @@ public class TaskmanagerTest {
         try {
             // Benzersiz test kullanıcısı oluştur
             String testUsername = "task_repo_test_" + System.currentTimeMillis();
+            // Görevler ve ayarlar Users tablosuna bağlı olduğundan kullanıcı önce eklenir
+            new UserRepository(System.out).addUser(testUsername, "password");
             TaskRepository taskRepository = new TaskRepository(testUsername);
             
             // Yeni task oluştur
@@ -1508,6 +1527,8 @@ public class TaskmanagerTest {
         try {
             // Benzersiz test kullanıcısı oluştur
             String testUsername = "reminder_repo_test_" + System.currentTimeMillis();
+            // Görevler ve ayarlar Users tablosuna bağlı olduğundan kullanıcı önce eklenir
+            new UserRepository(System.out).addUser(testUsername, "password");
             
             // Öncelikle bir task oluştur
             TaskService taskService = new TaskService(testUsername);
@@ -1726,8 +1747,9 @@ public class TaskmanagerTest {
             "2\n", // Görevleri Görüntüle
             "3\n", // Görevleri Kategorize Et
             "4\n", // Görev Sil
-            "5\n", // Ana Menüye Dön
-            "6\n"  // Geçersiz Seçenek
+            "5\n", // Görev Ara
+            "6\n", // Ana Menüye Dön
+            "7\n"  // Geçersiz Seçenek
         };
         
         for (String input : inputs) {
@@ -0,0 +1,94 @@
+package com.naz.taskmanager.repository;
+
+import com.naz.taskmanager.model.Category;
+import com.naz.taskmanager.model.TaskmanagerItem;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import java.util.UUID;
+
+public class CategoryRepositoryTest {
+    private static final String SUFFIX = UUID.randomUUID().toString().substring(0, 8);
+    private static final String TEST_USERNAME = "category_test_" + SUFFIX;
+    private CategoryRepository repository;
+    private UserRepository userRepository;
+    private Category category;
+
+    @Before
+    public void setUp() {
+        // Açıklama ve renk sütunları bir göç ile eklenir
+        DatabaseConnection.getInstance(System.out).initializeDatabase();
+        repository = new CategoryRepository();
+        userRepository = new UserRepository(System.out);
+        userRepository.addUser(TEST_USERNAME, "password");
+
+        category = new Category("Kategori " + SUFFIX, "Açıklama", "#123456");
+        repository.save(category);
+    }
+
+    @After
+    public void tearDown() {
+        // Kullanıcı silinince görevleri de silinir
+        userRepository.delete(TEST_USERNAME);
+        repository.delete(String.valueOf(category.getId()));
+    }
+
+    @Test
+    public void testSaveAndFind() {
+        Category found = repository.getById(String.valueOf(category.getId()));
+        assertNotNull("Kaydedilen kategori bulunmalı", found);
+        assertEquals(category.getName(), found.getName());
+        assertEquals("Açıklama", found.getDescription());
+        assertEquals("#123456", found.getColor());
+
+        Category byName = repository.getByName(category.getName().toUpperCase());
+        assertNotNull("İsim araması büyük/küçük harf duyarsız olmalı", byName);
+        assertEquals(category.getId(), byName.getId());
+        assertTrue(repository.getAll().contains(category));
+    }
+
+    @Test
+    public void testUpdate() {
+        category.setDescription("Yeni açıklama");
+        category.setColor("#654321");
+        repository.update(category);
+
+        Category found = repository.getById(String.valueOf(category.getId()));
+        assertEquals("Yeni açıklama", found.getDescription());
+        assertEquals("#654321", found.getColor());
+    }
+
+    @Test
+    public void testDeleteKeepsCategoriesInUse() {
+        TaskRepository taskRepository = new TaskRepository(TEST_USERNAME);
+        TaskmanagerItem task = new TaskmanagerItem("Görev", "", new Category(category.getName()));
+        taskRepository.save(task);
+
+        assertFalse("Görevde kullanılan kategori silinmemeli",
+            repository.deleteIfUnused(String.valueOf(category.getId())));
+        assertNotNull(taskRepository.getById(task.getId()));
+
+        taskRepository.delete(task.getId());
+        assertTrue(repository.deleteIfUnused(String.valueOf(category.getId())));
+        assertNull(repository.getById(String.valueOf(category.getId())));
+    }
+
+    @Test
+    public void testTaskCategoryMatchesIgnoringCaseWithoutCache() {
+        // Veritabanı yeniden hazırlanınca paylaşılan kategoriler bırakılmalı
+        repository.getInterned(category.getName());
+        DatabaseConnection.getInstance(System.out).initializeDatabase();
+        assertNull(CategoryRepository.getInternedId(category.getName()));
+
+        TaskRepository taskRepository = new TaskRepository(TEST_USERNAME);
+        TaskmanagerItem task = new TaskmanagerItem("Görev", "", new Category(category.getName().toUpperCase()));
+        taskRepository.save(task);
+        assertEquals("Önbellek boşken de aynı kategori bulunmalı",
+            category.getId(), taskRepository.getById(task.getId()).getCategory().getId());
+
+        DatabaseConnection.getInstance(System.out).closeConnection();
+        assertNull("Bağlantı kapanınca paylaşılan kategoriler bırakılmalı",
+            CategoryRepository.getInternedId(category.getName()));
+        taskRepository.delete(task.getId());
+    }
+}
@@ -0,0 +1,150 @@
+package com.naz.taskmanager.repository;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+public class ConnectionPoolTest {
+    private ConnectionPool pool;
+
+    /**
+     * Bellek içi SQLite bağlantıları üreten havuz oluşturur
+     */
+    private ConnectionPool createPool(int min, int max, long acquireTimeout, long idleTimeout) {
+        return new ConnectionPool(() -> DriverManager.getConnection("jdbc:sqlite::memory:"),
+                min, max, acquireTimeout, idleTimeout);
+    }
+
+    @After
+    public void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testReleasedConnectionIsReused() throws SQLException {
+        pool = createPool(1, 2, 1000, 0);
+
+        Connection first = pool.borrow();
+        pool.release(first);
+        Connection second = pool.borrow();
+
+        // Serbest bırakılan bağlantı tekrar kullanılmalı
+        assertSame("Serbest bırakılan bağlantı yeniden verilmeli", first, second);
+        assertEquals("Sadece bir bağlantı açılmış olmalı", 1, pool.getOpenCount());
+    }
+
+    @Test
+    public void testPrefillOpensMinIdleConnections() throws SQLException {
+        pool = createPool(2, 4, 1000, 0);
+        pool.prefill();
+
+        assertEquals("En az minIdle bağlantı açılmış olmalı", 2, pool.getOpenCount());
+        assertEquals("Açılan bağlantılar boşta beklemeli", 2, pool.getIdleCount());
+
+        // Tekrar çağırmak yeni bağlantı açmamalı
+        pool.prefill();
+        assertEquals(2, pool.getOpenCount());
+        pool.borrow();
+        assertEquals("Ödünç alma hazır bağlantıyı kullanmalı", 2, pool.getOpenCount());
+    }
+
+    @Test
+    public void testConcurrentBorrowsGetDistinctConnections() throws SQLException {
+        pool = createPool(1, 2, 1000, 0);
+
+        Connection first = pool.borrow();
+        Connection second = pool.borrow();
+
+        assertNotSame("Aynı anda alınan bağlantılar farklı olmalı", first, second);
+        assertEquals("İki bağlantı açık olmalı", 2, pool.getOpenCount());
+    }
+
+    @Test
+    public void testBorrowTimesOutWhenPoolExhausted() throws SQLException {
+        pool = createPool(1, 1, 50, 0);
+        pool.borrow();
+
+        try {
+            pool.borrow();
+            fail("Havuz doluyken bağlantı alma zaman aşımına uğramalı");
+        } catch (SQLException e) {
+            assertTrue("Hata mesajı zaman aşımını belirtmeli", e.getMessage().contains("Timed out"));
+        }
+    }
+
+    @Test
+    public void testWaitingBorrowerGetsReleasedConnection() throws Exception {
+        pool = createPool(1, 1, 2000, 0);
+        Connection held = pool.borrow();
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pool.release(held);
+        });
+        releaser.start();
+
+        // Diğer thread bağlantıyı bırakınca bekleyen istek onu almalı
+        Connection next = pool.borrow();
+        releaser.join();
+        assertSame("Bekleyen istek serbest bırakılan bağlantıyı almalı", held, next);
+    }
+
+    @Test
+    public void testClosedConnectionIsNotHandedOut() throws SQLException {
+        pool = createPool(0, 2, 1000, 0);
+
+        Connection broken = pool.borrow();
+        pool.release(broken);
+        broken.close();
+
+        // Doğrulama kapalı bağlantıyı elemeli
+        Connection fresh = pool.borrow();
+        assertNotSame("Kapalı bağlantı tekrar verilmemeli", broken, fresh);
+        assertFalse("Yeni bağlantı açık olmalı", fresh.isClosed());
+    }
+
+    @Test
+    public void testIdleConnectionsAreEvictedDownToMinimum() throws Exception {
+        pool = createPool(1, 3, 1000, 20);
+
+        Connection a = pool.borrow();
+        Connection b = pool.borrow();
+        Connection c = pool.borrow();
+        pool.release(a);
+        pool.release(b);
+        pool.release(c);
+        assertEquals("Üç bağlantı açık olmalı", 3, pool.getOpenCount());
+
+        Thread.sleep(50);
+        Connection reused = pool.borrow();
+
+        // Boşta bekleyenler kapatılmalı, en az bir bağlantı korunmalı
+        assertEquals("Havuz minimum boyuta inmeli", 1, pool.getOpenCount());
+        assertFalse("Verilen bağlantı açık olmalı", reused.isClosed());
+    }
+
+    @Test
+    public void testCloseClosesBorrowedConnections() throws SQLException {
+        pool = createPool(1, 2, 1000, 0);
+        Connection borrowed = pool.borrow();
+
+        pool.close();
+
+        assertTrue("Havuz kapatılınca bağlantılar kapanmalı", borrowed.isClosed());
+        try {
+            pool.borrow();
+            fail("Kapalı havuzdan bağlantı alınamamalı");
+        } catch (SQLException e) {
+            // Beklenen durum
+        }
+    }
+}
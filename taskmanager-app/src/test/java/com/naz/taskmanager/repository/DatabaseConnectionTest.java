@@ -194,4 +194,166 @@ public class DatabaseConnectionTest {
             fail("Bağlantı durumunu kontrol ederken hata: " + e.getMessage());
         }
     }
-} 
\ No newline at end of file
+    
+    @Test
+    public void testReplacedConnectionKeepsOuterHolds() throws Exception {
+        // Dış çağıran bağlantıyı tutarken bağlantı kapanıyor
+        Connection outer = dbConnection.getConnection();
+        outer.close();
+        
+        // İç çağıran yeni bağlantı almalı, dış çağıranın tutması korunmalı
+        Connection inner = dbConnection.getConnection();
+        assertFalse("Yeni bağlantı açık olmalı", inner.isClosed());
+        inner.setAutoCommit(false);
+        dbConnection.releaseConnection();
+        try {
+            // Havuza dönseydi işlem geri alınıp otomatik commit açılırdı
+            assertFalse("Bağlantı dış çağıran için tutulmaya devam etmeli", inner.getAutoCommit());
+            assertSame("Aynı bağlantı verilmeli", inner, dbConnection.getConnection());
+            dbConnection.releaseConnection();
+        } finally {
+            inner.setAutoCommit(true);
+            dbConnection.releaseConnection();
+        }
+    }
+    
+    @Test
+    public void testConnectionsAreNotSharedAcrossThreads() throws Exception {
+        // Ana thread bir bağlantı tutuyor
+        Connection mainConnection = dbConnection.getConnection();
+        assertNotNull("Veritabanı bağlantısı null olmamalı", mainConnection);
+        
+        // Başka bir thread aynı anda kendi bağlantısını almalı
+        final Connection[] otherConnection = new Connection[1];
+        Thread worker = new Thread(() -> {
+            otherConnection[0] = dbConnection.getConnection();
+            dbConnection.releaseConnection();
+        });
+        worker.start();
+        worker.join();
+        
+        assertNotNull("Diğer thread bağlantı alabilmeli", otherConnection[0]);
+        assertNotSame("Farklı thread'ler farklı bağlantı kullanmalı", mainConnection, otherConnection[0]);
+        
+        dbConnection.releaseConnection();
+    }
+    
+    @Test
+    public void testForeignKeysEnabledOnEveryConnection() throws Exception {
+        // Ana thread'in tuttuğu bağlantı, diğer thread'i yeni bir bağlantı açmaya zorlar
+        Connection mainConnection = dbConnection.getConnection();
+        final int[] foreignKeys = {-1, -1};
+        try {
+            foreignKeys[0] = foreignKeys(mainConnection);
+            Thread worker = new Thread(() -> {
+                try {
+                    foreignKeys[1] = foreignKeys(dbConnection.getConnection());
+                } catch (SQLException e) {
+                    // -1 olarak kalır
+                } finally {
+                    dbConnection.releaseConnection();
+                }
+            });
+            worker.start();
+            worker.join();
+        } finally {
+            dbConnection.releaseConnection();
+        }
+        
+        assertEquals("İlk bağlantıda yabancı anahtarlar açık olmalı", 1, foreignKeys[0]);
+        assertEquals("Sonradan açılan bağlantıda da yabancı anahtarlar açık olmalı", 1, foreignKeys[1]);
+        
+        // Havuz kapatılıp yeniden açıldıktan sonra da geçerli olmalı
+        dbConnection.closeConnection();
+        try {
+            assertEquals(1, foreignKeys(dbConnection.getConnection()));
+        } finally {
+            dbConnection.releaseConnection();
+        }
+    }
+    
+    private static int foreignKeys(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA foreign_keys")) {
+            return rs.next() ? rs.getInt(1) : -1;
+        }
+    }
+    
+    @Test
+    public void testReleasedConnectionIsReused() {
+        Connection connection1 = dbConnection.getConnection();
+        dbConnection.releaseConnection();
+        
+        // Havuza dönen bağlantı tekrar verilmeli
+        Connection connection2 = dbConnection.getConnection();
+        dbConnection.releaseConnection();
+        
+        assertSame("Serbest bırakılan bağlantı yeniden kullanılmalı", connection1, connection2);
+    }
+    
+    @Test
+    public void testInitializeDatabaseAppliesMigrations() throws SQLException {
+        // İki kez başlatmak hata vermemeli, migration'lar bir kez uygulanmalı
+        dbConnection.initializeDatabase();
+        dbConnection.initializeDatabase();
+        
+        Connection conn = dbConnection.getConnection();
+        try (Statement stmt = conn.createStatement()) {
+            assertEquals("Şema son sürümde olmalı",
+                    SchemaMigrator.getLatestVersion(), SchemaMigrator.getCurrentVersion(conn));
+            
+            try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM schema_version WHERE version = 1")) {
+                assertTrue(rs.next());
+                assertEquals("Her migration tek kayıt olmalı", 1, rs.getInt(1));
+            }
+            
+            try (ResultSet rs = stmt.executeQuery(
+                    "SELECT name FROM sqlite_master WHERE type='index' AND name='idx_tasks_username_deadline'")) {
+                assertTrue("Tasks(username, deadline) indeksi oluşturulmuş olmalı", rs.next());
+            }
+            
+            try (ResultSet rs = stmt.executeQuery(
+                    "SELECT name FROM sqlite_master WHERE type='index' AND name='idx_reminders_task_triggered_time'")) {
+                assertTrue("Reminders indeksi oluşturulmuş olmalı", rs.next());
+            }
+            
+            try (ResultSet rs = stmt.executeQuery(
+                    "SELECT name FROM sqlite_master WHERE type='index' AND name='idx_reminders_due'")) {
+                assertTrue("Tetiklenmemiş hatırlatıcı indeksi oluşturulmuş olmalı", rs.next());
+            }
+        } finally {
+            dbConnection.releaseConnection();
+        }
+    }
+    
+    @Test
+    public void testPerformanceProfileApplied() throws SQLException {
+        Connection conn = dbConnection.getConnection();
+        try (Statement stmt = conn.createStatement()) {
+            // WAL modu okuyucuların yazma sırasında beklemesini önler
+            try (ResultSet rs = stmt.executeQuery("PRAGMA journal_mode")) {
+                assertTrue(rs.next());
+                assertEquals("Journal modu WAL olmalı", "wal", rs.getString(1).toLowerCase());
+            }
+            
+            // synchronous = NORMAL (1)
+            try (ResultSet rs = stmt.executeQuery("PRAGMA synchronous")) {
+                assertTrue(rs.next());
+                assertEquals("Synchronous NORMAL olmalı", 1, rs.getInt(1));
+            }
+            
+            // temp_store = MEMORY (2)
+            try (ResultSet rs = stmt.executeQuery("PRAGMA temp_store")) {
+                assertTrue(rs.next());
+                assertEquals("Geçici veriler bellekte tutulmalı", 2, rs.getInt(1));
+            }
+            
+            try (ResultSet rs = stmt.executeQuery("PRAGMA busy_timeout")) {
+                assertTrue(rs.next());
+                assertTrue("Busy timeout ayarlanmış olmalı", rs.getInt(1) > 0);
+            }
+        } finally {
+            dbConnection.releaseConnection();
+        }
+    }
+}
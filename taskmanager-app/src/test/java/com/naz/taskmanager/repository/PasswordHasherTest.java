@@ -0,0 +1,74 @@
+package com.naz.taskmanager.repository;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+public class PasswordHasherTest {
+    private PasswordHasher hasher;
+
+    @Before
+    public void setUp() {
+        // Testlerin hızlı çalışması için düşük maliyet
+        hasher = new PasswordHasher(1000, 4);
+    }
+
+    @Test
+    public void testHashIsSaltedAndVerifies() {
+        String first = hasher.hash("şifre123");
+        String second = hasher.hash("şifre123");
+
+        assertTrue(PasswordHasher.isHash(first));
+        assertNotEquals("Aynı şifre farklı tuzla özetlenmeli", first, second);
+        assertTrue(hasher.verify("şifre123", first));
+        assertTrue(hasher.verify("şifre123", second));
+        assertFalse("Yanlış şifre reddedilmeli", hasher.verify("sifre123", first));
+        assertFalse(hasher.verify(null, first));
+    }
+
+    @Test
+    public void testRepeatedLoginUsesCache() {
+        String stored = hasher.hash("password");
+
+        assertTrue(hasher.verify("password", stored));
+        assertEquals(0, hasher.getHits());
+        assertTrue(hasher.verify("password", stored));
+        assertEquals("İkinci giriş önbellekten doğrulanmalı", 1, hasher.getHits());
+
+        // Önbellekteki kayıt başka bir şifreyi kabul etmemeli
+        assertFalse(hasher.verify("wrong", stored));
+        assertEquals(1, hasher.getHits());
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        String first = hasher.hash("password0");
+        hasher.verify("password0", first);
+        for (int i = 1; i <= 4; i++) {
+            hasher.verify("password" + i, hasher.hash("password" + i));
+        }
+
+        long misses = hasher.getMisses();
+        assertTrue(hasher.verify("password0", first));
+        assertEquals("En eski kayıt önbellekten atılmış olmalı", misses + 1, hasher.getMisses());
+    }
+
+    @Test
+    public void testCostIsReadFromStoredHash() {
+        PasswordHasher stronger = new PasswordHasher(2000, 4);
+        String weak = hasher.hash("password");
+
+        assertTrue("Eski maliyetli özet doğrulanabilmeli", stronger.verify("password", weak));
+        assertTrue(stronger.needsRehash(weak));
+        assertFalse(stronger.needsRehash(stronger.hash("password")));
+        assertTrue("Düz metin şifre yeniden özetlenmeli", stronger.needsRehash("password"));
+    }
+
+    @Test
+    public void testLegacyPlainTextAndMalformedValues() {
+        assertTrue(hasher.verify("password", "password"));
+        assertFalse(hasher.verify("password", "other"));
+        assertFalse(hasher.verify("password", "pbkdf2-sha256$x$y"));
+        assertFalse(hasher.verify("password", "pbkdf2-sha256$1000$!!$!!"));
+        assertEquals("Özet tekrar özetlenmemeli", "pbkdf2-sha256$1$a$b", hasher.hashIfPlain("pbkdf2-sha256$1$a$b"));
+    }
+}
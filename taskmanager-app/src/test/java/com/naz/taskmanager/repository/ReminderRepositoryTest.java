@@ -7,6 +7,8 @@ import org.junit.*;
 import static org.junit.Assert.*;
 
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -276,6 +278,124 @@ public class ReminderRepositoryTest {
         }
     }
     
+    @Test
+    public void testSaveAllAndUpdateAll() {
+        Reminder first = createTestReminder("Batch 1", 1);
+        Reminder second = createTestReminder("Batch 2", 2);
+        
+        List<String> ids = repository.saveAll(Arrays.asList(first, second));
+        
+        // ID'ler verilen sırayla dönmeli
+        assertEquals("İki ID dönmeli", 2, ids.size());
+        assertEquals("İlk ID eşleşmeli", first.getId(), ids.get(0));
+        assertEquals("İkinci ID eşleşmeli", second.getId(), ids.get(1));
+        assertEquals("Mesaj eşleşmeli", "Batch 2", repository.getById(ids.get(1)).getMessage());
+        
+        first.setTriggered(true);
+        second.setMessage("Batch 2 Updated");
+        repository.updateAll(Arrays.asList(first, second));
+        
+        assertTrue("İlk hatırlatıcı tetiklenmiş olmalı", repository.getById(first.getId()).isTriggered());
+        assertEquals("Mesaj güncellenmeli", "Batch 2 Updated", repository.getById(second.getId()).getMessage());
+    }
+    
+    @Test
+    public void testSaveAllInsideCallerTransaction() throws Exception {
+        Reminder existing = createTestReminder("Batch Existing", 1);
+        repository.save(existing);
+        
+        DatabaseConnection dbConnection = DatabaseConnection.getInstance(System.out);
+        java.sql.Connection connection = dbConnection.getConnection();
+        Reminder first = createTestReminder("Batch Tx 1", 1);
+        Reminder second = createTestReminder("Batch Tx 2", 2);
+        try {
+            connection.setAutoCommit(false);
+            List<String> ids = repository.saveAll(Arrays.asList(first, second));
+            assertEquals("İki ID dönmeli", 2, ids.size());
+            
+            existing.setMessage("Batch Existing Updated");
+            repository.updateAll(Arrays.asList(existing));
+            
+            // Çağıranın işlemi açıkken toplu yazma commit etmemeli
+            assertFalse("Otomatik commit kapalı kalmalı", connection.getAutoCommit());
+            connection.rollback();
+        } finally {
+            connection.setAutoCommit(true);
+            dbConnection.releaseConnection();
+        }
+        
+        // Geri alınan işlemdeki yazmalar kalıcı olmamalı
+        assertNull("Geri alınan hatırlatıcı bulunmamalı", repository.getById(first.getId()));
+        assertNull("Geri alınan hatırlatıcı bulunmamalı", repository.getById(second.getId()));
+        assertEquals("Geri alınan güncelleme kalıcı olmamalı",
+            "Batch Existing", repository.getById(existing.getId()).getMessage());
+    }
+    
+    @Test
+    public void testFindDueAndMarkTriggered() {
+        Reminder older = createTestReminder("Due older", -2);
+        Reminder newer = createTestReminder("Due newer", -1);
+        Reminder future = createTestReminder("Not due", 1);
+        Reminder triggered = createTestReminder("Already triggered", -3);
+        triggered.setTriggered(true);
+        repository.saveAll(Arrays.asList(newer, future, older, triggered));
+        
+        // Sadece zamanı gelmiş ve tetiklenmemiş hatırlatıcılar, en eskisi önce dönmeli
+        List<Reminder> due = repository.findDue(Instant.now(), 10);
+        assertEquals("İki hatırlatıcının zamanı gelmiş olmalı", 2, due.size());
+        assertEquals("En eski hatırlatıcı önce gelmeli", older.getId(), due.get(0).getId());
+        assertEquals("Sonraki hatırlatıcı eşleşmeli", newer.getId(), due.get(1).getId());
+        
+        // Limit uygulanmalı
+        assertEquals("Limit kadar hatırlatıcı dönmeli", 1, repository.findDue(Instant.now(), 1).size());
+        
+        // Toplu işaretleme tek seferde yapılmalı
+        List<String> marked = repository.markTriggered(Arrays.asList(older.getId(), newer.getId()));
+        assertEquals("İki hatırlatıcı işaretlenmeli", Arrays.asList(older.getId(), newer.getId()), marked);
+        assertTrue("Zamanı gelmiş hatırlatıcı kalmamalı", repository.findDue(Instant.now(), 10).isEmpty());
+        assertTrue("Hatırlatıcı tetiklenmiş olmalı", repository.getById(older.getId()).isTriggered());
+        assertFalse("Gelecekteki hatırlatıcı etkilenmemeli", repository.getById(future.getId()).isTriggered());
+        
+        // Önceden tetiklenmiş hatırlatıcılar yeniden işaretlenmiş sayılmamalı
+        marked = repository.markTriggered(Arrays.asList(older.getId(), future.getId(), triggered.getId()));
+        assertEquals("Sadece yeni işaretlenen ID dönmeli", Arrays.asList(future.getId()), marked);
+    }
+    
+    @Test
+    public void testFindUntriggered() throws Exception {
+        // Kısmi indeks şema migration'ı ile oluşturulur
+        DatabaseConnection.getInstance(System.out).initializeDatabase();
+        
+        Reminder later = createTestReminder("Later", 2);
+        Reminder sooner = createTestReminder("Sooner", -1);
+        Reminder triggered = createTestReminder("Already triggered", 1);
+        triggered.setTriggered(true);
+        repository.saveAll(Arrays.asList(later, sooner, triggered));
+        
+        // Sadece tetiklenmemiş hatırlatıcılar, en erkeni önce dönmeli
+        List<Reminder> pending = repository.findUntriggered();
+        assertEquals("İki hatırlatıcı bekliyor olmalı", 2, pending.size());
+        assertEquals("En erken hatırlatıcı önce gelmeli", sooner.getId(), pending.get(0).getId());
+        assertEquals("Sonraki hatırlatıcı eşleşmeli", later.getId(), pending.get(1).getId());
+        
+        // Sorgu tetiklenmemiş hatırlatıcıların kısmi indeksini kullanmalı
+        DatabaseConnection dbConnection = DatabaseConnection.getInstance(System.out);
+        java.sql.Connection connection = dbConnection.getConnection();
+        StringBuilder plan = new StringBuilder();
+        try (java.sql.PreparedStatement stmt = connection.prepareStatement(
+                "EXPLAIN QUERY PLAN " + ReminderRepository.UNTRIGGERED_SQL)) {
+            stmt.setString(1, TEST_USERNAME);
+            try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString("detail")).append('\n');
+                }
+            }
+        } finally {
+            dbConnection.releaseConnection();
+        }
+        assertTrue("Kısmi indeks kullanılmalı: " + plan, plan.toString().contains("idx_reminders_due"));
+    }
+    
     // Test yardımcı metodu
     private Reminder createTestReminder(String message, int hoursFromNow) {
         Reminder reminder = new Reminder();
@@ -0,0 +1,134 @@
+package com.naz.taskmanager.repository;
+
+import com.naz.taskmanager.util.DateCodec;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class SchemaMigratorTest {
+    private Connection connection;
+    
+    /**
+     * Tarihlerin TEXT olarak saklandığı ilk şemayı bellek içi veritabanında oluşturur
+     */
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE Users (username TEXT PRIMARY KEY, password TEXT NOT NULL, email TEXT)");
+            stmt.execute("CREATE TABLE Categories (id INTEGER PRIMARY KEY AUTOINCREMENT, name TEXT NOT NULL UNIQUE)");
+            stmt.execute("CREATE TABLE Tasks (id INTEGER PRIMARY KEY AUTOINCREMENT, username TEXT NOT NULL, " +
+                "name TEXT NOT NULL, description TEXT, category_id INTEGER, deadline TEXT, " +
+                "priority INTEGER DEFAULT 1, completed INTEGER DEFAULT 0, creation_date TEXT NOT NULL)");
+            stmt.execute("CREATE TABLE Reminders (id INTEGER PRIMARY KEY AUTOINCREMENT, task_id INTEGER NOT NULL, " +
+                "reminder_time TEXT NOT NULL, triggered INTEGER DEFAULT 0, message TEXT, " +
+                "FOREIGN KEY(task_id) REFERENCES Tasks(id) ON DELETE CASCADE)");
+            stmt.execute("CREATE TABLE Projects (id INTEGER PRIMARY KEY AUTOINCREMENT, username TEXT NOT NULL, " +
+                "name TEXT NOT NULL, description TEXT, start_date TEXT, end_date TEXT, " +
+                "creation_date TEXT NOT NULL, completed INTEGER DEFAULT 0)");
+            
+            stmt.execute("INSERT INTO Users (username, password) VALUES ('ayse', 'sifre')");
+            stmt.execute("INSERT INTO Tasks (id, username, name, deadline, creation_date) " +
+                "VALUES (7, 'ayse', 'Rapor', '2023-12-25 14:30:00', '2023-12-01 09:00:00')");
+            stmt.execute("INSERT INTO Tasks (id, username, name, deadline, creation_date) " +
+                "VALUES (9, 'ayse', 'Silinecek', NULL, '2023-12-01 09:00:00')");
+            stmt.execute("DELETE FROM Tasks WHERE id = 9");
+            stmt.execute("INSERT INTO Reminders (task_id, reminder_time) VALUES (7, '2023-12-25 14:00:00')");
+            stmt.execute("PRAGMA foreign_keys = ON");
+        }
+    }
+    
+    @After
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+    
+    @Test
+    public void testMigrateToLatestVersion() throws SQLException {
+        int applied = new SchemaMigrator(System.out).migrate(connection);
+        
+        assertEquals("Tüm migration'lar uygulanmalı", SchemaMigrator.getLatestVersion(), applied);
+        assertEquals("Şema son sürümde olmalı",
+            SchemaMigrator.getLatestVersion(), SchemaMigrator.getCurrentVersion(connection));
+        assertEquals("İkinci çalıştırma bir şey uygulamamalı", 0, new SchemaMigrator(System.out).migrate(connection));
+    }
+    
+    @Test
+    public void testDatesConvertedToEpochMillis() throws Exception {
+        new SchemaMigrator(System.out).migrate(connection);
+        
+        try (Statement stmt = connection.createStatement()) {
+            // Metin tarihler tamsayıya dönüştürülmeli
+            try (ResultSet rs = stmt.executeQuery(
+                    "SELECT typeof(deadline), deadline, typeof(creation_date) FROM Tasks WHERE id = 7")) {
+                assertTrue("Görev korunmalı", rs.next());
+                assertEquals("Son tarih tamsayı olmalı", "integer", rs.getString(1));
+                assertEquals("Son tarih aynı anı göstermeli",
+                    DateCodec.parseDb("2023-12-25 14:30:00").getTime(), rs.getLong(2));
+                assertEquals("Oluşturma tarihi tamsayı olmalı", "integer", rs.getString(3));
+            }
+            
+            // Hatırlatıcı silinmemeli ve dönüştürülmeli
+            try (ResultSet rs = stmt.executeQuery("SELECT typeof(reminder_time), task_id FROM Reminders")) {
+                assertTrue("Hatırlatıcı korunmalı", rs.next());
+                assertEquals("Hatırlatma zamanı tamsayı olmalı", "integer", rs.getString(1));
+                assertEquals("Görev bağlantısı korunmalı", 7, rs.getInt(2));
+            }
+            
+            // Yeniden oluşturulan tablo AUTOINCREMENT sayacını korumalı
+            stmt.execute("INSERT INTO Tasks (username, name, creation_date) VALUES ('ayse', 'Yeni', 0)");
+            try (ResultSet rs = stmt.executeQuery("SELECT MAX(id) FROM Tasks")) {
+                assertTrue(rs.next());
+                assertEquals("Silinen ID tekrar kullanılmamalı", 10, rs.getInt(1));
+            }
+            
+            // Yabancı anahtar ayarı geri yüklenmeli
+            try (ResultSet rs = stmt.executeQuery("PRAGMA foreign_keys")) {
+                assertTrue(rs.next());
+                assertEquals("Yabancı anahtarlar tekrar açılmalı", 1, rs.getInt(1));
+            }
+        }
+    }
+    
+    @Test
+    public void testUnparseableDatesReplaced() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO Tasks (id, username, name, deadline, creation_date) " +
+                "VALUES (11, 'ayse', 'Bozuk', 'yarın', 'bilinmiyor')");
+        }
+        java.io.ByteArrayOutputStream output = new java.io.ByteArrayOutputStream();
+        long before = System.currentTimeMillis();
+        new SchemaMigrator(new java.io.PrintStream(output, true)).migrate(connection);
+        
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                 "SELECT typeof(deadline), typeof(creation_date), creation_date FROM Tasks WHERE id = 11")) {
+            assertTrue("Görev korunmalı", rs.next());
+            // Okunamayan değerler INTEGER sütunlarda metin olarak kalmamalı
+            assertEquals("Okunamayan son tarih NULL olmalı", "null", rs.getString(1));
+            assertEquals("Zorunlu tarih tamsayı olmalı", "integer", rs.getString(2));
+            assertTrue("Zorunlu tarih migration zamanı olmalı", rs.getLong(3) >= before);
+        }
+        
+        // Değiştirilen değer sayısı yazılmalı
+        String log = output.toString();
+        assertTrue("Son tarih sayısı yazılmalı", log.contains("1 unreadable Tasks.deadline value(s) set to NULL"));
+        assertTrue("Oluşturma tarihi sayısı yazılmalı",
+            log.contains("1 unreadable Tasks.creation_date value(s) set to the migration time"));
+    }
+    
+    @Test
+    public void testLegacyTextDateStillReadable() throws Exception {
+        // Eski biçimde kalan değerler de okunabilmeli
+        assertEquals("Metin tarih okunmalı", DateCodec.parseDb("2023-12-25 14:30:00"),
+            DateCodec.fromDbValue("2023-12-25 14:30:00"));
+        assertEquals("Tamsayı tarih okunmalı", new java.util.Date(1703514600000L),
+            DateCodec.fromDbValue(1703514600000L));
+        assertNull("Null değer null dönmeli", DateCodec.fromDbValue(null));
+    }
+}
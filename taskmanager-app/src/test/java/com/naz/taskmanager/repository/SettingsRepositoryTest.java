@@ -3,6 +3,8 @@ package com.naz.taskmanager.repository;
 import com.naz.taskmanager.model.NotificationSettings;
 import org.junit.*;
 import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 public class SettingsRepositoryTest {
@@ -120,4 +122,89 @@ public class SettingsRepositoryTest {
         assertTrue("Uygulama bildirimleri açık olmalı", retrieved2.isAppNotificationsEnabled());
         assertEquals("Hatırlatıcı süresi 60 dakika olmalı", 60, retrieved2.getDefaultReminderMinutes());
     }
-} 
\ No newline at end of file
+    
+    @Test
+    public void testSettingsAreCachedAsCopies() {
+        NotificationSettings settings = repository.getSettings();
+        settings.setDefaultReminderMinutes(90);
+        
+        // Döndürülen nesneyi değiştirmek önbelleği değiştirmemeli
+        assertEquals("Önbellek kopya döndürmeli", 30, repository.getSettings().getDefaultReminderMinutes());
+        
+        repository.saveSettings(settings);
+        
+        // Başka bir repository örneği aynı önbelleği görmeli
+        assertEquals(90, new SettingsRepository(TEST_USERNAME).getSettings().getDefaultReminderMinutes());
+    }
+    
+    @Test
+    public void testListenersAreNotifiedOfChanges() {
+        final List<NotificationSettings> events = new ArrayList<>();
+        SettingsRepository.SettingsListener listener = new SettingsRepository.SettingsListener() {
+            @Override
+            public void settingsChanged(String username, NotificationSettings settings) {
+                assertEquals(TEST_USERNAME, username);
+                events.add(settings);
+            }
+        };
+        repository.addListener(listener);
+        try {
+            NotificationSettings settings = repository.getSettings();
+            settings.setDefaultReminderMinutes(10);
+            repository.saveSettings(settings);
+            assertEquals("Değişiklik bildirilmeli", 1, events.size());
+            assertEquals(10, events.get(0).getDefaultReminderMinutes());
+            
+            // Aynı ayarları tekrar kaydetmek bildirim üretmemeli
+            new SettingsRepository(TEST_USERNAME).saveSettings(settings);
+            assertEquals("Değişmeyen ayarlar bildirilmemeli", 1, events.size());
+            
+            // Başka kullanıcının değişikliği bildirilmemeli
+            new SettingsRepository("other_" + TEST_USERNAME).addListener(listener);
+            settings.setEmailEnabled(false);
+            repository.saveSettings(settings);
+            assertEquals(2, events.size());
+            assertFalse(events.get(1).isEmailEnabled());
+        } finally {
+            repository.removeListener(listener);
+            new SettingsRepository("other_" + TEST_USERNAME).removeListener(listener);
+        }
+    }
+    
+    @Test
+    public void testFailingListenerDoesNotStopSave() {
+        final List<NotificationSettings> events = new ArrayList<>();
+        SettingsRepository.SettingsListener failing = (username, settings) -> {
+            throw new IllegalStateException("dinleyici hatası");
+        };
+        SettingsRepository.SettingsListener recording = (username, settings) -> events.add(settings);
+        repository.addListener(failing);
+        repository.addListener(recording);
+        try {
+            NotificationSettings settings = repository.getSettings();
+            settings.setDefaultReminderMinutes(25);
+            repository.saveSettings(settings);
+            
+            // Hata veren dinleyici diğerlerini ve kaydı etkilememeli
+            assertEquals(1, events.size());
+            assertEquals(25, repository.getSettings().getDefaultReminderMinutes());
+        } finally {
+            repository.removeListener(failing);
+            repository.removeListener(recording);
+        }
+    }
+    
+    @Test
+    public void testDeletingUserDropsCachedSettings() {
+        NotificationSettings settings = new NotificationSettings();
+        settings.setDefaultReminderMinutes(120);
+        repository.saveSettings(settings);
+        assertEquals(120, repository.getSettings().getDefaultReminderMinutes());
+        
+        // Kullanıcı silinince ayar satırı da silinir; önbellek de temizlenmeli
+        userRepository.delete(TEST_USERNAME);
+        userRepository.addUser(TEST_USERNAME, "password");
+        assertEquals("Yeniden oluşturulan kullanıcı varsayılan ayarları görmeli",
+            30, repository.getSettings().getDefaultReminderMinutes());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.naz.taskmanager.repository;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class StatementCacheTest {
+    private Connection connection;
+    private StatementCache cache;
+
+    /**
+     * Bellek içi veritabanında iki satırlık bir tablo ve 2 statement'lık önbellek hazırlar
+     */
+    @Before
+    public void setUp() throws SQLException {
+        connection = StatementCache.wrap(DriverManager.getConnection("jdbc:sqlite::memory:"), 2);
+        cache = StatementCache.of(connection);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE Items (id INTEGER PRIMARY KEY, name TEXT)");
+            stmt.execute("INSERT INTO Items (id, name) VALUES (1, 'bir'), (2, 'iki')");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    public void testStatementIsReusedAfterClose() throws SQLException {
+        String sql = "SELECT name FROM Items WHERE id = ?";
+        PreparedStatement first;
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            first = stmt.unwrap(PreparedStatement.class);
+            stmt.setInt(1, 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals("bir", rs.getString(1));
+            }
+        }
+
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            assertSame("Aynı SQL için aynı statement kullanılmalı", first, stmt.unwrap(PreparedStatement.class));
+            stmt.setInt(1, 2);
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals("Önceki parametre temizlenmiş olmalı", "iki", rs.getString(1));
+            }
+        }
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testStatementInUseIsNotShared() throws SQLException {
+        String sql = "SELECT name FROM Items ORDER BY id";
+        try (PreparedStatement outer = connection.prepareStatement(sql);
+             PreparedStatement inner = connection.prepareStatement(sql)) {
+            assertNotSame("Kullanımdaki statement ikinci kez verilmemeli",
+                outer.unwrap(PreparedStatement.class), inner.unwrap(PreparedStatement.class));
+        }
+        assertEquals("Önbellekte SQL başına tek statement kalmalı", 1, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws SQLException {
+        PreparedStatement evicted;
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT 1")) {
+            evicted = stmt.unwrap(PreparedStatement.class);
+        }
+        connection.prepareStatement("SELECT 2").close();
+        connection.prepareStatement("SELECT 3").close();
+
+        assertEquals("Önbellek sınırı aşılmamalı", 2, cache.size());
+        assertTrue("Çıkarılan statement kapatılmalı", evicted.isClosed());
+    }
+
+    @Test
+    public void testClosedStatementRejectsCalls() throws SQLException {
+        PreparedStatement stmt = connection.prepareStatement("SELECT name FROM Items");
+        stmt.close();
+
+        assertTrue(stmt.isClosed());
+        try {
+            stmt.executeQuery();
+            fail("Kapatılan statement kullanılamamalı");
+        } catch (SQLException e) {
+            // Beklenen durum
+        }
+    }
+
+    @Test
+    public void testDisabledCacheReturnsPlainConnection() throws SQLException {
+        Connection plain = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try {
+            assertSame(plain, StatementCache.wrap(plain, 0));
+            assertNull(StatementCache.of(plain));
+        } finally {
+            plain.close();
+        }
+    }
+}
@@ -6,10 +6,13 @@ import com.naz.taskmanager.model.TaskmanagerItem;
 import org.junit.*;
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TaskRepositoryTest {
     private TaskRepository repository;
@@ -240,4 +243,255 @@ public class TaskRepositoryTest {
         assertNotNull("Kategori null olmamalı, varsayılan değer atanmalı", retrievedTask.getCategory());
         assertEquals("Kategori adı 'Uncategorized' olmalı", "Uncategorized", retrievedTask.getCategory().getName());
     }
-} 
\ No newline at end of file
+    
+    @Test
+    public void testGetAllIncludesCategoryNames() {
+        // Farklı kategorilerde görevler oluştur
+        TaskmanagerItem workTask = new TaskmanagerItem("Work Task", "Work Description", new Category("Join Work"));
+        TaskmanagerItem homeTask = new TaskmanagerItem("Home Task", "Home Description", new Category("Join Home"));
+        repository.save(workTask);
+        repository.save(homeTask);
+        
+        // Kategori adları görev listesiyle birlikte gelmeli
+        List<TaskmanagerItem> tasks = repository.getAll();
+        assertEquals("İki görev dönmeli", 2, tasks.size());
+        TaskmanagerItem retrievedWork = findById(tasks, workTask.getId());
+        TaskmanagerItem retrievedHome = findById(tasks, homeTask.getId());
+        assertNotNull("İş görevi listede olmalı", retrievedWork);
+        assertNotNull("Ev görevi listede olmalı", retrievedHome);
+        assertEquals("İş görevinin kategorisi eşleşmeli", "Join Work", retrievedWork.getCategory().getName());
+        assertEquals("Ev görevinin kategorisi eşleşmeli", "Join Home", retrievedHome.getCategory().getName());
+    }
+    
+    /**
+     * Listede ID'si verilen görevi bulur
+     */
+    private static TaskmanagerItem findById(List<TaskmanagerItem> tasks, String id) {
+        for (TaskmanagerItem task : tasks) {
+            if (task.getId().equals(id)) {
+                return task;
+            }
+        }
+        return null;
+    }
+    
+    @Test
+    public void testTasksWithoutCategoryShareInstance() throws Exception {
+        TaskmanagerItem first = new TaskmanagerItem("Kategorisiz 1", "Açıklama", new Category("Join Work"));
+        TaskmanagerItem second = new TaskmanagerItem("Kategorisiz 2", "Açıklama", new Category("Join Work"));
+        repository.save(first);
+        repository.save(second);
+        
+        // Kategori bağlantısını veritabanında kaldır
+        DatabaseConnection dbConnection = DatabaseConnection.getInstance(System.out);
+        java.sql.Connection connection = dbConnection.getConnection();
+        try (java.sql.PreparedStatement stmt = connection.prepareStatement(
+                "UPDATE Tasks SET category_id = NULL WHERE username = ?")) {
+            stmt.setString(1, TEST_USERNAME);
+            stmt.executeUpdate();
+        } finally {
+            dbConnection.releaseConnection();
+        }
+        
+        // Kategorisi olmayan satırlar tek bir ortak örneği paylaşmalı
+        List<TaskmanagerItem> tasks = repository.getAll();
+        assertEquals("İki görev dönmeli", 2, tasks.size());
+        assertEquals("Kategori adı Uncategorized olmalı", "Uncategorized", tasks.get(0).getCategory().getName());
+        assertSame("Kategori örneği paylaşılmalı", tasks.get(0).getCategory(), tasks.get(1).getCategory());
+    }
+    
+    @Test
+    public void testFindWithQuery() {
+        // Farklı öncelik ve durumlarda görevler oluştur
+        TaskmanagerItem highOpen = new TaskmanagerItem("Report draft", "Quarterly numbers", new Category("Query Work"));
+        highOpen.setPriority(Priority.HIGH);
+        TaskmanagerItem highDone = new TaskmanagerItem("Report final", "Send to team", new Category("Query Work"));
+        highDone.setPriority(Priority.HIGH);
+        highDone.setCompleted(true);
+        TaskmanagerItem lowOpen = new TaskmanagerItem("Groceries", "Buy milk", new Category("Query Home"));
+        lowOpen.setPriority(Priority.LOW);
+        repository.save(highOpen);
+        repository.save(highDone);
+        repository.save(lowOpen);
+        
+        // Öncelik ve tamamlanma durumu birlikte filtrelenmeli
+        List<TaskmanagerItem> result = repository.find(new TaskQuery().priority(Priority.HIGH).completed(false));
+        assertEquals("Sadece açık yüksek öncelikli görev dönmeli", 1, result.size());
+        assertEquals("Doğru görev dönmeli", highOpen.getId(), result.get(0).getId());
+        
+        // Kategori adı büyük/küçük harfe duyarsız eşleşmeli
+        result = repository.find(new TaskQuery().category(new Category("query work")));
+        assertEquals("İş kategorisinde iki görev olmalı", 2, result.size());
+        
+        // Metin araması ad ve açıklamada yapılmalı
+        result = repository.find(new TaskQuery().text("MILK"));
+        assertEquals("Açıklamada geçen metin bulunmalı", 1, result.size());
+        assertEquals("Doğru görev dönmeli", lowOpen.getId(), result.get(0).getId());
+    }
+    
+    @Test
+    public void testFindByDeadlineBounds() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.DAY_OF_MONTH, -1);
+        Date yesterday = calendar.getTime();
+        calendar.add(Calendar.DAY_OF_MONTH, 3);
+        Date inTwoDays = calendar.getTime();
+        
+        TaskmanagerItem overdue = new TaskmanagerItem("Overdue", "Late", new Category("Query Deadline"));
+        overdue.setDeadline(yesterday);
+        TaskmanagerItem upcoming = new TaskmanagerItem("Upcoming", "Soon", new Category("Query Deadline"));
+        upcoming.setDeadline(inTwoDays);
+        TaskmanagerItem noDeadline = new TaskmanagerItem("Someday", "No deadline", new Category("Query Deadline"));
+        repository.save(overdue);
+        repository.save(upcoming);
+        repository.save(noDeadline);
+        
+        Date now = new Date();
+        List<TaskmanagerItem> before = repository.find(new TaskQuery().deadlineBefore(now));
+        assertEquals("Sadece gecikmiş görev dönmeli", 1, before.size());
+        assertEquals("Doğru görev dönmeli", overdue.getId(), before.get(0).getId());
+        
+        List<TaskmanagerItem> after = repository.find(new TaskQuery().deadlineAfter(now));
+        assertEquals("Sadece yaklaşan görev dönmeli", 1, after.size());
+        assertEquals("Doğru görev dönmeli", upcoming.getId(), after.get(0).getId());
+    }
+    
+    @Test
+    public void testSaveAllReturnsIdsInOrder() {
+        TaskmanagerItem first = new TaskmanagerItem("Batch 1", "First", new Category("Batch Work"));
+        TaskmanagerItem second = new TaskmanagerItem("Batch 2", "Second", new Category("Batch Work"));
+        TaskmanagerItem third = new TaskmanagerItem("Batch 3", "Third", new Category("Batch Home"));
+        
+        List<String> ids = repository.saveAll(Arrays.asList(first, second, third));
+        
+        // ID'ler verilen sırayla dönmeli ve görevlere atanmalı
+        assertEquals("Üç ID dönmeli", 3, ids.size());
+        assertEquals("İlk ID eşleşmeli", first.getId(), ids.get(0));
+        assertEquals("İkinci ID eşleşmeli", second.getId(), ids.get(1));
+        assertEquals("Üçüncü ID eşleşmeli", third.getId(), ids.get(2));
+        
+        TaskmanagerItem retrieved = repository.getById(ids.get(2));
+        assertNotNull("Kaydedilen görev bulunmalı", retrieved);
+        assertEquals("Görev adı eşleşmeli", "Batch 3", retrieved.getName());
+        assertEquals("Kategori eşleşmeli", "Batch Home", retrieved.getCategory().getName());
+    }
+    
+    @Test
+    public void testUpdateAll() {
+        TaskmanagerItem first = new TaskmanagerItem("Batch A", "First", new Category("Batch Work"));
+        TaskmanagerItem second = new TaskmanagerItem("Batch B", "Second", new Category("Batch Work"));
+        repository.saveAll(Arrays.asList(first, second));
+        
+        first.setCompleted(true);
+        second.setName("Batch B Updated");
+        second.setCategory(new Category("Batch Home"));
+        repository.updateAll(Arrays.asList(first, second));
+        
+        // Tüm güncellemeler kaydedilmeli
+        assertTrue("İlk görev tamamlanmış olmalı", repository.getById(first.getId()).isCompleted());
+        TaskmanagerItem updated = repository.getById(second.getId());
+        assertEquals("Görev adı güncellenmeli", "Batch B Updated", updated.getName());
+        assertEquals("Kategori güncellenmeli", "Batch Home", updated.getCategory().getName());
+    }
+    
+    @Test
+    public void testSaveAllInsideCallerTransaction() throws Exception {
+        // Kategori önceden kaydedilmeli ki geri alma kategori önbelleğini etkilemesin
+        TaskmanagerItem existing = new TaskmanagerItem("Batch Existing", "Committed", new Category("Batch Tx"));
+        repository.save(existing);
+        
+        DatabaseConnection dbConnection = DatabaseConnection.getInstance(System.out);
+        java.sql.Connection connection = dbConnection.getConnection();
+        TaskmanagerItem first = new TaskmanagerItem("Batch Tx 1", "First", new Category("Batch Tx"));
+        TaskmanagerItem second = new TaskmanagerItem("Batch Tx 2", "Second", new Category("Batch Tx"));
+        try {
+            connection.setAutoCommit(false);
+            List<String> ids = repository.saveAll(Arrays.asList(first, second));
+            assertEquals("İki ID dönmeli", 2, ids.size());
+            
+            existing.setCompleted(true);
+            repository.updateAll(Arrays.asList(existing));
+            
+            // Çağıranın işlemi açıkken toplu yazma commit etmemeli
+            assertFalse("Otomatik commit kapalı kalmalı", connection.getAutoCommit());
+            connection.rollback();
+        } finally {
+            connection.setAutoCommit(true);
+            dbConnection.releaseConnection();
+        }
+        
+        // Geri alınan işlemdeki yazmalar kalıcı olmamalı
+        assertNull("Geri alınan görev bulunmamalı", repository.getById(first.getId()));
+        assertNull("Geri alınan görev bulunmamalı", repository.getById(second.getId()));
+        assertFalse("Geri alınan güncelleme kalıcı olmamalı", repository.getById(existing.getId()).isCompleted());
+    }
+    
+    @Test
+    public void testGetPage() {
+        List<String> ids = repository.saveAll(Arrays.asList(
+            new TaskmanagerItem("Page 1", "First", new Category("Page")),
+            new TaskmanagerItem("Page 2", "Second", new Category("Page")),
+            new TaskmanagerItem("Page 3", "Third", new Category("Page"))));
+        
+        // İlk sayfa en küçük ID'lerle başlamalı
+        List<TaskmanagerItem> firstPage = repository.getPage(null, 2);
+        assertEquals("İlk sayfada iki görev olmalı", 2, firstPage.size());
+        assertEquals("İlk görev eşleşmeli", ids.get(0), firstPage.get(0).getId());
+        assertEquals("İkinci görev eşleşmeli", ids.get(1), firstPage.get(1).getId());
+        
+        // Sonraki sayfa son ID'den devam etmeli
+        List<TaskmanagerItem> secondPage = repository.getPage(firstPage.get(1).getId(), 2);
+        assertEquals("İkinci sayfada bir görev olmalı", 1, secondPage.size());
+        assertEquals("Üçüncü görev eşleşmeli", ids.get(2), secondPage.get(0).getId());
+        
+        assertTrue("Son sayfadan sonra görev kalmamalı", repository.getPage(ids.get(2), 2).isEmpty());
+    }
+    
+    @Test
+    public void testSearch() {
+        // Tam metin indeksi bir göç ile eklenir, bekleyen göçleri uygula
+        DatabaseConnection.getInstance(System.out).initializeDatabase();
+        List<String> ids = repository.saveAll(Arrays.asList(
+            new TaskmanagerItem("Quarterly report", "Send the figures", new Category("Search")),
+            new TaskmanagerItem("Team meeting", "Discuss the quarterly report", new Category("Search")),
+            new TaskmanagerItem("Groceries", "Milk and bread", new Category("Search"))));
+        
+        // Önek eşleşmesi ve isimde geçen sonuç önce gelmeli
+        List<TaskmanagerItem> results = repository.search("quart rep", 10);
+        assertEquals("İki görev eşleşmeli", 2, results.size());
+        assertEquals("İsimde eşleşen görev önce gelmeli", ids.get(0), results.get(0).getId());
+        assertEquals(ids.get(1), results.get(1).getId());
+        
+        assertEquals("Limit uygulanmalı", 1, repository.search("quarterly", 1).size());
+        assertTrue("Boş arama sonuç vermemeli", repository.search("  ", 10).isEmpty());
+        
+        // Güncelleme ve silme indeksi tetikleyicilerle güncellemeli
+        TaskmanagerItem groceries = repository.getById(ids.get(2));
+        groceries.setName("Weekly shopping");
+        repository.update(groceries);
+        assertTrue("Eski isim bulunmamalı", repository.search("groceries", 10).isEmpty());
+        assertEquals("Yeni isim bulunmalı", 1, repository.search("shop", 10).size());
+        
+        repository.delete(ids.get(0));
+        assertEquals("Silinen görev bulunmamalı", 1, repository.search("quarterly", 10).size());
+    }
+    
+    @Test
+    public void testStream() {
+        List<String> ids = repository.saveAll(Arrays.asList(
+            new TaskmanagerItem("Stream 1", "First", new Category("Stream")),
+            new TaskmanagerItem("Stream 2", "Second", new Category("Stream"))));
+        
+        // Akış tüm görevleri ID sırasıyla vermeli
+        try (Stream<TaskmanagerItem> tasks = repository.stream()) {
+            List<String> streamedIds = tasks.map(TaskmanagerItem::getId).collect(Collectors.toList());
+            assertEquals("Akıştaki ID'ler eşleşmeli", ids, streamedIds);
+        }
+        
+        // Kısmen tüketilip kapatılan akıştan sonra repository çalışmaya devam etmeli
+        try (Stream<TaskmanagerItem> tasks = repository.stream()) {
+            assertEquals("İlk görev eşleşmeli", ids.get(0), tasks.findFirst().get().getId());
+        }
+        assertEquals("Görevler okunabilmeli", 2, repository.getAll().size());
+    }
+}
@@ -5,6 +5,9 @@ import org.junit.*;
 import static org.junit.Assert.*;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -58,7 +61,9 @@ public class UserRepositoryTest {
         // Kontrol et
         assertNotNull("Kaydedilen kullanıcı null olmamalı", retrievedUser);
         assertEquals("Kullanıcı adı eşleşmeli", TEST_USERNAME, retrievedUser.getUsername());
-        assertEquals("Şifre eşleşmeli", TEST_PASSWORD, retrievedUser.getPassword());
+        assertNotEquals("Şifre düz metin saklanmamalı", TEST_PASSWORD, retrievedUser.getPassword());
+        assertTrue("Saklanan özet şifreyle eşleşmeli",
+            PasswordHasher.getDefault().verify(TEST_PASSWORD, retrievedUser.getPassword()));
         assertEquals("Email eşleşmeli", TEST_EMAIL, retrievedUser.getEmail());
     }
     
@@ -82,7 +87,8 @@ public class UserRepositoryTest {
         // Kontrol et
         assertNotNull("Güncellenmiş kullanıcı null olmamalı", updatedUser);
         assertEquals("Kullanıcı adı değişmemeli", TEST_USERNAME, updatedUser.getUsername());
-        assertEquals("Şifre güncellenmiş olmalı", updatedPassword, updatedUser.getPassword());
+        assertTrue("Şifre güncellenmiş olmalı",
+            PasswordHasher.getDefault().verify(updatedPassword, updatedUser.getPassword()));
         assertEquals("Email güncellenmiş olmalı", updatedEmail, updatedUser.getEmail());
     }
     
@@ -102,7 +108,8 @@ public class UserRepositoryTest {
         // Kullanıcıyı al ve kontrol et
         User retrievedUser = repository.getById(TEST_USERNAME);
         assertNotNull("Kullanıcı null olmamalı", retrievedUser);
-        assertEquals("Şifre güncellenmiş olmalı", updatedPassword, retrievedUser.getPassword());
+        assertTrue("Şifre güncellenmiş olmalı",
+            PasswordHasher.getDefault().verify(updatedPassword, retrievedUser.getPassword()));
         assertEquals("Email güncellenmiş olmalı", updatedEmail, retrievedUser.getEmail());
     }
     
@@ -235,6 +242,138 @@ public class UserRepositoryTest {
         repository.delete(validateUsername);
     }
     
+    @Test
+    public void testUpdateKeepsStoredHash() {
+        repository.save(new User(TEST_USERNAME, TEST_PASSWORD, TEST_EMAIL));
+
+        // Okunan kullanıcı özeti taşır; yalnızca e-posta değişince özet yeniden özetlenmemeli
+        User user = repository.getById(TEST_USERNAME);
+        String storedHash = user.getPassword();
+        user.setEmail("other@example.com");
+        repository.update(user);
+
+        assertEquals("Özet değişmemeli", storedHash, repository.getById(TEST_USERNAME).getPassword());
+        assertNotNull(repository.authenticateUser(TEST_USERNAME, TEST_PASSWORD));
+    }
+
+    @Test
+    public void testPlainTextPasswordIsRehashedOnLogin() throws Exception {
+        repository.save(new User(TEST_USERNAME, TEST_PASSWORD, TEST_EMAIL));
+
+        // Özetleme öncesinden kalan düz metin şifreyi taklit et
+        Connection connection = DatabaseConnection.getInstance(testOut).getConnection();
+        try (PreparedStatement stmt = connection.prepareStatement("UPDATE Users SET password = ? WHERE username = ?")) {
+            stmt.setString(1, TEST_PASSWORD);
+            stmt.setString(2, TEST_USERNAME);
+            stmt.executeUpdate();
+        } finally {
+            DatabaseConnection.getInstance(testOut).releaseConnection();
+        }
+
+        assertFalse("Yanlış şifre reddedilmeli", repository.validateUser(TEST_USERNAME, "wrong_password"));
+        assertEquals("Başarısız giriş şifreyi değiştirmemeli", TEST_PASSWORD, repository.getById(TEST_USERNAME).getPassword());
+
+        assertTrue("Eski düz metin şifreyle giriş yapılabilmeli", repository.validateUser(TEST_USERNAME, TEST_PASSWORD));
+        String stored = repository.getById(TEST_USERNAME).getPassword();
+        assertTrue("Giriş sonrası şifre özetlenmeli", PasswordHasher.isHash(stored));
+        assertNotNull(repository.authenticateUser(TEST_USERNAME, TEST_PASSWORD));
+    }
+
+    @Test
+    public void testLoginMetricsCountAttempts() {
+        repository.save(new User(TEST_USERNAME, TEST_PASSWORD, TEST_EMAIL));
+        LoginMetrics metrics = UserRepository.getLoginMetrics();
+        long successes = metrics.getSuccesses();
+        long failures = metrics.getFailures();
+        long recorded = sum(metrics.getBucketCounts());
+
+        repository.validateUser(TEST_USERNAME, TEST_PASSWORD);
+        repository.authenticateUser(TEST_USERNAME, TEST_PASSWORD);
+        repository.validateUser(TEST_USERNAME, "wrong_password");
+
+        assertEquals(successes + 2, metrics.getSuccesses());
+        assertEquals(failures + 1, metrics.getFailures());
+        assertEquals("Her giriş histogramda yer almalı", recorded + 3, sum(metrics.getBucketCounts()));
+    }
+
+    @Test
+    public void testHasherUsesConfiguredIterations() {
+        // Özet maliyeti derleme zamanı sabitinden değil ayarlardan gelmeli
+        int iterations = config.AppConfig.getInstance().getPasswordHashIterations();
+        assertEquals(iterations, PasswordHasher.getDefault().getIterations());
+        assertTrue(PasswordHasher.getDefault().hash(TEST_PASSWORD).startsWith("pbkdf2-sha256$" + iterations + "$"));
+    }
+
+    @Test
+    public void testSaveIfAbsent() {
+        assertTrue("Yeni kullanıcı eklenmeli",
+            repository.saveIfAbsent(new User(TEST_USERNAME, TEST_PASSWORD, TEST_EMAIL)));
+        assertFalse("Var olan kullanıcı adı reddedilmeli",
+            repository.saveIfAbsent(new User(TEST_USERNAME, "other_password", "other@example.com")));
+
+        // İlk kayıt değişmemeli
+        User stored = repository.getById(TEST_USERNAME);
+        assertEquals(TEST_EMAIL, stored.getEmail());
+        assertNotNull(repository.authenticateUser(TEST_USERNAME, TEST_PASSWORD));
+    }
+
+    @Test
+    public void testSaveAllUpsertsAcrossBatches() {
+        // Aynı özeti kullanarak yüzlerce kullanıcıyı hızlıca içe aktar
+        String hash = PasswordHasher.getDefault().hash(TEST_PASSWORD);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i <= UserRepository.IMPORT_BATCH_SIZE; i++) {
+            users.add(new User(TEST_USERNAME + "_bulk" + i, hash, "bulk" + i + "@example.com"));
+        }
+        repository.save(new User(TEST_USERNAME + "_bulk0", "old_password", "old@example.com"));
+
+        try {
+            List<String> usernames = repository.saveAll(users);
+            assertEquals(users.size(), usernames.size());
+            assertEquals(TEST_USERNAME + "_bulk0", usernames.get(0));
+
+            User replaced = repository.getById(TEST_USERNAME + "_bulk0");
+            assertEquals("Var olan kullanıcı güncellenmeli", "bulk0@example.com", replaced.getEmail());
+            assertNotNull("Son toplu işteki kullanıcı kaydedilmeli",
+                repository.authenticateUser(TEST_USERNAME + "_bulk" + UserRepository.IMPORT_BATCH_SIZE, TEST_PASSWORD));
+        } finally {
+            for (User user : users) {
+                repository.delete(user.getUsername());
+            }
+        }
+    }
+
+    @Test
+    public void testSaveAllInsideCallerTransaction() throws Exception {
+        String username = TEST_USERNAME + "_tx";
+        DatabaseConnection dbConnection = DatabaseConnection.getInstance(testOut);
+        Connection connection = dbConnection.getConnection();
+        try {
+            connection.setAutoCommit(false);
+            List<String> usernames = repository.saveAll(
+                java.util.Collections.singletonList(new User(username, TEST_PASSWORD, TEST_EMAIL)));
+            assertEquals("Kullanıcı adı dönmeli", 1, usernames.size());
+            
+            // Çağıranın işlemi açıkken toplu kayıt commit etmemeli
+            assertFalse("Otomatik commit kapalı kalmalı", connection.getAutoCommit());
+            connection.rollback();
+        } finally {
+            connection.setAutoCommit(true);
+            dbConnection.releaseConnection();
+        }
+        
+        // Geri alınan işlemdeki kullanıcı kalıcı olmamalı
+        assertFalse("Geri alınan kullanıcı bulunmamalı", repository.userExists(username));
+    }
+
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+    
     @Test(expected = RuntimeException.class)
     public void testUpdateNonexistentUser() {
         // Olmayan bir kullanıcıyı güncellemeye çalış
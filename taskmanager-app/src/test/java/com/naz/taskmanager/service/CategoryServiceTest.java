@@ -1,27 +1,43 @@
 package com.naz.taskmanager.service;
 
 import com.naz.taskmanager.model.Category;
+import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.repository.DatabaseConnection;
+import com.naz.taskmanager.repository.TaskRepository;
+import com.naz.taskmanager.repository.UserRepository;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import java.util.List;
+import java.util.UUID;
 
 public class CategoryServiceTest {
     
     private CategoryService categoryService;
     private Category testCategory;
+    private String testName;
     
     @Before
     public void setUp() {
+        // Kategoriler veritabanında tutulur; açıklama ve renk sütunları bir göç ile eklenir
+        DatabaseConnection.getInstance(System.out).initializeDatabase();
         categoryService = new CategoryService();
-        testCategory = new Category("Test Category");
+        testName = "Test Category " + UUID.randomUUID().toString().substring(0, 8);
+        testCategory = new Category(testName);
+    }
+    
+    @After
+    public void tearDown() {
+        // Testin eklediği kategoriyi temizle
+        categoryService.deleteCategory(testCategory);
     }
     
     @Test
     public void testConstructor() {
         List<Category> categories = categoryService.getAllCategories();
         assertNotNull(categories);
-        assertEquals(4, categories.size()); // 4 varsayılan kategori
+        assertTrue(categories.size() >= 4); // 4 varsayılan kategori ve görevlerin eklediği kategoriler
         
         // Varsayılan kategorilerin varlığını kontrol et
         assertTrue(containsCategoryWithName(categories, "Work"));
@@ -35,7 +51,7 @@ public class CategoryServiceTest {
         int initialSize = categoryService.getAllCategories().size();
         categoryService.addCategory(testCategory);
         assertEquals(initialSize + 1, categoryService.getAllCategories().size());
-        assertTrue(containsCategoryWithName(categoryService.getAllCategories(), "Test Category"));
+        assertTrue(containsCategoryWithName(categoryService.getAllCategories(), testName));
     }
     
     @Test
@@ -49,10 +65,13 @@ public class CategoryServiceTest {
     @Test
     public void testUpdateCategory() {
         categoryService.addCategory(testCategory);
-        testCategory.setName("Updated Category");
+        testCategory.setName("Updated " + testName);
         categoryService.updateCategory(testCategory);
-        assertTrue(containsCategoryWithName(categoryService.getAllCategories(), "Updated Category"));
-        assertFalse(containsCategoryWithName(categoryService.getAllCategories(), "Test Category"));
+        assertTrue(containsCategoryWithName(categoryService.getAllCategories(), "Updated " + testName));
+        assertFalse(containsCategoryWithName(categoryService.getAllCategories(), testName));
+        assertSame("Yeni isimle aynı nesne bulunmalı",
+            testCategory, categoryService.findCategoryByName("updated " + testName));
+        assertNull(categoryService.findCategoryByName(testName));
     }
     
     @Test
@@ -61,7 +80,41 @@ public class CategoryServiceTest {
         int sizeAfterAdd = categoryService.getAllCategories().size();
         categoryService.deleteCategory(testCategory);
         assertEquals(sizeAfterAdd - 1, categoryService.getAllCategories().size());
-        assertFalse(containsCategoryWithName(categoryService.getAllCategories(), "Test Category"));
+        assertFalse(containsCategoryWithName(categoryService.getAllCategories(), testName));
+    }
+    
+    @Test
+    public void testCategoriesAreInterned() {
+        Category created = categoryService.getOrCreateCategory(testName);
+        assertNotNull(created);
+        testCategory = created;
+        
+        assertSame("İsim büyük/küçük harf duyarsız olarak aynı nesneyi vermeli",
+            created, categoryService.findCategoryByName(testName.toUpperCase()));
+        assertSame(created, categoryService.getOrCreateCategory(testName.toLowerCase()));
+        assertTrue("Liste paylaşılan nesneyi içermeli", categoryService.getAllCategories().contains(created));
+    }
+    
+    @Test
+    public void testTaskRowsShareCategoryInstance() {
+        String username = "category_service_" + UUID.randomUUID().toString().substring(0, 8);
+        UserRepository userRepository = new UserRepository(System.out);
+        userRepository.addUser(username, "password");
+        try {
+            TaskRepository taskRepository = new TaskRepository(username);
+            taskRepository.save(new TaskmanagerItem("Görev 1", "", new Category(testName)));
+            taskRepository.save(new TaskmanagerItem("Görev 2", "", new Category(testName)));
+            
+            List<TaskmanagerItem> tasks = taskRepository.getAll();
+            assertEquals(2, tasks.size());
+            assertSame("Aynı kategorideki görevler aynı nesneyi paylaşmalı",
+                tasks.get(0).getCategory(), tasks.get(1).getCategory());
+            assertSame(tasks.get(0).getCategory(), categoryService.findCategoryByName(testName));
+            testCategory = tasks.get(0).getCategory();
+        } finally {
+            // Kullanıcı silinince görevleri de silinir
+            userRepository.delete(username);
+        }
     }
     
     // Yardımcı metod
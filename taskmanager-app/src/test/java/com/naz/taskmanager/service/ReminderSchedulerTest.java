@@ -0,0 +1,177 @@
+package com.naz.taskmanager.service;
+
+import com.naz.taskmanager.model.Category;
+import com.naz.taskmanager.model.NotificationSettings;
+import com.naz.taskmanager.model.Reminder;
+import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.repository.SettingsRepository;
+import com.naz.taskmanager.repository.UserRepository;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ReminderSchedulerTest {
+    private static final String TEST_USERNAME = "scheduler_test_" + UUID.randomUUID().toString().substring(0, 8);
+    private UserRepository userRepository;
+    private TaskService taskService;
+    private ReminderService reminderService;
+    private TaskmanagerItem testTask;
+    
+    @Before
+    public void setUp() {
+        userRepository = new UserRepository(System.out);
+        if (!userRepository.userExists(TEST_USERNAME)) {
+            userRepository.addUser(TEST_USERNAME, "password");
+        }
+        taskService = new TaskService(TEST_USERNAME);
+        reminderService = new ReminderService(TEST_USERNAME);
+        testTask = taskService.createTask("Scheduler Task", "Scheduler Description", new Category("Scheduler"));
+    }
+    
+    @After
+    public void tearDown() {
+        reminderService.stopScheduler();
+        try {
+            for (Reminder reminder : reminderService.getAllReminders()) {
+                reminderService.deleteReminder(reminder.getId());
+            }
+            for (TaskmanagerItem task : taskService.getAllTasks()) {
+                taskService.deleteTask(task.getId());
+            }
+            userRepository.delete(TEST_USERNAME);
+        } catch (Exception e) {
+            // Silme hatası olabilir, sorun değil
+        }
+    }
+    
+    @Test
+    public void testReminderFiresWhenDue() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        List<Long> firedAt = new CopyOnWriteArrayList<>();
+        reminderService.addObserver((reminder, taskId) -> {
+            firedAt.add(System.currentTimeMillis());
+            fired.countDown();
+        });
+        reminderService.startScheduler();
+        
+        // Zamanlayıcı çalışırken oluşturulan hatırlatıcı kuyruğa eklenmeli
+        Date dueTime = new Date(System.currentTimeMillis() + 200);
+        Reminder reminder = reminderService.createReminder(testTask.getId(), dueTime);
+        
+        assertTrue("Hatırlatıcı zamanında tetiklenmeli", fired.await(5, TimeUnit.SECONDS));
+        assertFalse("Hatırlatıcı zamanından önce tetiklenmemeli", firedAt.get(0) < dueTime.getTime());
+        
+        // Tetiklenen hatırlatıcı veritabanında işaretlenmeli
+        Thread.sleep(100);
+        assertEquals("Hatırlatıcı bir kez tetiklenmeli", 1, firedAt.size());
+        boolean triggered = false;
+        for (Reminder saved : reminderService.getAllReminders()) {
+            if (saved.getId().equals(reminder.getId())) {
+                triggered = saved.isTriggered();
+            }
+        }
+        assertTrue("Hatırlatıcı tetiklenmiş olarak kaydedilmeli", triggered);
+    }
+    
+    @Test
+    public void testDeletedReminderDoesNotFire() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        reminderService.addObserver((reminder, taskId) -> fired.countDown());
+        reminderService.startScheduler();
+        
+        Reminder reminder = reminderService.createReminder(testTask.getId(),
+            new Date(System.currentTimeMillis() + 200));
+        reminderService.deleteReminder(reminder.getId());
+        
+        // Silinen hatırlatıcı tetiklenmemeli
+        assertFalse("Silinen hatırlatıcı tetiklenmemeli", fired.await(600, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    public void testRescheduledReminderFiresOnceAtNewTime() throws InterruptedException {
+        List<Long> firedAt = new CopyOnWriteArrayList<>();
+        reminderService.addObserver((reminder, taskId) -> firedAt.add(System.currentTimeMillis()));
+        ReminderScheduler scheduler = new ReminderScheduler(reminderService);
+        scheduler.start();
+        try {
+            Reminder reminder = reminderService.createReminder(testTask.getId(),
+                new Date(System.currentTimeMillis() + 200));
+            scheduler.schedule(reminder);
+            scheduler.cancel(reminder.getId());
+            
+            // İptal edilip yeniden planlanan hatırlatıcı eski zamanda değil yeni zamanda çalmalı
+            Date newTime = new Date(System.currentTimeMillis() + 600);
+            reminder.setReminderTime(newTime);
+            scheduler.schedule(reminder);
+            assertEquals(1, scheduler.getPendingCount());
+            
+            Thread.sleep(1000);
+            assertEquals("Hatırlatıcı bir kez tetiklenmeli", 1, firedAt.size());
+            assertFalse("Eski zamanda tetiklenmemeli", firedAt.get(0) < newTime.getTime());
+        } finally {
+            scheduler.stop();
+        }
+    }
+    
+    @Test
+    public void testDeletedTaskRemindersDoNotFire() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        reminderService.addObserver((reminder, taskId) -> fired.countDown());
+        taskService.setReminderService(reminderService);
+        reminderService.startScheduler();
+        
+        reminderService.createReminder(testTask.getId(), new Date(System.currentTimeMillis() + 200));
+        taskService.deleteTask(testTask.getId());
+        
+        // Silinen görevin hatırlatıcıları kuyruktan çıkarılmalı
+        assertFalse("Silinen görevin hatırlatıcısı tetiklenmemeli", fired.await(600, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    public void testAlreadyTriggeredReminderIsNotAnnouncedAgain() {
+        List<Reminder> announced = new CopyOnWriteArrayList<>();
+        reminderService.addObserver((reminder, taskId) -> announced.add(reminder));
+        Reminder reminder = reminderService.createReminder(testTask.getId(), new Date());
+        
+        reminderService.fireReminder(reminder);
+        reminderService.fireReminder(reminder);
+        assertEquals("Güncellenen satır yoksa gözlemciler uyarılmamalı", 1, announced.size());
+    }
+    
+    @Test
+    public void testDisabledAppNotificationsAreRespected() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        reminderService.addObserver((reminder, taskId) -> fired.countDown());
+        reminderService.startScheduler();
+        
+        // Zamanlayıcı çalışırken kapatılan bildirimler dikkate alınmalı
+        SettingsRepository settingsRepository = new SettingsRepository(TEST_USERNAME);
+        NotificationSettings settings = settingsRepository.getSettings();
+        settings.setAppNotificationsEnabled(false);
+        settingsRepository.saveSettings(settings);
+        
+        Reminder reminder = reminderService.createReminder(testTask.getId(),
+            new Date(System.currentTimeMillis() + 100));
+        assertFalse("Bildirimler kapalıyken uyarı gösterilmemeli", fired.await(600, TimeUnit.MILLISECONDS));
+        for (Reminder saved : reminderService.getAllReminders()) {
+            if (saved.getId().equals(reminder.getId())) {
+                assertTrue("Hatırlatıcı yine de tetiklenmiş sayılmalı", saved.isTriggered());
+            }
+        }
+    }
+    
+    @Test
+    public void testStopScheduler() {
+        reminderService.startScheduler();
+        assertTrue("Zamanlayıcı çalışıyor olmalı", reminderService.isSchedulerRunning());
+        
+        reminderService.stopScheduler();
+        assertFalse("Zamanlayıcı durmuş olmalı", reminderService.isSchedulerRunning());
+    }
+}
@@ -0,0 +1,101 @@
+package com.naz.taskmanager.service;
+
+import com.naz.taskmanager.model.Category;
+import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.repository.UserRepository;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+public class TaskCacheTest {
+    private static final String TEST_USERNAME = "cache_test_" + UUID.randomUUID().toString().substring(0, 8);
+
+    private TaskmanagerItem task(String id) {
+        TaskmanagerItem task = new TaskmanagerItem("Görev " + id, "Açıklama", new Category("Work"));
+        task.setId(id);
+        return task;
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        TaskCache cache = new TaskCache(2, 60000);
+        cache.put(task("1"));
+        cache.put(task("2"));
+        assertNotNull(cache.get("1"));
+        cache.put(task("3"));
+
+        assertEquals("Önbellek sınırı aşılmamalı", 2, cache.size());
+        assertNull("En eski kullanılan görev çıkarılmalı", cache.get("2"));
+        assertNotNull(cache.get("1"));
+        assertNotNull(cache.get("3"));
+        assertEquals(3, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testEntriesExpire() throws InterruptedException {
+        TaskCache cache = new TaskCache(10, 50);
+        cache.putAll(Arrays.asList(task("1"), task("2")));
+        assertNotNull(cache.getAll());
+
+        Thread.sleep(80);
+        assertNull("Süresi dolan görev verilmemeli", cache.get("1"));
+        assertNull("Süresi dolan liste verilmemeli", cache.getAll());
+    }
+
+    @Test
+    public void testListLargerThanBoundIsNotKept() {
+        TaskCache cache = new TaskCache(2, 60000);
+        cache.putAll(Arrays.asList(task("1"), task("2"), task("3")));
+
+        // Sınırdan uzun liste önbellekte tutulmamalı
+        assertNull("Sınırı aşan liste verilmemeli", cache.getAll());
+        assertEquals("Önbellek sınırı aşılmamalı", 2, cache.size());
+
+        cache.putAll(Arrays.asList(task("1"), task("2")));
+        assertEquals("Sınır içindeki liste tutulmalı", 2, cache.getAll().size());
+    }
+
+    @Test
+    public void testWritesInvalidateEntries() {
+        TaskCache cache = new TaskCache(10, 60000);
+        cache.putAll(Arrays.asList(task("1"), task("2")));
+
+        TaskmanagerItem changed = task("1");
+        cache.updated(changed);
+        assertSame("Güncellenen görev önbellekte yer almalı", changed, cache.get("1"));
+        assertNull("Güncelleme tüm listeyi geçersiz kılmalı", cache.getAll());
+
+        cache.putAll(Arrays.asList(changed, task("2")));
+        cache.deleted("2");
+        assertNull("Silinen görev önbellekten çıkmalı", cache.get("2"));
+        assertNull("Silme tüm listeyi geçersiz kılmalı", cache.getAll());
+    }
+
+    @Test
+    public void testTaskServiceReadsThroughCache() {
+        UserRepository userRepository = new UserRepository(System.out);
+        userRepository.addUser(TEST_USERNAME, "password");
+        TaskService taskService = new TaskService(TEST_USERNAME, false);
+        try {
+            TaskmanagerItem task = taskService.createTask("Önbellek", "Açıklama", new Category("Work"));
+
+            long misses = taskService.getCacheMissCount();
+            assertSame("Oluşturulan görev önbellekten gelmeli", task, taskService.getTask(task.getId()));
+            assertEquals(misses, taskService.getCacheMissCount());
+
+            assertEquals(1, taskService.getAllTasks().size());
+            long hits = taskService.getCacheHitCount();
+            assertEquals(1, taskService.getAllTasks().size());
+            assertEquals("İkinci liste okuması önbellekten gelmeli", hits + 1, taskService.getCacheHitCount());
+
+            taskService.deleteTask(task.getId());
+            assertNull(taskService.getTask(task.getId()));
+            assertTrue(taskService.getAllTasks().isEmpty());
+        } finally {
+            userRepository.delete(TEST_USERNAME);
+        }
+    }
+}
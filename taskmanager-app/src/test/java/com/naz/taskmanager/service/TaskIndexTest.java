@@ -0,0 +1,99 @@
+package com.naz.taskmanager.service;
+
+import com.naz.taskmanager.model.Category;
+import com.naz.taskmanager.model.Priority;
+import com.naz.taskmanager.model.TaskmanagerItem;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TaskIndexTest {
+    private TaskIndex index;
+    private TaskmanagerItem report;
+    private TaskmanagerItem meeting;
+    private TaskmanagerItem shopping;
+
+    private TaskmanagerItem task(String id, String category, Priority priority, long deadlineOffset) {
+        TaskmanagerItem task = new TaskmanagerItem("Görev " + id, "Açıklama", new Category(category));
+        task.setId(id);
+        task.setPriority(priority);
+        task.setDeadline(new Date(System.currentTimeMillis() + deadlineOffset));
+        return task;
+    }
+
+    @Before
+    public void setUp() {
+        report = task("10", "Work", Priority.HIGH, -2000);
+        meeting = task("2", "work", Priority.LOW, -1000);
+        shopping = task("3", "Personal", Priority.HIGH, 60000);
+
+        Map<String, List<String>> projects = new HashMap<>();
+        projects.put("7", Arrays.asList("10", "3"));
+
+        index = new TaskIndex();
+        index.load(Arrays.asList(report, meeting, shopping), projects);
+    }
+
+    @Test
+    public void testGroupingQueries() {
+        assertEquals("Kategori büyük/küçük harf duyarsız olmalı, ID sırasıyla",
+            Arrays.asList(meeting, report), index.getByCategory(new Category("WORK")));
+        assertEquals(Arrays.asList(shopping, report), index.getByPriority(Priority.HIGH));
+        assertTrue(index.getByPriority(Priority.MEDIUM).isEmpty());
+        assertEquals(Arrays.asList(shopping, report), index.getByProject("7", true));
+        assertEquals("Süresi geçmiş görevler son tarihe göre sıralanmalı",
+            Arrays.asList(report, meeting), index.getOverdue(new Date()));
+    }
+
+    @Test
+    public void testChangedTaskMovesBuckets() {
+        report.setPriority(Priority.LOW);
+        report.setCategory(new Category("Personal"));
+        report.setCompleted(true);
+        index.put(report);
+
+        assertEquals(Collections.singletonList(shopping), index.getByPriority(Priority.HIGH));
+        assertEquals(Arrays.asList(meeting, report), index.getByPriority(Priority.LOW));
+        assertEquals(Collections.singletonList(meeting), index.getByCategory(new Category("Work")));
+        assertEquals("Tamamlanan görev hariç tutulmalı",
+            Collections.singletonList(shopping), index.getByProject("7", false));
+        assertEquals(Collections.singletonList(meeting), index.getOverdue(new Date()));
+    }
+
+    @Test
+    public void testRemove() {
+        index.remove("10");
+
+        assertEquals(Collections.singletonList(shopping), index.getByPriority(Priority.HIGH));
+        assertEquals(Collections.singletonList(shopping), index.getByProject("7", true));
+        assertEquals(Collections.singletonList(meeting), index.getOverdue(new Date()));
+    }
+
+    @Test
+    public void testPendingByDeadlineRange() {
+        long now = System.currentTimeMillis();
+
+        assertEquals("Aralık son tarih sırasıyla dönmeli", Arrays.asList(report, meeting, shopping),
+            index.getPendingByDeadline(now - 10000, true, now + 120000));
+        assertEquals("Üst sınır hariç tutulmalı", Collections.singletonList(report),
+            index.getPendingByDeadline(now - 10000, true, meeting.getDeadline().getTime()));
+        assertEquals("Alt sınır istenirse hariç tutulmalı", Collections.singletonList(shopping),
+            index.getPendingByDeadline(meeting.getDeadline().getTime(), false, now + 120000));
+        assertTrue(index.getPendingByDeadline(now, true, now - 1).isEmpty());
+    }
+
+    @Test
+    public void testPutBeforeLoadIsIgnored() {
+        TaskIndex empty = new TaskIndex();
+        empty.put(report);
+
+        assertFalse(empty.isLoaded());
+        assertTrue("Yüklenmemiş indeks görev tutmamalı", empty.getByPriority(Priority.HIGH).isEmpty());
+    }
+}
@@ -0,0 +1,186 @@
+package com.naz.taskmanager.service;
+
+import com.naz.taskmanager.model.BaseItem;
+import com.naz.taskmanager.model.Category;
+import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.repository.TaskRepository;
+import com.naz.taskmanager.repository.UserRepository;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class TaskWriteQueueTest {
+    private static final String TEST_USERNAME = "writer_test_" + UUID.randomUUID().toString().substring(0, 8);
+    private UserRepository userRepository;
+    private TaskRepository taskRepository;
+    private TaskService taskService;
+
+    @Before
+    public void setUp() {
+        userRepository = new UserRepository(System.out);
+        if (!userRepository.userExists(TEST_USERNAME)) {
+            userRepository.addUser(TEST_USERNAME, "password");
+        }
+        taskRepository = new TaskRepository(TEST_USERNAME);
+        taskService = new TaskService(TEST_USERNAME, true);
+    }
+
+    @After
+    public void tearDown() {
+        taskService.close();
+        try {
+            for (TaskmanagerItem task : taskRepository.getAll()) {
+                taskRepository.delete(task.getId());
+            }
+            userRepository.delete(TEST_USERNAME);
+        } catch (Exception e) {
+            // Silme hatası olabilir, sorun değil
+        }
+    }
+
+    @Test
+    public void testUpdatesAreCoalescedAndFlushed() {
+        TaskmanagerItem task = taskService.createTask("Kuyruk", "Açıklama", new Category("Work"));
+
+        task.setName("Birinci");
+        taskService.updateTask(task);
+        task.setName("İkinci");
+        taskService.updateTask(task);
+        taskService.markTaskCompleted(task.getId());
+
+        // Bekleyen değişiklik servisten okunabilmeli
+        assertTrue("Görev tamamlanmış görünmeli", taskService.getTask(task.getId()).isCompleted());
+
+        taskService.flush();
+        TaskmanagerItem saved = taskRepository.getById(task.getId());
+        assertEquals("Son durum yazılmalı", "İkinci", saved.getName());
+        assertTrue("Tamamlanma durumu yazılmalı", saved.isCompleted());
+    }
+
+    @Test
+    public void testDeleteDropsPendingUpdate() {
+        TaskmanagerItem task = taskService.createTask("Silinecek", "Açıklama", new Category("Work"));
+
+        task.setName("Güncellendi");
+        taskService.updateTask(task);
+        taskService.deleteTask(task.getId());
+        assertNull("Silinmeyi bekleyen görev okunmamalı", taskService.getTask(task.getId()));
+
+        // Liste okumaları bekleyen değişiklikleri önce yazmalı
+        assertTrue("Görev listeden kalkmalı", taskService.getAllTasks().isEmpty());
+        assertNull(taskRepository.getById(task.getId()));
+    }
+
+    @Test
+    public void testChangesAreWrittenWithoutFlush() throws InterruptedException {
+        TaskmanagerItem task = taskService.createTask("Zamanlı", "Açıklama", new Category("Work"));
+        task.setName("Arka planda");
+        taskService.updateTask(task);
+
+        // Yazıcı iş parçacığı bekleme süresi dolunca kendiliğinden yazmalı
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!"Arka planda".equals(taskRepository.getById(task.getId()).getName())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals("Arka planda", taskRepository.getById(task.getId()).getName());
+    }
+
+    @Test
+    public void testCloseWritesPendingChangesAndFallsBackToSync() {
+        TaskmanagerItem task = taskService.createTask("Kapat", "Açıklama", new Category("Work"));
+        task.setName("Kapanmadan önce");
+        taskService.updateTask(task);
+
+        taskService.close();
+        assertEquals("Kapatınca bekleyenler yazılmalı", "Kapanmadan önce",
+            taskRepository.getById(task.getId()).getName());
+
+        task.setName("Kapandıktan sonra");
+        taskService.updateTask(task);
+        assertEquals("Kapandıktan sonra doğrudan yazılmalı", "Kapandıktan sonra",
+            taskRepository.getById(task.getId()).getName());
+    }
+
+    @Test
+    public void testFailedChangeIsDroppedFromCache() throws Exception {
+        TaskmanagerItem bad = taskService.createTask("Bozuk", "Açıklama", new Category("Work"));
+        TaskmanagerItem good = taskService.createTask("Sağlam", "Açıklama", new Category("Work"));
+
+        // İsimsiz görev NOT NULL kısıtına takılır, diğer değişiklik yine yazılmalı
+        Field name = BaseItem.class.getDeclaredField("name");
+        name.setAccessible(true);
+        name.set(bad, null);
+        taskService.updateTask(bad);
+        good.setName("Yazıldı");
+        taskService.updateTask(good);
+        taskService.flush();
+
+        assertEquals("Yazıldı", taskRepository.getById(good.getId()).getName());
+        assertEquals("Yazılamayan değişiklik önbellekte kalmamalı", "Bozuk",
+            taskService.getTask(bad.getId()).getName());
+    }
+
+    @Test
+    public void testChangesStayVisibleWhileBeingWritten() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TaskRepository slowRepository = new TaskRepository(TEST_USERNAME) {
+            @Override
+            public boolean applyChanges(Collection<TaskmanagerItem> updates, Collection<String> deletedIds) {
+                writing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.applyChanges(updates, deletedIds);
+            }
+        };
+        TaskmanagerItem updated = new TaskmanagerItem("Yazılıyor", "Açıklama", new Category("Work"));
+        TaskmanagerItem deleted = new TaskmanagerItem("Siliniyor", "Açıklama", new Category("Work"));
+        taskRepository.save(updated);
+        taskRepository.save(deleted);
+
+        TaskWriteQueue queue = new TaskWriteQueue(slowRepository, 2, 10000, () -> { });
+        queue.start();
+        try {
+            updated.setName("Yeni ad");
+            queue.update(updated);
+            queue.delete(deleted.getId());
+            assertTrue("Yazma başlamalı", writing.await(5, TimeUnit.SECONDS));
+
+            // Yazılmakta olan değişiklikler commit bitene kadar görünmeli
+            assertEquals("Bekleyen sayısı sıfır olmalı", 0, queue.getPendingCount());
+            assertSame("Yazılan güncelleme okunmalı", updated, queue.getPendingUpdate(updated.getId()));
+            assertTrue("Yazılan silme görünmeli", queue.isPendingDelete(deleted.getId()));
+
+            release.countDown();
+            queue.flush();
+            assertNull("Yazıldıktan sonra bekleyen güncelleme kalmamalı", queue.getPendingUpdate(updated.getId()));
+            assertFalse("Yazıldıktan sonra bekleyen silme kalmamalı", queue.isPendingDelete(deleted.getId()));
+            assertEquals("Yeni ad", taskRepository.getById(updated.getId()).getName());
+        } finally {
+            release.countDown();
+            queue.close();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testIndexLoadDoesNotDeadlockOnFailedWrite() throws Exception {
+        TaskmanagerItem bad = taskService.createTask("Bozuk", "Açıklama", new Category("Work"));
+        Field name = BaseItem.class.getDeclaredField("name");
+        name.setAccessible(true);
+        name.set(bad, null);
+        taskService.updateTask(bad);
+
+        // İndeks yüklenirken başarısız yazma önbelleği temizlese de kilitlenmemeli
+        assertEquals("Görev indeksten okunmalı", 1, taskService.getTasksByPriority(bad.getPriority()).size());
+        assertEquals("Bozuk", taskService.getTask(bad.getId()).getName());
+    }
+}
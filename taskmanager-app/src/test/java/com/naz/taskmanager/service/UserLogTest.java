@@ -0,0 +1,131 @@
+package com.naz.taskmanager.service;
+
+import com.naz.taskmanager.model.User;
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+
+public class UserLogTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setUp() {
+        file = new File(folder.getRoot(), "users.dat");
+    }
+
+    private UserLog reopen() throws Exception {
+        UserLog log = new UserLog(file);
+        log.load();
+        return log;
+    }
+
+    @Test
+    public void testAppendAndReload() throws Exception {
+        UserLog log = reopen();
+        log.put(new User("ayse", "1234", "ayse@mail.com"));
+        log.put(new User("mehmet", "şifre", null));
+        long lengthAfterTwo = file.length();
+        log.put(new User("zeynep", "abcd", "z@mail.com"));
+        assertTrue("Kayıt yalnızca dosyanın sonuna eklenmeli", file.length() > lengthAfterTwo);
+
+        UserLog reloaded = reopen();
+        assertEquals(3, reloaded.size());
+        assertEquals("şifre", reloaded.get("mehmet").getPassword());
+        assertNull("Boş e-posta korunmalı", reloaded.get("mehmet").getEmail());
+        assertEquals("ayse@mail.com", reloaded.get("ayse").getEmail());
+    }
+
+    @Test
+    public void testReplacedRecordsAreCompacted() throws Exception {
+        UserLog log = reopen();
+        log.put(new User("ayse", "0", null));
+        for (int i = 1; i <= UserLog.COMPACTION_MIN_DEAD; i++) {
+            log.put(new User("ayse", String.valueOf(i), null));
+        }
+        assertEquals("Eşik aşılmadan sıkıştırılmamalı", UserLog.COMPACTION_MIN_DEAD + 1, log.getRecordCount());
+
+        log.put(new User("ayse", "son", null));
+        assertEquals("Eşik aşılınca tek kayıt kalmalı", 1, log.getRecordCount());
+
+        UserLog reloaded = reopen();
+        assertEquals(1, reloaded.getRecordCount());
+        assertEquals("son", reloaded.get("ayse").getPassword());
+    }
+
+    @Test
+    public void testTornRecordIsDropped() throws Exception {
+        UserLog log = reopen();
+        log.put(new User("ayse", "1234", null));
+        long intactLength = file.length();
+        log.put(new User("mehmet", "5678", null));
+
+        // Son kaydın yarısı yazılmış gibi kes
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(file.length() - 3);
+        }
+
+        UserLog reloaded = reopen();
+        assertTrue(reloaded.contains("ayse"));
+        assertFalse("Yarım kayıt atılmalı", reloaded.contains("mehmet"));
+        assertEquals(intactLength, file.length());
+
+        reloaded.put(new User("mehmet", "5678", null));
+        assertEquals(2, reopen().size());
+    }
+
+    @Test
+    public void testLegacySerializedFileIsConverted() throws Exception {
+        Map<String, User> users = new HashMap<>();
+        users.put("ayse", new User("ayse", "1234", "ayse@mail.com"));
+        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
+            oos.writeObject(users);
+        }
+
+        UserLog log = reopen();
+        assertEquals("1234", log.get("ayse").getPassword());
+
+        log.put(new User("mehmet", "5678", null));
+        UserLog reloaded = reopen();
+        assertEquals("Eski dosya yeni biçime dönüştürülmeli", 2, reloaded.size());
+        assertEquals("ayse@mail.com", reloaded.get("ayse").getEmail());
+    }
+
+    @Test
+    public void testPutRefusedAfterFailedLoad() throws Exception {
+        byte[] unknown = "bilinmeyen biçim".getBytes("UTF-8");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(unknown);
+        }
+
+        UserLog log = new UserLog(file);
+        try {
+            log.load();
+            fail("Bilinmeyen biçim yüklenmemeli");
+        } catch (IOException e) {
+            // Beklenen durum
+        }
+        try {
+            log.put(new User("ayse", "1234", null));
+            fail("Yükleme başarısızken kayıt eklenmemeli");
+        } catch (IOException e) {
+            // Beklenen durum
+        }
+        assertEquals("Dosyaya dokunulmamalı", unknown.length, file.length());
+
+        file.delete();
+        log.load();
+        log.put(new User("ayse", "1234", null));
+        assertEquals(1, reopen().size());
+    }
+}
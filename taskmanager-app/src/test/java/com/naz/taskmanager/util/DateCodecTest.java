@@ -0,0 +1,110 @@
+package com.naz.taskmanager.util;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class DateCodecTest {
+    
+    @Test
+    public void testDbRoundTrip() throws ParseException {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(2023, Calendar.DECEMBER, 5, 7, 8, 9);
+        calendar.set(Calendar.MILLISECOND, 0);
+        Date date = calendar.getTime();
+        
+        // SimpleDateFormat ile aynı metin üretilmeli
+        String text = DateCodec.formatDb(date);
+        assertEquals("Veritabanı formatı eşleşmeli", "2023-12-05 07:08:09", text);
+        assertEquals("SimpleDateFormat ile aynı olmalı",
+            new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(date), text);
+        assertEquals("Geri dönüşüm aynı tarihi vermeli", date, DateCodec.parseDb(text));
+        
+        assertNull("Null tarih null dönmeli", DateCodec.formatDb(null));
+        assertNull("Null metin null dönmeli", DateCodec.parseDb(null));
+    }
+    
+    @Test(expected = ParseException.class)
+    public void testParseDbRejectsInvalidDate() throws ParseException {
+        DateCodec.parseDb("2023-02-30 10:00:00");
+    }
+    
+    @Test(expected = ParseException.class)
+    public void testParseDbRejectsOtherFormats() throws ParseException {
+        DateCodec.parseDb("25/12/2023 14:30");
+    }
+    
+    @Test
+    public void testUiFormat() throws ParseException {
+        Date date = DateCodec.parseUi("25/12/2023 14:30");
+        assertEquals("Arayüz formatı eşleşmeli", "25/12/2023 14:30", DateCodec.formatUi(date));
+        
+        // Tek haneli gün, ay ve saat kabul edilmeli
+        assertEquals("Tek haneli değerler kabul edilmeli",
+            DateCodec.parseUi("05/01/2024 09:05"), DateCodec.parseUi("5/1/2024 9:05"));
+        assertEquals("Özel desen biçimlendirilmeli", "12/25/2023", DateCodec.format(date, "MM/dd/yyyy"));
+    }
+    
+    @Test
+    public void testParseUiKeepsLenientInput() throws ParseException {
+        SimpleDateFormat legacy = new SimpleDateFormat("dd/MM/yyyy HH:mm");
+        
+        // Eski SimpleDateFormat ile kabul edilen girdiler aynı tarihi vermeli
+        for (String text : new String[] {"32/01/2023 10:00", "31/02/2025 10:00", "29/02/2023 10:00",
+                "25/12/2023 14:30 extra", "25/12/23 14:30"}) {
+            assertEquals("Eski ayrıştırma ile aynı olmalı: " + text, legacy.parse(text), DateCodec.parseUi(text));
+        }
+    }
+    
+    @Test
+    public void testParseUiRollsOverInvalidDayOfMonth() throws ParseException {
+        // 31 Şubat 28 Şubat'a kırpılmamalı, 3 Mart'a taşmalı
+        assertEquals("Geçersiz gün sonraki aya taşmalı", "03/03/2025 10:00",
+            DateCodec.formatUi(DateCodec.parseUi("31/02/2025 10:00")));
+    }
+    
+    @Test(expected = ParseException.class)
+    public void testParseUiRejectsOtherFormats() throws ParseException {
+        DateCodec.parseUi("2023-12-25");
+    }
+    
+    @Test
+    public void testConcurrentUse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int offset = t;
+                results.add(executor.submit((Callable<Boolean>) () -> {
+                    Calendar calendar = Calendar.getInstance();
+                    for (int i = 0; i < 2000; i++) {
+                        calendar.set(2000 + (i + offset) % 50, i % 12, 1 + i % 28, i % 24, i % 60, (i + offset) % 60);
+                        calendar.set(Calendar.MILLISECOND, 0);
+                        Date date = calendar.getTime();
+                        if (!date.equals(DateCodec.parseDb(DateCodec.formatDb(date)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            
+            // Paylaşılan codec eşzamanlı kullanımda bozulmamalı
+            for (Future<Boolean> result : results) {
+                assertTrue("Eşzamanlı dönüşüm doğru olmalı", result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
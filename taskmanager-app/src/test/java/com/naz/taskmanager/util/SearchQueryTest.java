@@ -0,0 +1,28 @@
+package com.naz.taskmanager.util;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class SearchQueryTest {
+    @Test
+    public void testTermsAndFtsMatch() {
+        assertEquals("Kelimeler küçük harfe çevrilip aksansız ayrılmalı",
+            Arrays.asList("rapor", "q4", "deja"), SearchQuery.terms("  Rapor, \"Q4\" rapor DÉJÀ "));
+        assertEquals("\"rapor\"* \"q4\"*", SearchQuery.toFtsMatch("Rapor q4"));
+        assertNull("Harf içermeyen arama sorgu üretmemeli", SearchQuery.toFtsMatch(" *\"- "));
+    }
+
+    @Test
+    public void testMatches() {
+        List<String> terms = SearchQuery.terms("quart rep");
+
+        assertTrue(SearchQuery.matches(terms, "Quarterly", "Send the report"));
+        assertFalse("Kelime ortası eşleşmemeli", SearchQuery.matches(terms, "Quarterly", "prepare"));
+        assertTrue("Aksan farkı yok sayılmalı",
+            SearchQuery.matches(SearchQuery.terms("cafe"), "Café meeting", null));
+        assertTrue("Boş arama her şeyle eşleşmeli", SearchQuery.matches(SearchQuery.terms(""), "x"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskmanager.gui;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+import com.taskmanager.gui.TaskTableModel.Column;
+import com.taskmanager.model.Task;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TaskTableModelTest {
+
+    @Test
+    public void testValuesReadFromTasks() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(2024, Calendar.MARCH, 5);
+        Task task = new Task("Rapor", "Açıklama", calendar.getTime(), "Work", "High");
+        Task noDate = new Task("Tarihsiz", "", null, "Other", "Low");
+
+        TaskTableModel model = new TaskTableModel(Column.ID, Column.TITLE, Column.DUE_DATE, Column.STATUS);
+        model.addTasks(Arrays.asList(task, noDate));
+
+        assertEquals(4, model.getColumnCount());
+        assertEquals("Due Date", model.getColumnName(2));
+        assertEquals("ID sütunu sayısal sıralanmalı", Integer.class, model.getColumnClass(0));
+        assertEquals(task.getId(), model.getValueAt(0, 0));
+        assertEquals("03/05/2024", model.getValueAt(0, 2));
+        assertEquals("Tarihsiz görev boş gösterilmeli", "", model.getValueAt(1, 2));
+        assertFalse(model.isCellEditable(0, 1));
+
+        // Hücreler görevden okunur, değişiklik hemen görünmeli
+        task.setStatus("Completed");
+        assertEquals("Completed", model.getValueAt(0, 3));
+        assertSame(noDate, model.getTaskAt(1));
+    }
+
+    @Test
+    public void testLoadAddsTasksInChunks() throws Exception {
+        final List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TaskTableModel.LOAD_CHUNK_SIZE * 2 + 50; i++) {
+            tasks.add(new Task("Görev " + i, "", null, "Work", "Low"));
+        }
+        final TaskTableModel model = new TaskTableModel(Column.ID, Column.TITLE);
+        final AtomicInteger inserts = new AtomicInteger();
+        final AtomicInteger loadedCount = new AtomicInteger(-1);
+        final CountDownLatch loaded = new CountDownLatch(1);
+        model.addTableModelListener(e -> {
+            if (e.getType() == TableModelEvent.INSERT) {
+                inserts.incrementAndGet();
+            }
+        });
+
+        SwingUtilities.invokeAndWait(() -> {
+            model.addTasks(Arrays.asList(new Task("Eski", "", null, "Work", "Low")));
+            model.load(() -> tasks, count -> {
+                loadedCount.set(count);
+                loaded.countDown();
+            });
+        });
+
+        assertTrue("Yükleme tamamlanmalı", loaded.await(10, TimeUnit.SECONDS));
+        assertEquals("Eski satırlar silinip tüm görevler eklenmeli", tasks.size(), loadedCount.get());
+        assertEquals(tasks.size(), model.getRowCount());
+        assertEquals("Görevler parça parça eklenmeli", 4, inserts.get());
+        assertSame(tasks.get(tasks.size() - 1), model.getTaskAt(tasks.size() - 1));
+    }
+}
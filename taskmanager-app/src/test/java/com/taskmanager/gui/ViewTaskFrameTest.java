@@ -4,9 +4,9 @@ import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import com.taskmanager.model.Task;
+import java.util.Arrays;
 import java.util.Date;
 import java.awt.event.ActionListener;
 import java.awt.event.ActionEvent;
@@ -24,8 +24,8 @@ public class ViewTaskFrameTest {
         viewTaskFrame.setVisible(true);
         
         // Clear any existing data
-        DefaultTableModel model = (DefaultTableModel) viewTaskFrame.getTaskTable().getModel();
-        model.setRowCount(0);
+        TaskTableModel model = (TaskTableModel) viewTaskFrame.getTaskTable().getModel();
+        model.clear();
     }
 
     @Test
@@ -109,10 +109,11 @@ public class ViewTaskFrameTest {
         JComboBox<String> priorityFilter = viewTaskFrame.getPriorityFilterComboBox();
         
         // Clear existing data and add test data
-        DefaultTableModel model = (DefaultTableModel) taskTable.getModel();
-        model.setRowCount(0); // Clear all rows
-        model.addRow(new Object[]{1, "Test Task 1", "Description 1", "01/01/2024", "Work", "High", "Pending"});
-        model.addRow(new Object[]{2, "Test Task 2", "Description 2", "02/01/2024", "Personal", "Low", "Completed"});
+        TaskTableModel model = (TaskTableModel) taskTable.getModel();
+        model.clear(); // Clear all rows
+        model.addTasks(Arrays.asList(
+            new Task("Test Task 1", "Description 1", new Date(), "Work", "High"),
+            new Task("Test Task 2", "Description 2", new Date(), "Personal", "Low")));
         
         try {
             // Get the filterTasks method using reflection
@@ -147,8 +148,8 @@ public class ViewTaskFrameTest {
     public void testShowTaskDetails() {
         // Get the table and add test data
         JTable taskTable = viewTaskFrame.getTaskTable();
-        DefaultTableModel model = (DefaultTableModel) taskTable.getModel();
-        model.addRow(new Object[]{1, "Test Task", "Test Description", "01/01/2024", "Work", "High", "Pending"});
+        TaskTableModel model = (TaskTableModel) taskTable.getModel();
+        model.addTasks(Arrays.asList(new Task("Test Task", "Test Description", new Date(), "Work", "High")));
         
         // Select the first row
         taskTable.setRowSelectionInterval(0, 0);
@@ -24,11 +24,8 @@ public class CategoryTest {
     }
     
     private void resetCategoryStatics() throws Exception {
-        // allCategories listesini temizle
-        Field allCategoriesField = Category.class.getDeclaredField("allCategories");
-        allCategoriesField.setAccessible(true);
-        List<Category> allCategories = (List<Category>) allCategoriesField.get(null);
-        allCategories.clear();
+        // Bellekteki kategorileri temizle
+        Category.clearCategories();
 
         // nextId'yi sıfırla
         Field nextIdField = Category.class.getDeclaredField("nextId");
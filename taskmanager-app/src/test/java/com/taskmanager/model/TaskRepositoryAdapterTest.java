@@ -0,0 +1,108 @@
+package com.taskmanager.model;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+
+import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.repository.DatabaseConnection;
+import com.naz.taskmanager.repository.TaskRepository;
+import com.naz.taskmanager.repository.UserRepository;
+
+public class TaskRepositoryAdapterTest {
+    private static final String TEST_USERNAME = "gui_test_" + UUID.randomUUID().toString().substring(0, 8);
+    private UserRepository userRepository;
+    private TaskRepository taskRepository;
+
+    @Before
+    public void setUp() {
+        DatabaseConnection.getInstance(System.out).initializeDatabase();
+        userRepository = new UserRepository(System.out);
+        userRepository.addUser(TEST_USERNAME, "password");
+        taskRepository = new TaskRepository(TEST_USERNAME);
+        Task.useRepository(new TaskRepositoryAdapter(TEST_USERNAME));
+    }
+
+    @After
+    public void tearDown() {
+        // Bellekteki modele geri dön, kullanıcı silinince görevleri de silinir
+        Task.useRepository(null);
+        Category.useRepository(null);
+        userRepository.delete(TEST_USERNAME);
+    }
+
+    @Test
+    public void testTasksAreStoredInDatabase() {
+        Task task = new Task("Rapor", "Çeyrek raporu", new Date(), "Work", "Urgent");
+        assertTrue(Task.addTask(task));
+
+        TaskmanagerItem stored = taskRepository.getById(String.valueOf(task.getId()));
+        assertNotNull("Görev veritabanı kimliği almalı", stored);
+        assertEquals("Rapor", stored.getName());
+        assertEquals("Work", stored.getCategory().getName());
+
+        // Tabloda karşılığı olmayan durum, yenilemede aynı nesnede korunmalı
+        assertTrue(Task.updateTask(task.getId(), "Rapor", "Çeyrek raporu", task.getDueDate(), "Work", "Urgent", "In Progress"));
+        assertSame(task, Task.refreshTasks().get(0));
+        assertEquals("In Progress", task.getStatus());
+        assertEquals("Urgent", task.getPriority());
+
+        // Yeniden giriş yapınca görev veritabanından okunmalı
+        Task.useRepository(new TaskRepositoryAdapter(TEST_USERNAME));
+        Task reloaded = Task.findTaskById(task.getId());
+        assertNotNull(reloaded);
+        assertNotSame(task, reloaded);
+        assertEquals("High", reloaded.getPriority());
+        assertEquals("Not Started", reloaded.getStatus());
+
+        assertTrue(Task.updateTask(task.getId(), "Rapor", "", task.getDueDate(), "Work", "Low", "Completed"));
+        assertTrue(taskRepository.getById(String.valueOf(task.getId())).isCompleted());
+
+        assertTrue(Task.deleteTask(task.getId()));
+        assertNull(taskRepository.getById(String.valueOf(task.getId())));
+        assertTrue(Task.getAllTasks().isEmpty());
+    }
+
+    @Test
+    public void testCategoriesAreStoredInDatabase() {
+        Category.useRepository(new CategoryRepositoryAdapter());
+        assertNotNull("Varsayılan kategoriler oluşturulmalı", Category.findCategoryByName("work"));
+        assertFalse("Varsayılan kategori silinmemeli",
+            Category.deleteCategory(Category.findCategoryByName("Work").getId()));
+
+        String name = "Kategori " + TEST_USERNAME;
+        Category category = new Category(name, "Açıklama", "#ABCDEF");
+        assertTrue(Category.addCategory(category));
+        assertTrue(Category.updateCategory(category.getId(), name, "Yeni açıklama", "#ABCDEF"));
+
+        Category.useRepository(new CategoryRepositoryAdapter());
+        Category reloaded = Category.findCategoryByName(name);
+        assertNotNull("Kategori veritabanından okunmalı", reloaded);
+        assertEquals(category.getId(), reloaded.getId());
+        assertEquals("Yeni açıklama", reloaded.getDescription());
+
+        assertTrue(Category.deleteCategory(reloaded.getId()));
+        Category.useRepository(new CategoryRepositoryAdapter());
+        assertNull(Category.findCategoryByName(name));
+    }
+
+    @Test
+    public void testSearchUsesDatabase() {
+        Task report = new Task("Çeyrek raporu", "Satış özeti", new Date(), "Work", "High");
+        Task shopping = new Task("Alışveriş", "Süt ve ekmek", new Date(), "Personal", "Low");
+        assertTrue(Task.addTask(report));
+        assertTrue(Task.addTask(shopping));
+
+        // Aksan ve büyük harf gözetilmeden kelime başı eşleşmeli
+        Set<Integer> ids = Task.searchTaskIds("cey");
+        assertTrue(ids.contains(report.getId()));
+        assertFalse(ids.contains(shopping.getId()));
+        assertTrue("Açıklama da aranmalı", Task.searchTaskIds("ekm").contains(shopping.getId()));
+        assertTrue("Kelimesiz arama boş dönmeli", Task.searchTaskIds("  ").isEmpty());
+    }
+}
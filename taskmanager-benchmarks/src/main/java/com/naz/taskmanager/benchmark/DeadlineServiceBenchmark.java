@@ -0,0 +1,146 @@
+package com.naz.taskmanager.benchmark;
+
+import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.repository.TaskQuery;
+import com.naz.taskmanager.service.DeadlineService;
+import com.naz.taskmanager.service.TaskService;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the deadline range queries of DeadlineService, which read the
+ * deadline-ordered task index, with the scans they replaced. The scan
+ * variants are copies of the earlier implementations: a pass over every
+ * task with Calendar comparisons and a sort, or a SQL query for overdue tasks.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeadlineServiceBenchmark {
+    /** Task service of the benchmarked user */
+    private TaskService taskService;
+
+    /** Deadline service of the benchmarked user */
+    private DeadlineService deadlineService;
+
+    /**
+     * Creates the services and loads the task index once the database is seeded
+     *
+     * @param database Seeded database
+     */
+    @Setup
+    public void setUp(SeededDatabase database) {
+        taskService = new TaskService(SeededDatabase.BENCHMARK_USER);
+        deadlineService = new DeadlineService(taskService);
+        deadlineService.getOverdueTasks();
+    }
+
+    /**
+     * Finds the tasks due in the next week from the deadline index
+     *
+     * @return Upcoming tasks
+     */
+    @Benchmark
+    public List<TaskmanagerItem> upcomingDeadlinesIndexed() {
+        return deadlineService.getUpcomingDeadlines(7);
+    }
+
+    /**
+     * Finds the tasks due in the next week by scanning every task
+     *
+     * @return Upcoming tasks
+     */
+    @Benchmark
+    public List<TaskmanagerItem> upcomingDeadlinesScan() {
+        List<TaskmanagerItem> upcomingTasks = new ArrayList<>();
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.DAY_OF_MONTH, 7);
+        Date futureDate = calendar.getTime();
+
+        for (TaskmanagerItem task : taskService.getAllTasks()) {
+            if (!task.isCompleted() && task.getDeadline() != null) {
+                Date deadline = task.getDeadline();
+                if (deadline.after(new Date()) && deadline.before(futureDate)) {
+                    upcomingTasks.add(task);
+                }
+            }
+        }
+        upcomingTasks.sort(Comparator.comparing(TaskmanagerItem::getDeadline));
+        return upcomingTasks;
+    }
+
+    /**
+     * Finds the tasks due today from the deadline index
+     *
+     * @return Tasks due today
+     */
+    @Benchmark
+    public List<TaskmanagerItem> tasksDueTodayIndexed() {
+        return deadlineService.getTasksDueToday();
+    }
+
+    /**
+     * Finds the tasks due today by scanning every task
+     *
+     * @return Tasks due today
+     */
+    @Benchmark
+    public List<TaskmanagerItem> tasksDueTodayScan() {
+        List<TaskmanagerItem> todayTasks = new ArrayList<>();
+        Calendar cal1 = Calendar.getInstance();
+        Calendar cal2 = Calendar.getInstance();
+
+        for (TaskmanagerItem task : taskService.getAllTasks()) {
+            if (!task.isCompleted() && task.getDeadline() != null) {
+                cal1.setTime(new Date());
+                cal2.setTime(task.getDeadline());
+                if (cal1.get(Calendar.YEAR) == cal2.get(Calendar.YEAR)
+                        && cal1.get(Calendar.DAY_OF_YEAR) == cal2.get(Calendar.DAY_OF_YEAR)) {
+                    todayTasks.add(task);
+                }
+            }
+        }
+        todayTasks.sort(Comparator.comparing(TaskmanagerItem::getDeadline));
+        return todayTasks;
+    }
+
+    /**
+     * Finds the overdue tasks from the deadline index
+     *
+     * @return Overdue tasks
+     */
+    @Benchmark
+    public List<TaskmanagerItem> overdueTasksIndexed() {
+        return deadlineService.getOverdueTasks();
+    }
+
+    /**
+     * Finds the overdue tasks with a SQL query
+     *
+     * @return Overdue tasks
+     */
+    @Benchmark
+    public List<TaskmanagerItem> overdueTasksQuery() {
+        return taskService.findTasks(new TaskQuery().completed(false).deadlineBefore(new Date()));
+    }
+}
@@ -0,0 +1,133 @@
+package com.naz.taskmanager.benchmark;
+
+import com.naz.taskmanager.model.Category;
+import com.naz.taskmanager.model.Priority;
+import com.naz.taskmanager.model.Reminder;
+import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.repository.DatabaseConnection;
+import com.naz.taskmanager.repository.ReminderRepository;
+import com.naz.taskmanager.repository.TaskRepository;
+import com.naz.taskmanager.repository.UserRepository;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark state that points the application at a temporary SQLite
+ * database and seeds it with users, tasks and reminders.
+ * The database path is set through the db.path system property before the
+ * first connection is opened, so every benchmark must run in a forked JVM.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+    /** Name of the user whose data is benchmarked */
+    public static final String BENCHMARK_USER = "bench_user_0";
+
+    /** Categories assigned to seeded tasks in rotation */
+    private static final String[] CATEGORIES = {"Work", "Personal", "Study", "Health"};
+
+    /** Milliseconds in a day */
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    /** Number of users to create */
+    @Param({"10"})
+    public int users;
+
+    /** Number of tasks to create for every user */
+    @Param({"1000"})
+    public int tasksPerUser;
+
+    /** Number of reminders to create for every task */
+    @Param({"1"})
+    public int remindersPerTask;
+
+    /** Seed for the random deadlines, so runs are comparable */
+    @Param({"42"})
+    public long seed;
+
+    /** Temporary directory holding the database */
+    private File directory;
+
+    /**
+     * Creates the temporary database and fills it
+     *
+     * @throws IOException if the temporary directory cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("taskmanager-bench").toFile();
+        System.setProperty("db.path", new File(directory, "taskmanager.db").getPath());
+        DatabaseConnection.getInstance(System.out).initializeDatabase();
+
+        Random random = new Random(seed);
+        UserRepository userRepository = new UserRepository(System.out);
+        for (int u = 0; u < users; u++) {
+            String username = "bench_user_" + u;
+            userRepository.addUser(username, "password");
+            seedUser(username, random);
+        }
+    }
+
+    /**
+     * Closes the database and deletes the temporary files
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseConnection.getInstance(System.out).closeConnection();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    /**
+     * Creates the tasks and reminders of one user.
+     * Deadlines are spread from 30 days in the past to 60 days ahead,
+     * and reminders from 30 days in the past to 30 days ahead.
+     *
+     * @param username User to seed
+     * @param random Source of deadlines and priorities
+     */
+    private void seedUser(String username, Random random) {
+        long now = System.currentTimeMillis();
+        Priority[] priorities = Priority.values();
+
+        List<TaskmanagerItem> tasks = new ArrayList<>(tasksPerUser);
+        for (int i = 0; i < tasksPerUser; i++) {
+            TaskmanagerItem task = new TaskmanagerItem("Task " + i, "Seeded task " + i,
+                    new Category(CATEGORIES[i % CATEGORIES.length]));
+            task.setDeadline(new Date(now + (long) (random.nextDouble() * 90 * DAY_MILLIS) - 30 * DAY_MILLIS));
+            task.setPriority(priorities[random.nextInt(priorities.length)]);
+            task.setCompleted(random.nextInt(4) == 0);
+            tasks.add(task);
+        }
+        new TaskRepository(username).saveAll(tasks);
+
+        List<Reminder> reminders = new ArrayList<>(tasksPerUser * remindersPerTask);
+        for (TaskmanagerItem task : tasks) {
+            for (int r = 0; r < remindersPerTask; r++) {
+                Reminder reminder = new Reminder(task.getId(),
+                        new Date(now + (long) (random.nextDouble() * 60 * DAY_MILLIS) - 30 * DAY_MILLIS));
+                reminder.setMessage("Seeded reminder");
+                reminders.add(reminder);
+            }
+        }
+        new ReminderRepository(username).saveAll(reminders);
+    }
+}
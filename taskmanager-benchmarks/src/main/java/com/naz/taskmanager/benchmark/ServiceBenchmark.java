@@ -0,0 +1,85 @@
+package com.naz.taskmanager.benchmark;
+
+import com.naz.taskmanager.model.Reminder;
+import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.service.DeadlineService;
+import com.naz.taskmanager.service.ReminderService;
+import com.naz.taskmanager.service.TaskService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the service methods behind the console menus.
+ * Read-only: nothing here changes the seeded data.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+    /** Task service of the benchmarked user */
+    private TaskService taskService;
+
+    /** Reminder service of the benchmarked user */
+    private ReminderService reminderService;
+
+    /** Deadline service of the benchmarked user */
+    private DeadlineService deadlineService;
+
+    /**
+     * Creates the services once the database is seeded
+     *
+     * @param database Seeded database
+     */
+    @Setup
+    public void setUp(SeededDatabase database) {
+        taskService = new TaskService(SeededDatabase.BENCHMARK_USER);
+        reminderService = new ReminderService(SeededDatabase.BENCHMARK_USER);
+        deadlineService = new DeadlineService(taskService);
+    }
+
+    /**
+     * Finds the reminders that are due now
+     *
+     * @return Due reminders
+     */
+    @Benchmark
+    public List<Reminder> getDueReminders() {
+        return reminderService.getDueReminders();
+    }
+
+    /**
+     * Finds the tasks due in the next week
+     *
+     * @return Upcoming tasks
+     */
+    @Benchmark
+    public List<TaskmanagerItem> getUpcomingDeadlines() {
+        return deadlineService.getUpcomingDeadlines(7);
+    }
+
+    /**
+     * Sorts every task of the user by deadline
+     *
+     * @return Sorted tasks
+     */
+    @Benchmark
+    public List<TaskmanagerItem> sortTasksByDeadline() {
+        return taskService.sortTasksByDeadline();
+    }
+}
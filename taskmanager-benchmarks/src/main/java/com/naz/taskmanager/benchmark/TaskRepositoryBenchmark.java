@@ -0,0 +1,89 @@
+package com.naz.taskmanager.benchmark;
+
+import com.naz.taskmanager.model.Category;
+import com.naz.taskmanager.model.TaskmanagerItem;
+import com.naz.taskmanager.repository.TaskRepository;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for TaskRepository reads and writes against a seeded database.
+ *
+ * @author TaskManager Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskRepositoryBenchmark {
+    /** Milliseconds in a day */
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    /** Repository of the benchmarked user */
+    private TaskRepository repository;
+
+    /** Start of the date range query, today */
+    private Date rangeStart;
+
+    /** End of the date range query, one week ahead */
+    private Date rangeEnd;
+
+    /**
+     * Creates the repository once the database is seeded
+     *
+     * @param database Seeded database
+     */
+    @Setup
+    public void setUp(SeededDatabase database) {
+        repository = new TaskRepository(SeededDatabase.BENCHMARK_USER);
+        rangeStart = new Date();
+        rangeEnd = new Date(rangeStart.getTime() + 7 * DAY_MILLIS);
+    }
+
+    /**
+     * Loads every task of the user
+     *
+     * @return Loaded tasks
+     */
+    @Benchmark
+    public List<TaskmanagerItem> getAll() {
+        return repository.getAll();
+    }
+
+    /**
+     * Loads the tasks due in the next week
+     *
+     * @return Tasks in the range
+     */
+    @Benchmark
+    public List<TaskmanagerItem> getTasksInDateRange() {
+        return repository.getTasksInDateRange(rangeStart, rangeEnd);
+    }
+
+    /**
+     * Inserts one task. The table grows during the run, as it does in use.
+     *
+     * @return Saved task
+     */
+    @Benchmark
+    public TaskmanagerItem save() {
+        TaskmanagerItem task = new TaskmanagerItem("Benchmark task", "Inserted by benchmark", new Category("Work"));
+        task.setDeadline(rangeEnd);
+        repository.save(task);
+        return task;
+    }
+}